@@ -0,0 +1,56 @@
+#!/usr/bin/env bash
+# Compares image size and time from container start to the first successful request of the regular image
+# (Dockerfile) and the fast-start image (Dockerfile.faststart). Needs the jar: ./gradlew bootJar
+set -euo pipefail
+
+RUNS=${RUNS:-3}
+NETWORK=company-management-bench
+DATABASE=company-management-bench-postgres
+PORT=18080
+
+cleanup() {
+  docker rm -f company-management-bench-app "$DATABASE" > /dev/null 2>&1 || true
+  docker network rm "$NETWORK" > /dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+docker build -q -t company-management:regular -f Dockerfile . > /dev/null
+docker build -q -t company-management:faststart -f Dockerfile.faststart . > /dev/null
+
+docker network create "$NETWORK" > /dev/null
+docker run -d --name "$DATABASE" --network "$NETWORK" -e POSTGRES_DB=company-management -e POSTGRES_USER=user \
+  -e POSTGRES_PASSWORD=secret postgres:13.3 > /dev/null
+until docker exec "$DATABASE" pg_isready -U user -d company-management > /dev/null 2>&1; do
+  sleep 0.5
+done
+docker run --rm --network "$NETWORK" \
+  -e SPRING_DATASOURCE_URL="jdbc:postgresql://$DATABASE:5432/company-management" \
+  -e SPRING_LIQUIBASE_CONTEXTS=demo \
+  company-management:regular --migrate > /dev/null
+
+now_ms() {
+  date +%s%3N
+}
+
+measure() {
+  local image=$1
+  local size
+  size=$(docker image inspect -f '{{.Size}}' "company-management:$image")
+  for run in $(seq "$RUNS"); do
+    local started
+    started=$(now_ms)
+    docker run -d --name company-management-bench-app --network "$NETWORK" -p "$PORT:8080" \
+      -e SPRING_DATASOURCE_URL="jdbc:postgresql://$DATABASE:5432/company-management" \
+      -e SPRING_R2DBC_URL="r2dbc:postgresql://$DATABASE:5432/company-management" \
+      "company-management:$image" > /dev/null
+    until curl -sf "http://localhost:$PORT/api/v0/companies?page=0&size=20" > /dev/null; do
+      sleep 0.05
+    done
+    printf '%-10s %4d %20d %10d\n' "$image" "$run" "$(($(now_ms) - started))" "$((size / 1024 / 1024))"
+    docker rm -f company-management-bench-app > /dev/null
+  done
+}
+
+printf '%-10s %4s %20s %10s\n' "image" "run" "first request ms" "size MB"
+measure regular
+measure faststart
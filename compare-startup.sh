@@ -0,0 +1,55 @@
+#!/usr/bin/env bash
+# Compares time to a healthy instance and resident memory of the JVM jar and the native image.
+# Needs the database from docker-compose (docker-compose up -d postgres) and both artifacts:
+#   ./gradlew bootJar && ./gradlew nativeCompile -Pnative
+set -euo pipefail
+
+RUNS=${RUNS:-3}
+PORT=${PORT:-8080}
+MANAGEMENT_PORT=${MANAGEMENT_PORT:-8081}
+JAR=$(ls build/libs/*-SNAPSHOT.jar | grep -v plain | head -n 1)
+NATIVE=build/native/nativeCompile/company-management
+ARGS=(
+  "--server.port=$PORT"
+  "--management.server.port=$MANAGEMENT_PORT"
+  "--spring.datasource.url=jdbc:postgresql://localhost:5432/company-management"
+  "--spring.r2dbc.url=r2dbc:postgresql://localhost:5432/company-management"
+)
+
+now_ms() {
+  date +%s%3N
+}
+
+measure() {
+  local label=$1
+  shift
+  for run in $(seq "$RUNS"); do
+    local started
+    started=$(now_ms)
+    "$@" "${ARGS[@]}" > "build/startup-$label.log" 2>&1 &
+    local pid=$!
+    until curl -sf "http://localhost:$MANAGEMENT_PORT/actuator/health" > /dev/null; do
+      if ! kill -0 "$pid" 2> /dev/null; then
+        echo "$label exited during startup, see build/startup-$label.log" >&2
+        exit 1
+      fi
+      sleep 0.05
+    done
+    local healthy
+    healthy=$(now_ms)
+    # one request through the whole stack before sampling memory
+    curl -sf "http://localhost:$PORT/api/v0/companies?page=0&size=20" > /dev/null
+    local rss
+    rss=$(awk '/VmRSS/ {print int($2 / 1024)}' "/proc/$pid/status")
+    kill "$pid"
+    wait "$pid" || true
+    printf '%-8s %4d %12d %10d\n' "$label" "$run" "$((healthy - started))" "$rss"
+  done
+}
+
+# the native image is built for the serving context only, the schema and demo data come from the jar
+java -jar "$JAR" --migrate --spring.liquibase.contexts=demo "${ARGS[@]}" > build/startup-migrate.log 2>&1
+
+printf '%-8s %4s %12s %10s\n' "mode" "run" "healthy ms" "RSS MB"
+measure jvm java -jar "$JAR"
+measure native "$NATIVE"
@@ -0,0 +1,96 @@
+package com.digitalchief.companymanagement.benchmark;
+
+import com.digitalchief.companymanagement.entity.Company;
+import com.digitalchief.companymanagement.entity.Department;
+import com.digitalchief.companymanagement.entity.Employee;
+import com.digitalchief.companymanagement.model.CompanyModel;
+import com.digitalchief.companymanagement.model.DepartmentModel;
+import com.digitalchief.companymanagement.model.EmployeeModel;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Fixtures shaped like the seed data, shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static Company company() {
+        Company company = new Company();
+        company.setId(1L);
+        company.setName("Digital Chief");
+        company.setDescription("Software development and IT consulting company");
+        company.setDateOfCreation(Date.valueOf("2010-05-17"));
+        company.setVersion(3L);
+        company.setDepartments(new ArrayList<>());
+        return company;
+    }
+
+    static CompanyModel companyModel() {
+        CompanyModel model = new CompanyModel();
+        model.setName("Digital Chief");
+        model.setDescription("Software development and IT consulting company");
+        model.setDateOfCreation(LocalDate.of(2010, 5, 17));
+        return model;
+    }
+
+    static Department department() {
+        Department department = new Department();
+        department.setId(1L);
+        department.setName("Research and Development");
+        department.setDescription("Builds and maintains the company products");
+        department.setAnnualBudget(new BigDecimal("1250000.00"));
+        department.setVersion(2L);
+        department.setEmployees(new ArrayList<>());
+        return department;
+    }
+
+    static DepartmentModel departmentModel() {
+        DepartmentModel model = new DepartmentModel();
+        model.setName("Research and Development");
+        model.setDescription("Builds and maintains the company products");
+        model.setAnnualBudget(new BigDecimal("1250000.00"));
+        return model;
+    }
+
+    static Employee employee(int index) {
+        Employee employee = new Employee();
+        employee.setId((long) index);
+        employee.setFirstname("John" + index);
+        employee.setLastname("Doe" + index);
+        employee.setPosition("Software Engineer");
+        employee.setAge(25 + index % 40);
+        employee.setEmail("john.doe" + index + "@example.com");
+        employee.setDateOfEmployment(Date.valueOf(LocalDate.of(2015, 1, 1).plusDays(index % 3000)));
+        employee.setSalaryPerMonth(new BigDecimal("4200.50").add(BigDecimal.valueOf(index)));
+        employee.setVersion(1L);
+        return employee;
+    }
+
+    static EmployeeModel employeeModel(int index) {
+        EmployeeModel model = new EmployeeModel();
+        model.setFirstname("John" + index);
+        model.setLastname("Doe" + index);
+        model.setPosition("Software Engineer");
+        model.setAge(25 + index % 40);
+        model.setEmail("john.doe" + index + "@example.com");
+        model.setDateOfEmployment(LocalDate.of(2015, 1, 1).plusDays(index % 3000));
+        model.setSalaryPerMonth(new BigDecimal("4200.50").add(BigDecimal.valueOf(index)));
+        return model;
+    }
+
+    static List<Employee> employees(int size) {
+        return IntStream.rangeClosed(1, size).mapToObj(BenchmarkData::employee).toList();
+    }
+
+    static List<EmployeeModel> employeeModels(int size) {
+        return IntStream.rangeClosed(1, size).mapToObj(BenchmarkData::employeeModel).toList();
+    }
+}
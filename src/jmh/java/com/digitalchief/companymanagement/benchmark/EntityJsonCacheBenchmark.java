@@ -0,0 +1,64 @@
+package com.digitalchief.companymanagement.benchmark;
+
+import com.digitalchief.companymanagement.cache.EntityCacheProperties;
+import com.digitalchief.companymanagement.cache.EntityChange;
+import com.digitalchief.companymanagement.cache.EntityJsonCache;
+import com.digitalchief.companymanagement.entity.Company;
+import com.digitalchief.companymanagement.mapper.CompanyMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Date;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityJsonCacheBenchmark {
+    private final CompanyMapper mapper = Mappers.getMapper(CompanyMapper.class);
+
+    private ObjectMapper objectMapper;
+    private EntityJsonCache jsonCache;
+    private Company company;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        EntityCacheProperties properties = new EntityCacheProperties();
+        properties.getJson().setEnabled(true);
+        jsonCache = new EntityJsonCache(objectMapper, properties, new SimpleMeterRegistry());
+        company = new Company();
+        company.setId(1L);
+        company.setName("Digital Chief");
+        company.setDescription("Software development and IT consulting company");
+        company.setDateOfCreation(Date.valueOf("2010-05-17"));
+        company.setVersion(3L);
+        cached();
+    }
+
+    @Benchmark
+    public byte[] serializePerRequest() throws Exception {
+        return objectMapper.writeValueAsBytes(mapper.toModel(company));
+    }
+
+    @Benchmark
+    public byte[] cached() {
+        return jsonCache.get(EntityChange.Type.COMPANY, company.getId(), company.getVersion(),
+                () -> mapper.toModel(company));
+    }
+}
@@ -0,0 +1,119 @@
+package com.digitalchief.companymanagement.benchmark;
+
+import com.digitalchief.companymanagement.entity.Company;
+import com.digitalchief.companymanagement.entity.Department;
+import com.digitalchief.companymanagement.entity.Employee;
+import com.digitalchief.companymanagement.mapper.CompanyMapper;
+import com.digitalchief.companymanagement.mapper.DepartmentMapper;
+import com.digitalchief.companymanagement.mapper.EmployeeMapper;
+import com.digitalchief.companymanagement.model.CompanyModel;
+import com.digitalchief.companymanagement.model.DepartmentModel;
+import com.digitalchief.companymanagement.model.EmployeeModel;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct paths used by the controllers: entity to model on reads, model to entity on writes and
+ * {@code copyNotNullFields} on PATCH. The employee mappings include the {@code java.sql.Date} to {@code LocalDate}
+ * conversion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    private static final int PAGE_SIZE = 100;
+
+    private final CompanyMapper companyMapper = Mappers.getMapper(CompanyMapper.class);
+    private final DepartmentMapper departmentMapper = Mappers.getMapper(DepartmentMapper.class);
+    private final EmployeeMapper employeeMapper = Mappers.getMapper(EmployeeMapper.class);
+
+    private Company company;
+    private CompanyModel companyModel;
+    private Department department;
+    private DepartmentModel departmentModel;
+    private Employee employee;
+    private EmployeeModel employeeModel;
+    private List<Employee> employeePage;
+
+    @Setup
+    public void setUp() {
+        company = BenchmarkData.company();
+        companyModel = BenchmarkData.companyModel();
+        department = BenchmarkData.department();
+        departmentModel = BenchmarkData.departmentModel();
+        employee = BenchmarkData.employee(1);
+        employeeModel = BenchmarkData.employeeModel(1);
+        employeePage = BenchmarkData.employees(PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CompanyModel companyToModel() {
+        return companyMapper.toModel(company);
+    }
+
+    @Benchmark
+    public Company companyToEntity() {
+        return companyMapper.toEntity(companyModel);
+    }
+
+    @Benchmark
+    public Company companyCopyNotNullFields() {
+        Company target = new Company();
+        companyMapper.copyNotNullFields(target, company);
+        return target;
+    }
+
+    @Benchmark
+    public DepartmentModel departmentToModel() {
+        return departmentMapper.toModel(department);
+    }
+
+    @Benchmark
+    public Department departmentToEntity() {
+        return departmentMapper.toEntity(departmentModel);
+    }
+
+    @Benchmark
+    public Department departmentCopyNotNullFields() {
+        Department target = new Department();
+        departmentMapper.copyNotNullFields(target, department);
+        return target;
+    }
+
+    @Benchmark
+    public EmployeeModel employeeToModel() {
+        return employeeMapper.toModel(employee);
+    }
+
+    @Benchmark
+    public Employee employeeToEntity() {
+        return employeeMapper.toEntity(employeeModel);
+    }
+
+    @Benchmark
+    public Employee employeeCopyNotNullFields() {
+        Employee target = new Employee();
+        employeeMapper.copyNotNullFields(target, employee);
+        return target;
+    }
+
+    @Benchmark
+    public List<EmployeeModel> employeePageToModel() {
+        return employeeMapper.toModel(employeePage);
+    }
+}
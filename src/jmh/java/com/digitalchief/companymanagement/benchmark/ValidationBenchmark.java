@@ -0,0 +1,82 @@
+package com.digitalchief.companymanagement.benchmark;
+
+import com.digitalchief.companymanagement.model.CompanyModel;
+import com.digitalchief.companymanagement.model.DepartmentModel;
+import com.digitalchief.companymanagement.model.EmployeeModel;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean validation of the request bodies annotated with {@code @Valid} in the controllers. Invalid bodies are measured
+ * separately, building the constraint violations and their messages costs much more than a passing check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private CompanyModel company;
+    private DepartmentModel department;
+    private EmployeeModel employee;
+    private EmployeeModel invalidEmployee;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        company = BenchmarkData.companyModel();
+        department = BenchmarkData.departmentModel();
+        employee = BenchmarkData.employeeModel(1);
+        invalidEmployee = BenchmarkData.employeeModel(2);
+        invalidEmployee.setFirstname("");
+        invalidEmployee.setAge(-1);
+        invalidEmployee.setEmail("not an email");
+        invalidEmployee.setSalaryPerMonth(new BigDecimal("4200.505"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CompanyModel>> validCompany() {
+        return validator.validate(company);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<DepartmentModel>> validDepartment() {
+        return validator.validate(department);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<EmployeeModel>> validEmployee() {
+        return validator.validate(employee);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<EmployeeModel>> invalidEmployee() {
+        return validator.validate(invalidEmployee);
+    }
+}
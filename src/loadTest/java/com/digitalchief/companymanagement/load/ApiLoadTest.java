@@ -0,0 +1,68 @@
+package com.digitalchief.companymanagement.load;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives all company, department and employee endpoints. By default against an application started on a PostgreSQL
+ * container with the seed data; with {@code load.base-url} against a running instance, e.g. one seeded by
+ * {@link DatasetGenerator}.
+ */
+class ApiLoadTest {
+
+    private static final String BASE_URL = System.getProperty("load.base-url");
+
+    private static final int CLIENTS = Integer.getInteger("load.clients", 50);
+
+    private static final int ITERATIONS = Integer.getInteger("load.iterations", 20);
+
+    private static final int COMPANIES = Integer.getInteger("load.companies", 10);
+
+    private static final int WARMUP_ITERATIONS = 5;
+
+    private static ConfigurableApplicationContext context;
+
+    private static ScenarioRunner runner;
+
+    @BeforeAll
+    static void startApplication() {
+        if (BASE_URL != null) {
+            runner = new ScenarioRunner(BASE_URL);
+            return;
+        }
+        // rejected calls would show up as errors, the limiter is measured separately by ConcurrencyLimitTest
+        context = LoadTestApplication.start("company-management.concurrency-limit.enabled=false");
+        runner = new ScenarioRunner(LoadTestApplication.baseUrl(context));
+    }
+
+    @AfterAll
+    static void stopApplication() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    void reads() throws Exception {
+        run(ApiScenarios.reads(COMPANIES));
+    }
+
+    @Test
+    void crud() throws Exception {
+        run(ApiScenarios.crud());
+    }
+
+    private void run(Scenario scenario) throws Exception {
+        runner.run(scenario, CLIENTS, WARMUP_ITERATIONS);
+        Map<String, LoadResult> results = runner.run(scenario, CLIENTS, ITERATIONS);
+
+        ScenarioRunner.print(scenario.name() + " (" + CLIENTS + " clients)", results);
+        assertThat(results.values()).allSatisfy(result -> assertThat(result.errors()).isZero());
+    }
+}
@@ -0,0 +1,82 @@
+package com.digitalchief.companymanagement.load;
+
+/**
+ * Scenarios covering the endpoints of the company, department and employee controllers.
+ */
+final class ApiScenarios {
+    private static final int PAGE_SIZE = 20;
+
+    private ApiScenarios() {
+    }
+
+    /**
+     * Paged lists and lookups of existing companies, chosen at random among the first {@code companies} ids.
+     */
+    static Scenario reads(int companies) {
+        int pages = Math.max(companies / PAGE_SIZE, 1);
+        return Scenario.named("reads")
+                .get("company.list", s -> "/companies?page=" + (s.random(pages) - 1) + "&size=" + PAGE_SIZE)
+                .get("company.get", s -> "/companies/" + s.random(companies))
+                .get("department.list", s -> "/companies/" + s.random(companies) + "/departments?size=" + PAGE_SIZE)
+                .build();
+    }
+
+    /**
+     * Full lifecycle of a company with one department and one employee. Every write targets entities created in the
+     * same iteration, so the scenario can be repeated against any dataset and leaves it as it was.
+     */
+    static Scenario crud() {
+        return Scenario.named("crud")
+                .post("company.create", s -> "/companies", s -> company(s, "created")).saveId("company")
+                .get("company.get", ApiScenarios::company)
+                .put("company.put", ApiScenarios::company, s -> company(s, "replaced"))
+                .patch("company.patch", ApiScenarios::company, s -> "{\"description\": \"Patched\"}")
+                .post("department.create", s -> company(s) + "/departments", s -> department("Created"))
+                .saveId("department")
+                .get("department.list", s -> company(s) + "/departments?size=" + PAGE_SIZE)
+                .get("department.get", ApiScenarios::department)
+                .put("department.put", ApiScenarios::department, s -> department("Replaced"))
+                .patch("department.patch", ApiScenarios::department, s -> "{\"annualBudget\": 250000.00}")
+                .post("employee.create", s -> department(s) + "/employees", s -> employee(s, "created"))
+                .saveId("employee")
+                .get("employee.list", s -> department(s) + "/employees?size=" + PAGE_SIZE)
+                .get("employee.get", ApiScenarios::employee)
+                .put("employee.put", ApiScenarios::employee, s -> employee(s, "replaced"))
+                .patch("employee.patch", ApiScenarios::employee, s -> "{\"position\": \"Team Lead\"}")
+                .delete("employee.delete", ApiScenarios::employee)
+                .delete("department.delete", ApiScenarios::department)
+                .delete("company.delete", ApiScenarios::company)
+                .build();
+    }
+
+    private static String company(Session session) {
+        return "/companies/" + session.id("company");
+    }
+
+    private static String department(Session session) {
+        return company(session) + "/departments/" + session.id("department");
+    }
+
+    private static String employee(Session session) {
+        return department(session) + "/employees/" + session.id("employee");
+    }
+
+    private static String company(Session session, String state) {
+        return """
+                {"name": "%s", "description": "Load test company", "dateOfCreation": "2015-03-01"}"""
+                .formatted(session.unique("Company " + state));
+    }
+
+    private static String department(String name) {
+        return """
+                {"name": "%s", "description": "Load test department", "annualBudget": 120000.00}"""
+                .formatted(name);
+    }
+
+    private static String employee(Session session, String state) {
+        return """
+                {"firstname": "John", "lastname": "Doe", "position": "Engineer", "age": 30, "email": "%s@example.com",
+                 "dateOfEmployment": "2020-01-15", "salaryPerMonth": 4500.00}"""
+                .formatted(session.unique(state));
+    }
+}
@@ -0,0 +1,82 @@
+package com.digitalchief.companymanagement.load;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.http.HttpRequest;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Thundering herd on {@code GET /companies/{id}}: all clients ask for the same company at the same time, then move on
+ * to the next one together. The entity cache is sized to zero, so reads that are not coalesced reach PostgreSQL.
+ * The statements the database executed are taken from {@code pg_stat_statements}.
+ */
+class CoalescingLoadTest {
+
+    private static final int CLIENTS = 500;
+
+    private static final int REQUESTS_PER_CLIENT = 20;
+
+    private static final int WARMUP_REQUESTS = 1_000;
+
+    private static final int COMPANIES = 10;
+
+    private static final String COMPANY_BY_ID_STATEMENTS = """
+            SELECT coalesce(sum(calls), 0) FROM pg_stat_statements
+            WHERE query ILIKE 'select %from companies%where%id=$1%'
+            """;
+
+    private static final String ALL_STATEMENTS = """
+            SELECT coalesce(sum(calls), 0) FROM pg_stat_statements
+            WHERE query NOT ILIKE '%pg_stat_statements%'
+            """;
+
+    @Test
+    void compareCoalescingOnAndOff() throws Exception {
+        Measurement uncoalesced = run(false);
+        Measurement coalesced = run(true);
+
+        LoadResult.printHeader("coalescing (" + CLIENTS + " clients)");
+        uncoalesced.result().print("off");
+        coalesced.result().print("on");
+        System.out.printf("%-24s %16s %16s %16s%n", "coalescing", "requests", "company SELECTs", "all statements");
+        for (Measurement measurement : new Measurement[]{uncoalesced, coalesced}) {
+            System.out.printf("%-24s %16d %16d %16d%n", measurement.name(), CLIENTS * REQUESTS_PER_CLIENT,
+                    measurement.companySelects(), measurement.allStatements());
+        }
+
+        assertThat(uncoalesced.result().errors()).isZero();
+        assertThat(coalesced.result().errors()).isZero();
+        assertThat(coalesced.companySelects()).isLessThan(uncoalesced.companySelects());
+    }
+
+    private Measurement run(boolean coalescing) throws Exception {
+        try (ConfigurableApplicationContext context = LoadTestApplication.start(
+                "company-management.coalescing.enabled=" + coalescing,
+                "company-management.cache.entities.maximum-size=0",
+                "company-management.rate-limit.enabled=false",
+                "company-management.concurrency-limit.enabled=false"
+        )) {
+            String baseUrl = LoadTestApplication.baseUrl(context);
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_stat_statements");
+            // request i of every client asks for the same company, so the clients form a herd on each step
+            IntFunction<HttpRequest> request = i -> LoadDriver.get(
+                    baseUrl + "/companies/" + (i % REQUESTS_PER_CLIENT % COMPANIES + 1), "application/json");
+
+            LoadDriver.warmUp(WARMUP_REQUESTS, request);
+            jdbcTemplate.execute("SELECT pg_stat_statements_reset()");
+            LoadResult result = LoadDriver.run(CLIENTS, REQUESTS_PER_CLIENT, request);
+
+            return new Measurement(coalescing ? "on" : "off", result,
+                    jdbcTemplate.queryForObject(COMPANY_BY_ID_STATEMENTS, Long.class),
+                    jdbcTemplate.queryForObject(ALL_STATEMENTS, Long.class));
+        }
+    }
+
+    private record Measurement(String name, LoadResult result, long companySelects, long allStatements) {
+    }
+}
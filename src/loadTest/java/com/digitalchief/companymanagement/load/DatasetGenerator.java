@@ -0,0 +1,256 @@
+package com.digitalchief.companymanagement.load;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.Random;
+
+/**
+ * Replaces the contents of the companies, departments and employees tables of a local database with a synthetic
+ * dataset, loaded with {@code COPY}. Department sizes follow a Zipf distribution over companies and employee counts a
+ * log-normal one over departments, so there are a few very large companies and departments and a long tail of small
+ * ones, as in real data. Generation is deterministic for a given seed. Run with {@code ./gradlew generateDataset},
+ * the schema has to exist already, i.e. the changelog has been applied with the {@code --migrate} run mode.
+ */
+public final class DatasetGenerator {
+    private static final int COPY_BUFFER_SIZE = 1 << 20;
+
+    private static final String[] FIRST_NAMES = {"James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael",
+            "Linda", "William", "Elizabeth", "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas",
+            "Sarah", "Charles", "Karen", "Daniel", "Nancy", "Matthew", "Lisa", "Anthony", "Betty", "Mark", "Sandra"};
+    private static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller",
+            "Davis", "Rodriguez", "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas",
+            "Taylor", "Moore", "Jackson", "Martin", "Lee", "Perez", "Thompson", "White", "Harris", "Clark"};
+    private static final String[] DEPARTMENTS = {"Engineering", "Sales", "Marketing", "Finance", "Human Resources",
+            "Operations", "Customer Support", "Legal", "Research", "Procurement", "Logistics", "Quality Assurance"};
+    private static final String[] POSITIONS = {"Intern", "Specialist", "Engineer", "Senior Engineer", "Analyst",
+            "Manager", "Director"};
+    // share of employees and median monthly salary per position
+    private static final double[] POSITION_WEIGHTS = {0.05, 0.30, 0.30, 0.15, 0.10, 0.08, 0.02};
+    private static final double[] POSITION_SALARIES = {900, 2200, 3500, 5200, 3000, 6000, 11000};
+
+    private final int companies;
+    private final int departments;
+    private final long employees;
+    private final Random random;
+
+    DatasetGenerator(int companies, int departments, long employees, long seed) {
+        if (companies < 1 || departments < companies || employees < departments) {
+            throw new IllegalArgumentException("Expected 1 <= companies <= departments <= employees");
+        }
+        this.companies = companies;
+        this.departments = departments;
+        this.employees = employees;
+        this.random = new Random(seed);
+    }
+
+    public static void main(String[] args) throws SQLException {
+        DatasetGenerator generator = new DatasetGenerator(
+                Integer.getInteger("dataset.companies", 1_000),
+                Integer.getInteger("dataset.departments", 50_000),
+                Long.getLong("dataset.employees", 5_000_000),
+                Long.getLong("dataset.seed", 42)
+        );
+        try (Connection connection = DriverManager.getConnection(
+                System.getProperty("dataset.url", "jdbc:postgresql://localhost:5432/company-management"),
+                System.getProperty("dataset.username", "user"),
+                System.getProperty("dataset.password", "secret"))) {
+            generator.generate(connection);
+        }
+    }
+
+    void generate(Connection connection) throws SQLException {
+        long started = System.nanoTime();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE employee_emails, employees, departments, companies RESTART IDENTITY CASCADE");
+        }
+
+        int[] departmentCompanies = distribute(departments, zipfWeights(companies), companies);
+        long[] departmentSizes = distributeLong(employees, logNormalWeights(departments));
+
+        LocalDate[] creationDates = copyCompanies(connection);
+        copyDepartments(connection, departmentCompanies, departmentSizes);
+        copyEmployees(connection, departmentCompanies, departmentSizes, creationDates);
+
+        try (Statement statement = connection.createStatement()) {
+            for (String table : new String[]{"companies", "departments", "employees"}) {
+                statement.execute("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), max(id)) FROM "
+                        + table);
+            }
+            statement.execute("ANALYZE companies, departments, employees");
+        }
+        System.out.printf("Generated %d companies, %d departments and %d employees in %d s%n", companies,
+                departments, employees, (System.nanoTime() - started) / 1_000_000_000);
+    }
+
+    private LocalDate[] copyCompanies(Connection connection) throws SQLException {
+        LocalDate[] creationDates = new LocalDate[companies];
+        try (CopyWriter copy = new CopyWriter(connection,
+                "COPY companies (id, name, description, date_of_creation) FROM STDIN")) {
+            for (int id = 1; id <= companies; id++) {
+                LocalDate creationDate = LocalDate.of(1950, 1, 1).plusDays(random.nextInt(365 * 70));
+                creationDates[id - 1] = creationDate;
+                copy.row(id, "Company " + id, "Synthetic company number " + id, creationDate);
+            }
+        }
+        return creationDates;
+    }
+
+    private void copyDepartments(Connection connection, int[] departmentCompanies, long[] departmentSizes)
+            throws SQLException {
+        try (CopyWriter copy = new CopyWriter(connection,
+                "COPY departments (id, name, description, annual_budget, company_id) FROM STDIN")) {
+            for (int id = 1; id <= departments; id++) {
+                String name = DEPARTMENTS[random.nextInt(DEPARTMENTS.length)];
+                // roughly the yearly payroll of the department and as much again for everything else
+                BigDecimal budget = BigDecimal.valueOf(Math.max(departmentSizes[id - 1], 1) * 3500L * 12 * 2)
+                        .multiply(BigDecimal.valueOf(0.5 + random.nextDouble()))
+                        .setScale(2, RoundingMode.HALF_UP);
+                copy.row(id, name + " " + id, name + " department", budget, departmentCompanies[id - 1]);
+            }
+        }
+    }
+
+    private void copyEmployees(Connection connection, int[] departmentCompanies, long[] departmentSizes,
+                               LocalDate[] creationDates) throws SQLException {
+        LocalDate today = LocalDate.now();
+        long id = 1;
+        try (CopyWriter copy = new CopyWriter(connection, "COPY employees (id, firstname, lastname, position, age, "
+                + "email, date_of_employment, salary_per_month, department_id, company_id) FROM STDIN")) {
+            for (int department = 1; department <= departments; department++) {
+                int company = departmentCompanies[department - 1];
+                LocalDate founded = creationDates[company - 1];
+                int daysSinceFounded = (int) Math.max(today.toEpochDay() - founded.toEpochDay(), 1);
+                for (long i = 0; i < departmentSizes[department - 1]; i++, id++) {
+                    String firstname = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+                    String lastname = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+                    int position = pick(POSITION_WEIGHTS);
+                    int age = (int) Math.round(Math.min(Math.max(38 + random.nextGaussian() * 10, 18), 67));
+                    BigDecimal salary = BigDecimal.valueOf(POSITION_SALARIES[position]
+                                    * Math.exp(random.nextGaussian() * 0.25))
+                            .setScale(2, RoundingMode.HALF_UP);
+                    copy.row(id, firstname, lastname, POSITIONS[position], age,
+                            firstname.toLowerCase() + "." + lastname.toLowerCase() + "." + id + "@example.com",
+                            founded.plusDays(random.nextInt(daysSinceFounded)), salary, department, company);
+                }
+            }
+        }
+    }
+
+    private double[] zipfWeights(int size) {
+        double[] weights = new double[size];
+        for (int i = 0; i < size; i++) {
+            weights[i] = 1.0 / Math.pow(i + 1, 1.1);
+        }
+        // otherwise the largest companies would always be the ones with the smallest ids
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            double weight = weights[i];
+            weights[i] = weights[j];
+            weights[j] = weight;
+        }
+        return weights;
+    }
+
+    private double[] logNormalWeights(int size) {
+        double[] weights = new double[size];
+        for (int i = 0; i < size; i++) {
+            weights[i] = Math.exp(random.nextGaussian());
+        }
+        return weights;
+    }
+
+    /**
+     * Assigns each of {@code count} items to an owner with the given weights, every owner getting at least one item,
+     * and returns the owner id of each item, grouped by owner.
+     */
+    private static int[] distribute(int count, double[] weights, int owners) {
+        long[] sizes = distributeLong(count - owners, weights);
+        int[] result = new int[count];
+        int item = 0;
+        for (int owner = 0; owner < owners; owner++) {
+            for (long i = 0; i <= sizes[owner]; i++) {
+                result[item++] = owner + 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Splits {@code total} proportionally to the weights.
+     */
+    private static long[] distributeLong(long total, double[] weights) {
+        double sum = 0;
+        for (double weight : weights) {
+            sum += weight;
+        }
+        long[] shares = new long[weights.length];
+        long assigned = 0;
+        for (int i = 0; i < weights.length; i++) {
+            shares[i] = (long) Math.floor(total * weights[i] / sum);
+            assigned += shares[i];
+        }
+        // hand out what rounding left over, one per share
+        for (int i = 0; assigned < total; i = (i + 1) % weights.length) {
+            shares[i]++;
+            assigned++;
+        }
+        return shares;
+    }
+
+    private int pick(double[] weights) {
+        double value = random.nextDouble();
+        for (int i = 0; i < weights.length - 1; i++) {
+            value -= weights[i];
+            if (value < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    /**
+     * Streams rows in the text format of {@code COPY}, flushing them to the server in chunks.
+     */
+    private static final class CopyWriter implements AutoCloseable {
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE);
+
+        CopyWriter(Connection connection, String sql) throws SQLException {
+            this.copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+        }
+
+        void row(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.append('\t');
+                }
+                buffer.append(values[i]);
+            }
+            buffer.append('\n');
+            if (buffer.length() >= COPY_BUFFER_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() throws SQLException {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            flush();
+            copyIn.endCopy();
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.digitalchief.companymanagement.load;
+
+import com.digitalchief.companymanagement.config.MigrationConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the employee queries of the API on a plain and on a hash partitioned employees table. Each layout gets its
+ * own database, migrated with the matching Liquibase contexts and filled with the same synthetic dataset, 10 million
+ * employees unless {@code -Pload.employees} says otherwise.
+ */
+class EmployeePartitioningLoadTest {
+
+    private static final int COMPANIES = Integer.getInteger("load.companies", 1_000);
+
+    private static final int DEPARTMENTS = Integer.getInteger("load.departments", 50_000);
+
+    private static final long EMPLOYEES = Long.getLong("load.employees", 10_000_000);
+
+    private static final int CLIENTS = Integer.getInteger("load.clients", 16);
+
+    private static final int QUERIES_PER_CLIENT = Integer.getInteger("load.iterations", 2_000);
+
+    private static final int WARMUP_QUERIES_PER_CLIENT = 500;
+
+    private static final long SEED = 42;
+
+    private static final String FIND_BY_ID_SQL = """
+            SELECT id, firstname, lastname, position, age, email, date_of_employment, salary_per_month,
+                   department_id, version, company_id
+            FROM employees
+            WHERE company_id = ? AND department_id = ? AND id = ?
+            """;
+
+    private static final String FIND_PAGE_SQL = """
+            SELECT id, firstname, lastname, position, age, email, date_of_employment, salary_per_month,
+                   department_id, version, company_id
+            FROM employees
+            WHERE company_id = ? AND department_id = ?
+            OFFSET 0 LIMIT 20
+            """;
+
+    @Test
+    void comparePlainAndPartitionedEmployees() throws Exception {
+        List<Measurement> measurements = List.of(
+                measure("plain", "production"),
+                measure("partitioned", "production,partitioned")
+        );
+
+        System.out.printf("%,d employees in %,d departments of %,d companies%n", EMPLOYEES, DEPARTMENTS, COMPANIES);
+        LoadResult.printHeader("query (" + CLIENTS + " clients)");
+        for (Measurement measurement : measurements) {
+            measurement.findById().print(measurement.layout() + ", by id");
+            measurement.findPage().print(measurement.layout() + ", page");
+        }
+        System.out.printf("%-24s %12s %12s%n", "layout", "table MB", "indexes MB");
+        for (Measurement measurement : measurements) {
+            System.out.printf("%-24s %12d %12d%n", measurement.layout(), measurement.tableBytes() >> 20,
+                    measurement.indexBytes() >> 20);
+        }
+
+        for (Measurement measurement : measurements) {
+            assertThat(measurement.findById().errors()).isZero();
+            assertThat(measurement.findPage().errors()).isZero();
+        }
+    }
+
+    private static Measurement measure(String layout, String contexts) throws Exception {
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:13.3")) {
+            postgres.start();
+            migrate(postgres, contexts);
+
+            try (Connection connection = connect(postgres)) {
+                new DatasetGenerator(COMPANIES, DEPARTMENTS, EMPLOYEES, SEED).generate(connection);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("VACUUM ANALYZE employees");
+                }
+                List<long[]> keys = sampleKeys(connection, CLIENTS * QUERIES_PER_CLIENT);
+
+                run(postgres, FIND_BY_ID_SQL, keys, WARMUP_QUERIES_PER_CLIENT);
+                LoadResult findById = run(postgres, FIND_BY_ID_SQL, keys, QUERIES_PER_CLIENT);
+                run(postgres, FIND_PAGE_SQL, keys, WARMUP_QUERIES_PER_CLIENT);
+                LoadResult findPage = run(postgres, FIND_PAGE_SQL, keys, QUERIES_PER_CLIENT);
+
+                try (Statement statement = connection.createStatement();
+                     ResultSet sizes = statement.executeQuery("""
+                             SELECT sum(pg_table_size(relid)), sum(pg_indexes_size(relid))
+                             FROM pg_partition_tree('employees')
+                             """)) {
+                    sizes.next();
+                    return new Measurement(layout, findById, findPage, sizes.getLong(1), sizes.getLong(2));
+                }
+            }
+        }
+    }
+
+    private static void migrate(PostgreSQLContainer<?> postgres, String contexts) {
+        int exitCode = SpringApplication.exit(new SpringApplicationBuilder(MigrationConfig.class)
+                .web(WebApplicationType.NONE)
+                .profiles(MigrationConfig.PROFILE)
+                .properties(
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "spring.liquibase.contexts=" + contexts
+                )
+                .run());
+        assertThat(exitCode).isZero();
+    }
+
+    /**
+     * Picks employees at random, the same ones for both layouts as the dataset is generated from the same seed.
+     */
+    private static List<long[]> sampleKeys(Connection connection, int count) throws SQLException {
+        Random random = new Random(SEED);
+        Long[] ids = new Long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = 1 + (long) (random.nextDouble() * EMPLOYEES);
+        }
+        List<long[]> keys = new ArrayList<>(count);
+        try (PreparedStatement statement = connection.prepareStatement(
+                """
+                        SELECT employees.company_id, employees.department_id, employees.id
+                        FROM unnest(?) WITH ORDINALITY AS sample (id, position)
+                                 JOIN employees ON employees.id = sample.id
+                        ORDER BY sample.position
+                        """)) {
+            Array array = connection.createArrayOf("bigint", ids);
+            statement.setArray(1, array);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    keys.add(new long[]{resultSet.getLong(1), resultSet.getLong(2), resultSet.getLong(3)});
+                }
+            }
+        }
+        return keys;
+    }
+
+    private static LoadResult run(PostgreSQLContainer<?> postgres, String sql, List<long[]> keys,
+                                  int queriesPerClient) throws Exception {
+        // the page query binds the company and department of the key, the lookup its id as well
+        int parameters = (int) sql.chars().filter(c -> c == '?').count();
+        long[] latencies = new long[CLIENTS * queriesPerClient];
+        AtomicInteger errors = new AtomicInteger();
+        long started = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(CLIENTS)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int client = 0; client < CLIENTS; client++) {
+                int offset = client * queriesPerClient;
+                futures.add(executor.submit(() -> {
+                    try (Connection connection = connect(postgres);
+                         PreparedStatement statement = connection.prepareStatement(sql)) {
+                        for (int i = 0; i < queriesPerClient; i++) {
+                            long[] key = keys.get((offset + i) % keys.size());
+                            long queryStarted = System.nanoTime();
+                            if (!query(statement, key, parameters)) {
+                                errors.incrementAndGet();
+                            }
+                            latencies[offset + i] = System.nanoTime() - queryStarted;
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+
+        return LoadResult.of(latencies, latencies.length, elapsed, errors.get());
+    }
+
+    private static boolean query(PreparedStatement statement, long[] key, int parameters) throws SQLException {
+        for (int i = 0; i < parameters; i++) {
+            statement.setLong(i + 1, key[i]);
+        }
+        boolean found = false;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                found = true;
+            }
+        }
+        return found;
+    }
+
+    private static Connection connect(PostgreSQLContainer<?> postgres) throws SQLException {
+        return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+
+    private record Measurement(String layout, LoadResult findById, LoadResult findPage, long tableBytes,
+                               long indexBytes) {
+    }
+}
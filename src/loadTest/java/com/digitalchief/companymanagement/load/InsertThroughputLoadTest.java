@@ -0,0 +1,148 @@
+package com.digitalchief.companymanagement.load;
+
+import com.digitalchief.companymanagement.entity.Department;
+import com.digitalchief.companymanagement.entity.Employee;
+import com.digitalchief.companymanagement.repository.EmployeeRepository;
+import com.digitalchief.companymanagement.service.EmployeeService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Insert throughput of employees through the application: {@code EmployeeService} saves one employee per transaction
+ * as the API does, {@code EmployeeRepository.saveAll} saves 50 per transaction as a batch does. Ids come from the
+ * pooled-lo sequences, so the inserts of a transaction go out as one JDBC batch. Both paths run with cross-node cache
+ * invalidation on and off, which shows what its {@code pg_notify} per transaction costs. The statements the database
+ * executed are taken from {@code pg_stat_statements}.
+ */
+class InsertThroughputLoadTest {
+
+    private static final int ROWS = 20_000;
+
+    private static final int TRANSACTION_SIZE = 50;
+
+    private static final long DEPARTMENT_ID = 1L;
+
+    private static final String ALL_STATEMENTS = """
+            SELECT coalesce(sum(calls), 0) FROM pg_stat_statements
+            WHERE query NOT ILIKE '%pg_stat_statements%'
+            """;
+
+    private static final String NOTIFY_STATEMENTS = """
+            SELECT coalesce(sum(calls), 0) FROM pg_stat_statements
+            WHERE query ILIKE '%pg_notify%'
+            """;
+
+    @Test
+    void compareSavePaths() {
+        List<Measurement> measurements = new ArrayList<>();
+        for (boolean invalidation : new boolean[]{true, false}) {
+            measurements.addAll(run(invalidation));
+        }
+
+        System.out.printf("%-40s %12s %16s %16s%n", "save path", "rows/s", "statements/row", "pg_notify");
+        for (Measurement measurement : measurements) {
+            System.out.printf("%-40s %12.0f %16.2f %16d%n", measurement.name(), measurement.rowsPerSecond(),
+                    measurement.statementsPerRow(), measurement.notifications());
+        }
+
+        // one notification per committed transaction while invalidation is on, none while it is off
+        assertThat(measurements).extracting(Measurement::notifications)
+                .containsExactly((long) ROWS, (long) ROWS / TRANSACTION_SIZE, 0L, 0L);
+    }
+
+    private List<Measurement> run(boolean invalidation) {
+        try (ConfigurableApplicationContext context = LoadTestApplication.start(
+                "company-management.cache.invalidation.enabled=" + invalidation
+        )) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+            EmployeeService employeeService = context.getBean(EmployeeService.class);
+            EmployeeRepository employeeRepository = context.getBean(EmployeeRepository.class);
+            EntityManager entityManager = context.getBean(EntityManager.class);
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_stat_statements");
+            long companyId = jdbcTemplate.queryForObject(
+                    "SELECT company_id FROM departments WHERE id = ?", Long.class, DEPARTMENT_ID);
+            String suffix = invalidation ? "on" : "off";
+
+            // warm up the JIT, the connection pool and Hibernate's statement cache
+            insertThroughService(employeeService, companyId, "warmup.service." + suffix, ROWS / 10);
+            insertThroughRepository(employeeRepository, entityManager, transactionTemplate, companyId,
+                    "warmup.repository." + suffix, ROWS / 10);
+
+            String inserted = "SELECT count(*) FROM employees WHERE email LIKE ?";
+            List<Measurement> measurements = List.of(
+                    measure("service, 1 per transaction, invalidation " + suffix, jdbcTemplate, () ->
+                            insertThroughService(employeeService, companyId, "service." + suffix, ROWS)),
+                    measure("repository, 50 per transaction, invalidation " + suffix, jdbcTemplate, () ->
+                            insertThroughRepository(employeeRepository, entityManager, transactionTemplate,
+                                    companyId, "repository." + suffix, ROWS))
+            );
+            assertThat(jdbcTemplate.queryForObject(inserted, Long.class, "service." + suffix + ".%")).isEqualTo(ROWS);
+            assertThat(jdbcTemplate.queryForObject(inserted, Long.class, "repository." + suffix + ".%"))
+                    .isEqualTo(ROWS);
+            return measurements;
+        }
+    }
+
+    private static void insertThroughService(EmployeeService employeeService, long companyId, String prefix,
+                                             int rows) {
+        for (int i = 0; i < rows; i++) {
+            employeeService.createEmployeeInDepartment(employee(prefix, i), companyId, DEPARTMENT_ID);
+        }
+    }
+
+    private static void insertThroughRepository(EmployeeRepository employeeRepository, EntityManager entityManager,
+                                                TransactionTemplate transactionTemplate, long companyId,
+                                                String prefix, int rows) {
+        for (int from = 0; from < rows; from += TRANSACTION_SIZE) {
+            int start = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                Department department = entityManager.getReference(Department.class, DEPARTMENT_ID);
+                List<Employee> employees = new ArrayList<>(TRANSACTION_SIZE);
+                for (int i = start; i < start + TRANSACTION_SIZE; i++) {
+                    Employee employee = employee(prefix, i);
+                    employee.setDepartment(department);
+                    employee.setCompanyId(companyId);
+                    employees.add(employee);
+                }
+                employeeRepository.saveAll(employees);
+            });
+        }
+    }
+
+    private static Employee employee(String prefix, int row) {
+        Employee employee = new Employee();
+        employee.setFirstname("Jack");
+        employee.setLastname("Doe");
+        employee.setPosition("Engineer");
+        employee.setAge(30);
+        employee.setEmail(prefix + "." + row + "@insert.test");
+        employee.setDateOfEmployment(Date.valueOf("2022-01-01"));
+        employee.setSalaryPerMonth(new BigDecimal("4000.00"));
+        return employee;
+    }
+
+    private static Measurement measure(String name, JdbcTemplate jdbcTemplate, Runnable inserts) {
+        jdbcTemplate.execute("SELECT pg_stat_statements_reset()");
+        long started = System.nanoTime();
+        inserts.run();
+        long elapsed = System.nanoTime() - started;
+
+        long statements = jdbcTemplate.queryForObject(ALL_STATEMENTS, Long.class);
+        long notifications = jdbcTemplate.queryForObject(NOTIFY_STATEMENTS, Long.class);
+        return new Measurement(name, ROWS * 1_000_000_000.0 / elapsed, (double) statements / ROWS, notifications);
+    }
+
+    private record Measurement(String name, double rowsPerSecond, double statementsPerRow, long notifications) {
+    }
+}
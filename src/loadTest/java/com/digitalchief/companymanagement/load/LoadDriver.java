@@ -0,0 +1,73 @@
+package com.digitalchief.companymanagement.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+final class LoadDriver {
+
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+
+    private LoadDriver() {
+    }
+
+    static HttpRequest get(String url, String accept) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Accept", accept)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+    }
+
+    static void warmUp(int requests, IntFunction<HttpRequest> request) {
+        for (int i = 0; i < requests; i++) {
+            send(request.apply(i));
+        }
+    }
+
+    static LoadResult run(int clients, int requestsPerClient, IntFunction<HttpRequest> request) throws Exception {
+        long[] latencies = new long[clients * requestsPerClient];
+        AtomicInteger errors = new AtomicInteger();
+        long started = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int client = 0; client < clients; client++) {
+                int offset = client * requestsPerClient;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < requestsPerClient; i++) {
+                        long requestStarted = System.nanoTime();
+                        if (!send(request.apply(offset + i))) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[offset + i] = System.nanoTime() - requestStarted;
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+
+        return LoadResult.of(latencies, latencies.length, elapsed, errors.get());
+    }
+
+    private static boolean send(HttpRequest request) {
+        try {
+            return HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.digitalchief.companymanagement.load;
+
+import java.util.Arrays;
+
+record LoadResult(double throughput, double p50, double p90, double p99, double max, int errors) {
+
+    static LoadResult of(long[] latencies, int count, long elapsedNanos, int errors) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return new LoadResult(
+                count * 1_000_000_000.0 / elapsedNanos,
+                percentile(sorted, 0.50),
+                percentile(sorted, 0.90),
+                percentile(sorted, 0.99),
+                count > 0 ? sorted[count - 1] / 1_000_000.0 : 0,
+                errors
+        );
+    }
+
+    static void printHeader(String label) {
+        System.out.printf("%-24s %12s %10s %10s %10s %10s %8s%n", label, "req/s", "p50 ms", "p90 ms", "p99 ms",
+                "max ms", "errors");
+    }
+
+    void print(String name) {
+        System.out.printf("%-24s %12.0f %10.1f %10.1f %10.1f %10.1f %8d%n", name, throughput, p50, p90, p99, max,
+                errors);
+    }
+
+    private static double percentile(long[] sortedLatencies, double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
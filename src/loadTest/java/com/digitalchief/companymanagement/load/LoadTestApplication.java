@@ -0,0 +1,52 @@
+package com.digitalchief.companymanagement.load;
+
+import com.digitalchief.companymanagement.CompanyManagementApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class LoadTestApplication {
+
+    // pg_stat_statements lets benchmarks count the statements the application actually sent
+    private static final PostgreSQLContainer<?> POSTGRES_CONTAINER = new PostgreSQLContainer<>("postgres:13.3")
+            .withCommand("postgres", "-c", "fsync=off", "-c", "shared_preload_libraries=pg_stat_statements");
+
+    private LoadTestApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String... properties) {
+        if (!POSTGRES_CONTAINER.isRunning()) {
+            POSTGRES_CONTAINER.start();
+        }
+        List<String> allProperties = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.datasource.url=" + POSTGRES_CONTAINER.getJdbcUrl(),
+                "spring.datasource.username=" + POSTGRES_CONTAINER.getUsername(),
+                "spring.datasource.password=" + POSTGRES_CONTAINER.getPassword(),
+                "spring.r2dbc.url=" + r2dbcUrl(),
+                "spring.r2dbc.username=" + POSTGRES_CONTAINER.getUsername(),
+                "spring.r2dbc.password=" + POSTGRES_CONTAINER.getPassword(),
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.show_sql=false"
+        ));
+        allProperties.addAll(List.of(properties));
+
+        return new SpringApplicationBuilder(CompanyManagementApplication.class)
+                .profiles("test")
+                .properties(allProperties.toArray(String[]::new))
+                .run();
+    }
+
+    static String baseUrl(ConfigurableApplicationContext context) {
+        return "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/v0";
+    }
+
+    private static String r2dbcUrl() {
+        return "r2dbc:postgresql://" + POSTGRES_CONTAINER.getHost() + ":"
+                + POSTGRES_CONTAINER.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/"
+                + POSTGRES_CONTAINER.getDatabaseName();
+    }
+}
@@ -0,0 +1,63 @@
+package com.digitalchief.companymanagement.load;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpRequest;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReactiveReadLoadTest {
+
+    private static final int CLIENTS = 1_000;
+
+    private static final int REQUESTS_PER_CLIENT = 20;
+
+    private static final int WARMUP_REQUESTS = 2_000;
+
+    private static final int CONNECTION_POOL_SIZE = 4;
+
+    private static final int COMPANIES = 10;
+
+    private static ConfigurableApplicationContext context;
+
+    @BeforeAll
+    static void startApplication() {
+        context = LoadTestApplication.start(
+                "spring.datasource.hikari.maximum-pool-size=" + CONNECTION_POOL_SIZE,
+                "spring.r2dbc.pool.initial-size=" + CONNECTION_POOL_SIZE,
+                "spring.r2dbc.pool.max-size=" + CONNECTION_POOL_SIZE,
+                "company-management.cache.pages.enabled=false"
+        );
+    }
+
+    @AfterAll
+    static void stopApplication() {
+        context.close();
+    }
+
+    @Test
+    void compareBlockingAndReactiveDepartmentLists() throws Exception {
+        LoadResult blocking = run("/companies/%d/departments", "application/json");
+        LoadResult reactive = run("/reactive/companies/%d/departments", "application/x-ndjson");
+
+        LoadResult.printHeader("endpoint (pool " + CONNECTION_POOL_SIZE + ")");
+        blocking.print("blocking");
+        reactive.print("reactive");
+
+        assertThat(blocking.errors()).isZero();
+        assertThat(reactive.errors()).isZero();
+    }
+
+    private LoadResult run(String path, String accept) throws Exception {
+        String baseUrl = LoadTestApplication.baseUrl(context);
+        IntFunction<HttpRequest> request = i ->
+                LoadDriver.get(baseUrl + path.formatted(i % COMPANIES + 1), accept);
+
+        LoadDriver.warmUp(WARMUP_REQUESTS, request);
+        return LoadDriver.run(CLIENTS, REQUESTS_PER_CLIENT, request);
+    }
+}
@@ -0,0 +1,89 @@
+package com.digitalchief.companymanagement.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Sequence of HTTP calls every client repeats, built with a small DSL:
+ * <pre>{@code
+ * Scenario.named("company")
+ *         .post("company.create", s -> "/companies", s -> companyJson(s)).saveId("company")
+ *         .get("company.get", s -> "/companies/" + s.id("company"))
+ *         .delete("company.delete", s -> "/companies/" + s.id("company"))
+ *         .build();
+ * }</pre>
+ * Paths are relative to the API base url. A step that gets an unexpected status ends the iteration, since the steps
+ * after it usually need the entity it should have created.
+ */
+final class Scenario {
+    private final String name;
+    private final List<Step> steps;
+
+    private Scenario(String name, List<Step> steps) {
+        this.name = name;
+        this.steps = List.copyOf(steps);
+    }
+
+    static Builder named(String name) {
+        return new Builder(name);
+    }
+
+    String name() {
+        return name;
+    }
+
+    List<Step> steps() {
+        return steps;
+    }
+
+    record Step(String name, String method, Function<Session, String> path, Function<Session, String> body,
+                int expectedStatus, String savedId) {
+    }
+
+    static final class Builder {
+        private final String name;
+        private final List<Step> steps = new ArrayList<>();
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        Builder get(String name, Function<Session, String> path) {
+            return step(new Step(name, "GET", path, null, 200, null));
+        }
+
+        Builder post(String name, Function<Session, String> path, Function<Session, String> body) {
+            return step(new Step(name, "POST", path, body, 201, null));
+        }
+
+        Builder put(String name, Function<Session, String> path, Function<Session, String> body) {
+            return step(new Step(name, "PUT", path, body, 204, null));
+        }
+
+        Builder patch(String name, Function<Session, String> path, Function<Session, String> body) {
+            return step(new Step(name, "PATCH", path, body, 204, null));
+        }
+
+        Builder delete(String name, Function<Session, String> path) {
+            return step(new Step(name, "DELETE", path, null, 204, null));
+        }
+
+        /**
+         * Saves the {@code id} of the previous step's response body in the session under the given name.
+         */
+        Builder saveId(String id) {
+            Step last = steps.remove(steps.size() - 1);
+            return step(new Step(last.name(), last.method(), last.path(), last.body(), last.expectedStatus(), id));
+        }
+
+        Scenario build() {
+            return new Scenario(name, steps);
+        }
+
+        private Builder step(Step step) {
+            steps.add(step);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.digitalchief.companymanagement.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs a {@link Scenario} with a fixed number of concurrent clients, each on its own virtual thread, and reports
+ * latency percentiles and throughput per step.
+ */
+final class ScenarioRunner {
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    private final String baseUrl;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+
+    ScenarioRunner(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    Map<String, LoadResult> run(Scenario scenario, int clients, int iterationsPerClient) throws Exception {
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+        Map<String, StepRecorder> recorders = new LinkedHashMap<>();
+        for (Scenario.Step step : scenario.steps()) {
+            recorders.put(step.name(), new StepRecorder(clients * iterationsPerClient));
+        }
+
+        long started = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int client = 0; client < clients; client++) {
+                int clientId = client;
+                futures.add(executor.submit(() -> {
+                    for (int iteration = 0; iteration < iterationsPerClient; iteration++) {
+                        runIteration(scenario, new Session(runId, clientId, iteration), recorders);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+
+        Map<String, LoadResult> results = new LinkedHashMap<>();
+        recorders.forEach((name, recorder) -> results.put(name, recorder.result(elapsed)));
+        return results;
+    }
+
+    static void print(String scenario, Map<String, LoadResult> results) {
+        LoadResult.printHeader(scenario);
+        results.forEach((step, result) -> result.print(step));
+    }
+
+    private void runIteration(Scenario scenario, Session session, Map<String, StepRecorder> recorders) {
+        for (Scenario.Step step : scenario.steps()) {
+            StepRecorder recorder = recorders.get(step.name());
+            long requestStarted = System.nanoTime();
+            HttpResponse<String> response = send(step, session);
+            recorder.record(System.nanoTime() - requestStarted);
+            if (response == null || response.statusCode() != step.expectedStatus()) {
+                recorder.error();
+                return;
+            }
+            if (step.savedId() != null) {
+                Matcher matcher = ID.matcher(response.body());
+                if (!matcher.find()) {
+                    recorder.error();
+                    return;
+                }
+                session.save(step.savedId(), Long.parseLong(matcher.group(1)));
+            }
+        }
+    }
+
+    private HttpResponse<String> send(Scenario.Step step, Session session) {
+        HttpRequest.BodyPublisher body = step.body() != null
+                ? HttpRequest.BodyPublishers.ofString(step.body().apply(session))
+                : HttpRequest.BodyPublishers.noBody();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + step.path().apply(session)))
+                .header("Accept", "application/json")
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(60))
+                .method(step.method(), body)
+                .build();
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static final class StepRecorder {
+        private final long[] latencies;
+        private final AtomicInteger count = new AtomicInteger();
+        private final AtomicInteger errors = new AtomicInteger();
+
+        StepRecorder(int capacity) {
+            this.latencies = new long[capacity];
+        }
+
+        void record(long latency) {
+            latencies[count.getAndIncrement()] = latency;
+        }
+
+        void error() {
+            errors.incrementAndGet();
+        }
+
+        LoadResult result(long elapsedNanos) {
+            return LoadResult.of(latencies, count.get(), elapsedNanos, errors.get());
+        }
+    }
+}
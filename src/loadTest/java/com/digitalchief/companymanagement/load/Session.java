@@ -0,0 +1,43 @@
+package com.digitalchief.companymanagement.load;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * State of one scenario iteration of one client: ids saved by earlier steps and helpers to build unique payloads.
+ */
+final class Session {
+    private final String prefix;
+    private final Map<String, Long> ids = new HashMap<>();
+
+    Session(String runId, int client, int iteration) {
+        this.prefix = runId + "-" + client + "-" + iteration;
+    }
+
+    long id(String name) {
+        Long id = ids.get(name);
+        if (id == null) {
+            throw new IllegalStateException("No id saved as " + name);
+        }
+        return id;
+    }
+
+    void save(String name, long id) {
+        ids.put(name, id);
+    }
+
+    /**
+     * Returns a value unique across clients, iterations and runs, for columns with unique constraints.
+     */
+    String unique(String value) {
+        return value + "-" + prefix;
+    }
+
+    /**
+     * Returns a random number between 1 and {@code bound}, inclusive.
+     */
+    long random(long bound) {
+        return ThreadLocalRandom.current().nextLong(bound) + 1;
+    }
+}
@@ -0,0 +1,61 @@
+package com.digitalchief.companymanagement.load;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpRequest;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadLoadTest {
+
+    private static final int CLIENTS = 2_000;
+
+    private static final int REQUESTS_PER_CLIENT = 20;
+
+    private static final int WARMUP_REQUESTS = 2_000;
+
+    private static final int CONNECTION_POOL_SIZE = 20;
+
+    private static final String[] EMPLOYEE_PATHS = {
+            "/companies/1/departments/1/employees/1",
+            "/companies/1/departments/1/employees/2",
+            "/companies/1/departments/2/employees/3",
+            "/companies/1/departments/2/employees/4",
+            "/companies/2/departments/3/employees/5",
+            "/companies/3/departments/4/employees/6",
+            "/companies/3/departments/4/employees/7",
+            "/companies/3/departments/5/employees/8",
+            "/companies/4/departments/6/employees/9",
+            "/companies/4/departments/6/employees/10"
+    };
+
+    @Test
+    void compareRequestExecutionModes() throws Exception {
+        LoadResult platformThreads = run(false);
+        LoadResult virtualThreads = run(true);
+
+        LoadResult.printHeader("mode");
+        platformThreads.print("platform");
+        virtualThreads.print("virtual");
+
+        assertThat(platformThreads.errors()).isZero();
+        assertThat(virtualThreads.errors()).isZero();
+    }
+
+    private LoadResult run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = LoadTestApplication.start(
+                "spring.datasource.hikari.maximum-pool-size=" + CONNECTION_POOL_SIZE,
+                "company-management.coalescing.enabled=false",
+                "company-management.threads.virtual.enabled=" + virtualThreads
+        )) {
+            String baseUrl = LoadTestApplication.baseUrl(context);
+            IntFunction<HttpRequest> request = i ->
+                    LoadDriver.get(baseUrl + EMPLOYEE_PATHS[i % EMPLOYEE_PATHS.length], "application/json");
+
+            LoadDriver.warmUp(WARMUP_REQUESTS, request);
+            return LoadDriver.run(CLIENTS, REQUESTS_PER_CLIENT, request);
+        }
+    }
+}
@@ -1,13 +1,38 @@
 package com.digitalchief.companymanagement;
 
+import com.digitalchief.companymanagement.config.MigrationConfig;
+import org.springframework.aot.AotDetector;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
-@SpringBootApplication
+import java.util.Arrays;
+
+@SpringBootApplication(exclude = R2dbcTransactionManagerAutoConfiguration.class)
 public class CompanyManagementApplication {
+    private static final String MIGRATE_ARGUMENT = "--migrate";
+    // enough for every bean of the context, steps beyond it are dropped
+    private static final int STARTUP_STEPS_CAPACITY = 8192;
 
     public static void main(String[] args) {
-        SpringApplication.run(CompanyManagementApplication.class, args);
+        if (Arrays.asList(args).contains(MIGRATE_ARGUMENT)) {
+            if (AotDetector.useGeneratedArtifacts()) {
+                // AOT only processed the application context, the migration context has no generated artifacts
+                throw new IllegalStateException(MIGRATE_ARGUMENT + " is not supported by the native image and other "
+                        + "AOT-processed builds. Apply migrations with the JVM build: java -jar application.jar "
+                        + MIGRATE_ARGUMENT);
+            }
+            System.exit(SpringApplication.exit(new SpringApplicationBuilder(MigrationConfig.class)
+                    .web(WebApplicationType.NONE)
+                    .profiles(MigrationConfig.PROFILE)
+                    .run(args)));
+        }
+        SpringApplication application = new SpringApplication(CompanyManagementApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY));
+        application.run(args);
     }
 
 }
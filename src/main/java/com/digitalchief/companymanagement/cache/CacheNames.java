@@ -0,0 +1,9 @@
+package com.digitalchief.companymanagement.cache;
+
+public class CacheNames {
+
+    public static final String COMPANIES = "companies";
+
+    public static final String DEPARTMENTS = "departments";
+
+}
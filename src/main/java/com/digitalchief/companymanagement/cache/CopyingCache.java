@@ -0,0 +1,82 @@
+package com.digitalchief.companymanagement.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.function.UnaryOperator;
+
+/**
+ * Stores a copy of every value and hands out a fresh copy on every read, so callers never share an instance with the
+ * cache or with each other.
+ */
+public class CopyingCache implements Cache {
+    private final Cache delegate;
+    private final UnaryOperator<Object> copier;
+
+    public CopyingCache(Cache delegate, UnaryOperator<Object> copier) {
+        this.delegate = delegate;
+        this.copier = copier;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return copy(delegate.get(key));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        return (T) copier.apply(delegate.get(key, type));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return (T) copier.apply(delegate.get(key, () -> (T) copier.apply(valueLoader.call())));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, copier.apply(value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return copy(delegate.putIfAbsent(key, copier.apply(value)));
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    private ValueWrapper copy(ValueWrapper wrapper) {
+        return wrapper == null ? null : new SimpleValueWrapper(copier.apply(wrapper.get()));
+    }
+}
@@ -0,0 +1,52 @@
+package com.digitalchief.companymanagement.cache;
+
+import com.digitalchief.companymanagement.entity.Company;
+import com.digitalchief.companymanagement.entity.Department;
+import com.digitalchief.companymanagement.entity.Employee;
+import com.digitalchief.companymanagement.mapper.CompanyMapper;
+import com.digitalchief.companymanagement.mapper.DepartmentMapper;
+import com.digitalchief.companymanagement.mapper.EmployeeMapper;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * Copies of cached or coalesced entities that are not attached to any persistence context. Lazy associations are left
+ * out, except for the company of a department and the department of an employee, which are kept as references holding
+ * only their id.
+ */
+public final class DetachedCopies {
+    private static final CompanyMapper COMPANY_MAPPER = Mappers.getMapper(CompanyMapper.class);
+    private static final DepartmentMapper DEPARTMENT_MAPPER = Mappers.getMapper(DepartmentMapper.class);
+    private static final EmployeeMapper EMPLOYEE_MAPPER = Mappers.getMapper(EmployeeMapper.class);
+
+    private DetachedCopies() {
+    }
+
+    public static Object copy(Object entity) {
+        if (entity == null) {
+            return null;
+        }
+        if (entity instanceof Company company) {
+            return COMPANY_MAPPER.copy(company);
+        }
+        if (entity instanceof Department department) {
+            Department copy = DEPARTMENT_MAPPER.copy(department);
+            if (department.getCompany() != null) {
+                // the id of a lazy proxy is known without loading it
+                Company company = new Company();
+                company.setId(department.getCompany().getId());
+                copy.setCompany(company);
+            }
+            return copy;
+        }
+        if (entity instanceof Employee employee) {
+            Employee copy = EMPLOYEE_MAPPER.copy(employee);
+            if (employee.getDepartment() != null) {
+                Department department = new Department();
+                department.setId(employee.getDepartment().getId());
+                copy.setDepartment(department);
+            }
+            return copy;
+        }
+        throw new IllegalArgumentException("Unsupported entity type: " + entity.getClass().getName());
+    }
+}
@@ -0,0 +1,40 @@
+package com.digitalchief.companymanagement.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class EntityCacheEvictor implements EntityChangeHandler {
+    private final CacheManager cacheManager;
+
+    @Override
+    public void onEntityChange(EntityChange change) {
+        switch (change.type()) {
+            case COMPANY -> evict(CacheNames.COMPANIES, change.id());
+            case DEPARTMENT -> evict(CacheNames.DEPARTMENTS, change.id());
+            default -> {
+            }
+        }
+    }
+
+    @Override
+    public void onInvalidateAll() {
+        cacheManager.getCacheNames().forEach(name -> {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.invalidate();
+            }
+        });
+    }
+
+    private void evict(String cacheName, Long key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            // evictIfPresent is applied immediately, even when called from an afterCommit callback
+            cache.evictIfPresent(key);
+        }
+    }
+}
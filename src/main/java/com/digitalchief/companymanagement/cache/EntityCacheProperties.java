@@ -0,0 +1,62 @@
+package com.digitalchief.companymanagement.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "company-management.cache")
+public class EntityCacheProperties {
+
+    private final Entities entities = new Entities();
+
+    private final Pages pages = new Pages();
+
+    private final Json json = new Json();
+
+    private final Invalidation invalidation = new Invalidation();
+
+    @Getter
+    @Setter
+    public static class Entities {
+
+        private long maximumSize = 10_000;
+
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+    }
+
+    @Getter
+    @Setter
+    public static class Pages {
+
+        private boolean enabled = true;
+
+        private DataSize maximumSize = DataSize.ofMegabytes(64);
+    }
+
+    @Getter
+    @Setter
+    public static class Json {
+
+        private boolean enabled = false;
+
+        private DataSize maximumSize = DataSize.ofMegabytes(32);
+    }
+
+    @Getter
+    @Setter
+    public static class Invalidation {
+
+        private boolean enabled = true;
+
+        private String channel = "entity_changes";
+
+        private Duration pollTimeout = Duration.ofMillis(500);
+
+        private Duration reconnectDelay = Duration.ofSeconds(5);
+    }
+}
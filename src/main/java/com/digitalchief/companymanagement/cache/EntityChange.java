@@ -0,0 +1,31 @@
+package com.digitalchief.companymanagement.cache;
+
+public record EntityChange(Type type, Long id, Long parentId, long timestamp) {
+
+    // a notification carries the changes of one transaction, one per line
+    static final String LINE_SEPARATOR = "\n";
+
+    private static final String SEPARATOR = ":";
+
+    public enum Type {
+        COMPANY, DEPARTMENT, EMPLOYEE
+    }
+
+    public static EntityChange parse(String payload) {
+        String[] parts = payload.split(SEPARATOR);
+        return new EntityChange(
+                Type.valueOf(parts[0]),
+                Long.valueOf(parts[1]),
+                parts[2].isEmpty() ? null : Long.valueOf(parts[2]),
+                Long.parseLong(parts[3])
+        );
+    }
+
+    public String toPayload() {
+        return String.join(SEPARATOR,
+                type.name(),
+                String.valueOf(id),
+                parentId == null ? "" : String.valueOf(parentId),
+                String.valueOf(timestamp));
+    }
+}
@@ -0,0 +1,9 @@
+package com.digitalchief.companymanagement.cache;
+
+public interface EntityChangeHandler {
+
+    void onEntityChange(EntityChange change);
+
+    void onInvalidateAll();
+
+}
@@ -0,0 +1,39 @@
+package com.digitalchief.companymanagement.cache;
+
+import com.digitalchief.companymanagement.entity.Company;
+import com.digitalchief.companymanagement.entity.Department;
+import com.digitalchief.companymanagement.entity.Employee;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class EntityChangeListener {
+    private final EntityChangePublisher publisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        publisher.publish(toChange(entity));
+    }
+
+    private EntityChange toChange(Object entity) {
+        long timestamp = System.currentTimeMillis();
+        if (entity instanceof Company company) {
+            return new EntityChange(EntityChange.Type.COMPANY, company.getId(), null, timestamp);
+        }
+        if (entity instanceof Department department) {
+            Long companyId = department.getCompany() == null ? null : department.getCompany().getId();
+            return new EntityChange(EntityChange.Type.DEPARTMENT, department.getId(), companyId, timestamp);
+        }
+        if (entity instanceof Employee employee) {
+            Long departmentId = employee.getDepartment() == null ? null : employee.getDepartment().getId();
+            return new EntityChange(EntityChange.Type.EMPLOYEE, employee.getId(), departmentId, timestamp);
+        }
+        throw new IllegalArgumentException("Unsupported entity type: " + entity.getClass().getName());
+    }
+}
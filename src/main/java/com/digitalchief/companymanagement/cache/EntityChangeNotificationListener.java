@@ -0,0 +1,120 @@
+package com.digitalchief.companymanagement.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EntityChangeNotificationListener implements SmartLifecycle {
+    private static final String THREAD_NAME = "entity-change-listener";
+
+    private final DataSourceProperties dataSourceProperties;
+    private final EntityCacheProperties properties;
+    private final EntityChangePublisher publisher;
+    private final MeterRegistry meterRegistry;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::listen, THREAD_NAME);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return properties.getInvalidation().isEnabled();
+    }
+
+    private void listen() {
+        EntityCacheProperties.Invalidation invalidation = properties.getInvalidation();
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + invalidation.getChannel());
+                }
+                // notifications sent while this node was not listening are lost, so start from a clean cache
+                publisher.invalidateAll();
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection
+                            .getNotifications((int) invalidation.getPollTimeout().toMillis());
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            handle(notification);
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Entity change listener lost its connection, reconnecting in {}",
+                            invalidation.getReconnectDelay(), e);
+                    meterRegistry.counter("cache.invalidation.reconnects").increment();
+                    pause(invalidation.getReconnectDelay());
+                }
+            }
+        }
+    }
+
+    private void handle(PGNotification notification) {
+        for (String payload : notification.getParameter().split(EntityChange.LINE_SEPARATOR)) {
+            EntityChange change;
+            try {
+                change = EntityChange.parse(payload);
+            } catch (RuntimeException e) {
+                log.warn("Ignoring malformed entity change notification '{}'", payload);
+                continue;
+            }
+            publisher.dispatch(change);
+
+            long lag = Math.max(0, System.currentTimeMillis() - change.timestamp());
+            Timer.builder("cache.invalidation.lag")
+                    .description("Time between a write being published and its eviction on this node")
+                    .tag("entity", change.type().name().toLowerCase())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(lag, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void pause(Duration delay) {
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.digitalchief.companymanagement.cache;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.event.spi.EventSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class EntityChangePublisher {
+    // every element of the array becomes a notification of its own, all of them sent in one round trip
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, payload) FROM unnest(?) AS payload";
+
+    // PostgreSQL rejects NOTIFY payloads of 8000 bytes and longer
+    private static final int MAX_PAYLOAD_LENGTH = 7_900;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityCacheProperties properties;
+    private final List<EntityChangeHandler> handlers;
+    // looked up on use: the entity listener calling this publisher is created while the entity manager is built
+    private final ObjectProvider<EntityManager> entityManager;
+
+    public void publish(EntityChange change) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            pendingChanges().add(change);
+        } else {
+            sendNotifications(List.of(change));
+            dispatch(change);
+        }
+    }
+
+    public void dispatch(EntityChange change) {
+        handlers.forEach(handler -> handler.onEntityChange(change));
+    }
+
+    public void invalidateAll() {
+        handlers.forEach(EntityChangeHandler::onInvalidateAll);
+    }
+
+    private List<EntityChange> pendingChanges() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingChanges pending) {
+                return pending.changes;
+            }
+        }
+        PendingChanges pending = new PendingChanges();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        // Hibernate runs the process after its last flush, so the changes flushed by the commit itself are included
+        entityManager.getObject().unwrap(EventSource.class).getActionQueue()
+                .registerProcess((BeforeTransactionCompletionProcess) session -> sendNotifications(pending.changes));
+        return pending.changes;
+    }
+
+    private void sendNotifications(List<EntityChange> changes) {
+        if (!properties.getInvalidation().isEnabled()) {
+            return;
+        }
+        // PostgreSQL delivers the notifications only when the surrounding transaction commits
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(NOTIFY_SQL);
+            statement.setString(1, properties.getInvalidation().getChannel());
+            statement.setArray(2, connection.createArrayOf("text", payloads(changes)));
+            return statement;
+        }, (RowCallbackHandler) resultSet -> { });
+    }
+
+    private static String[] payloads(List<EntityChange> changes) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder();
+        for (EntityChange change : changes) {
+            String line = change.toPayload();
+            if (!payload.isEmpty() && payload.length() + 1 + line.length() > MAX_PAYLOAD_LENGTH) {
+                payloads.add(payload.toString());
+                payload.setLength(0);
+            }
+            if (!payload.isEmpty()) {
+                payload.append(EntityChange.LINE_SEPARATOR);
+            }
+            payload.append(line);
+        }
+        payloads.add(payload.toString());
+        return payloads.toArray(String[]::new);
+    }
+
+    private class PendingChanges implements TransactionSynchronization {
+        private final List<EntityChange> changes = new ArrayList<>();
+
+        @Override
+        public void afterCommit() {
+            changes.forEach(EntityChangePublisher.this::dispatch);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.digitalchief.companymanagement.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+@Component
+public class EntityJsonCache implements EntityChangeHandler {
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Cache<EntityJsonKey, VersionedJson> cache;
+
+    public EntityJsonCache(ObjectMapper objectMapper, EntityCacheProperties properties, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.enabled = properties.getJson().isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .recordStats()
+                .maximumWeight(properties.getJson().getMaximumSize().toBytes())
+                .weigher((EntityJsonKey key, VersionedJson json) -> json.body().length + ENTRY_OVERHEAD_BYTES)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "entity-json");
+    }
+
+    public byte[] get(EntityChange.Type type, Long id, Long version, Supplier<?> model) {
+        if (!enabled || version == null) {
+            return serialize(model.get());
+        }
+        EntityJsonKey key = new EntityJsonKey(type, id);
+        VersionedJson cached = cache.getIfPresent(key);
+        if (cached != null && cached.version() == version) {
+            return cached.body();
+        }
+
+        VersionedJson json = new VersionedJson(version, serialize(model.get()));
+        // an entity read inside a transaction may carry uncommitted changes under its old version
+        AfterCommit.run(() -> cache.asMap().merge(key, json,
+                (current, loaded) -> loaded.version() >= current.version() ? loaded : current));
+        return json.body();
+    }
+
+    @Override
+    public void onEntityChange(EntityChange change) {
+        cache.invalidate(new EntityJsonKey(change.type(), change.id()));
+    }
+
+    @Override
+    public void onInvalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private byte[] serialize(Object model) {
+        try {
+            return objectMapper.writeValueAsBytes(model);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize entity response", e);
+        }
+    }
+
+    private record EntityJsonKey(EntityChange.Type type, Long id) {
+    }
+
+    private record VersionedJson(long version, byte[] body) {
+    }
+}
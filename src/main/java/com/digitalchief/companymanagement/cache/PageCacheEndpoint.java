@@ -0,0 +1,9 @@
+package com.digitalchief.companymanagement.cache;
+
+public enum PageCacheEndpoint {
+    COMPANIES, DEPARTMENTS;
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
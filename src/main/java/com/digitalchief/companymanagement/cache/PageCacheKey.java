@@ -0,0 +1,5 @@
+package com.digitalchief.companymanagement.cache;
+
+public record PageCacheKey(PageCacheEndpoint endpoint, Long parentId, long epoch, long generation,
+                           int page, int size, String sort) {
+}
@@ -0,0 +1,173 @@
+package com.digitalchief.companymanagement.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+public class PageResponseCache implements EntityChangeHandler {
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Cache<PageCacheKey, byte[]> cache;
+    // generation and cached page keys of every parent with pages in the cache, so that invalidation does not scan the
+    // pages of every other parent; a parent is dropped with its last page, which keeps the map as small as the cache
+    private final Map<GenerationKey, CachedParent> parents = new ConcurrentHashMap<>();
+    // generation of the parents without cached pages, raised by every invalidation
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong epoch = new AtomicLong();
+    private final Map<PageCacheEndpoint, Counter> hits = new EnumMap<>(PageCacheEndpoint.class);
+    private final Map<PageCacheEndpoint, Counter> misses = new EnumMap<>(PageCacheEndpoint.class);
+
+    public PageResponseCache(ObjectMapper objectMapper, EntityCacheProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.enabled = properties.getPages().isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .recordStats()
+                .maximumWeight(properties.getPages().getMaximumSize().toBytes())
+                .weigher((PageCacheKey key, byte[] body) -> body.length + ENTRY_OVERHEAD_BYTES)
+                .evictionListener((PageCacheKey key, byte[] body, RemovalCause cause) -> unindex(key))
+                .build();
+
+        for (PageCacheEndpoint endpoint : PageCacheEndpoint.values()) {
+            hits.put(endpoint, requestCounter(meterRegistry, endpoint, "hit"));
+            misses.put(endpoint, requestCounter(meterRegistry, endpoint, "miss"));
+            Gauge.builder("page.cache.hit.ratio", this, pageCache -> pageCache.hitRatio(endpoint))
+                    .description("Share of list requests served from the page cache")
+                    .tag("endpoint", endpoint.tag())
+                    .register(meterRegistry);
+        }
+        FunctionCounter.builder("page.cache.evictions", cache, c -> c.stats().evictionCount())
+                .register(meterRegistry);
+        Gauge.builder("page.cache.size", cache, c -> c.policy().eviction()
+                        .map(eviction -> eviction.weightedSize().orElse(0))
+                        .orElse(0L))
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public byte[] get(PageCacheEndpoint endpoint, Long parentId, Pageable pageable, Supplier<?> loader) {
+        if (!enabled) {
+            return serialize(loader.get());
+        }
+        CachedParent parent = parents.get(new GenerationKey(endpoint, parentId));
+        PageCacheKey key = new PageCacheKey(endpoint, parentId, epoch.get(),
+                parent != null ? parent.generation() : generation.get(),
+                pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().toString());
+
+        byte[] cached = cache.getIfPresent(key);
+        if (cached != null) {
+            hits.get(endpoint).increment();
+            return cached;
+        }
+        misses.get(endpoint).increment();
+
+        byte[] body = serialize(loader.get());
+        // a page read inside a transaction may contain uncommitted rows
+        AfterCommit.run(() -> {
+            if (index(key)) {
+                cache.put(key, body);
+            }
+        });
+        return body;
+    }
+
+    @Override
+    public void onEntityChange(EntityChange change) {
+        switch (change.type()) {
+            case COMPANY -> {
+                invalidate(PageCacheEndpoint.COMPANIES, null);
+                invalidate(PageCacheEndpoint.DEPARTMENTS, change.id());
+            }
+            case DEPARTMENT -> invalidate(PageCacheEndpoint.DEPARTMENTS, change.parentId());
+            default -> {
+            }
+        }
+    }
+
+    @Override
+    public void onInvalidateAll() {
+        epoch.incrementAndGet();
+        parents.clear();
+        cache.invalidateAll();
+    }
+
+    private void invalidate(PageCacheEndpoint endpoint, Long parentId) {
+        // the parent continues with a generation no load has read yet, so loads that started before are not stored
+        generation.incrementAndGet();
+        CachedParent parent = parents.remove(new GenerationKey(endpoint, parentId));
+        if (parent != null) {
+            cache.invalidateAll(parent.pages());
+        }
+    }
+
+    /**
+     * Adds the page to the pages of its parent, unless the parent was invalidated after the page was loaded.
+     *
+     * @return whether the page is still current and may be cached
+     */
+    private boolean index(PageCacheKey key) {
+        CachedParent parent = parents.compute(new GenerationKey(key.endpoint(), key.parentId()), (id, current) -> {
+            CachedParent result = current != null
+                    ? current
+                    : new CachedParent(generation.get(), ConcurrentHashMap.newKeySet());
+            if (result.generation() != key.generation()) {
+                return current;
+            }
+            result.pages().add(key);
+            return result;
+        });
+        return parent != null && parent.generation() == key.generation();
+    }
+
+    private void unindex(PageCacheKey key) {
+        parents.computeIfPresent(new GenerationKey(key.endpoint(), key.parentId()), (id, parent) -> {
+            parent.pages().remove(key);
+            return parent.pages().isEmpty() ? null : parent;
+        });
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize page response", e);
+        }
+    }
+
+    private double hitRatio(PageCacheEndpoint endpoint) {
+        double hitCount = hits.get(endpoint).count();
+        double total = hitCount + misses.get(endpoint).count();
+        return total == 0 ? 0 : hitCount / total;
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, PageCacheEndpoint endpoint, String result) {
+        return Counter.builder("page.cache.requests")
+                .tag("endpoint", endpoint.tag())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record GenerationKey(PageCacheEndpoint endpoint, Long parentId) {
+    }
+
+    private record CachedParent(long generation, Set<PageCacheKey> pages) {
+    }
+}
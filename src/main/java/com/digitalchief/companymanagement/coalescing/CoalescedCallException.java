@@ -0,0 +1,10 @@
+package com.digitalchief.companymanagement.coalescing;
+
+/**
+ * Thrown to a follower of a coalesced call that failed; the cause is the failure thrown to the caller that ran it.
+ */
+public class CoalescedCallException extends RuntimeException {
+    public CoalescedCallException(Throwable cause) {
+        super("Coalesced call failed: " + cause, cause);
+    }
+}
@@ -0,0 +1,62 @@
+package com.digitalchief.companymanagement.coalescing;
+
+import com.digitalchief.companymanagement.cache.DetachedCopies;
+import com.digitalchief.companymanagement.service.exception.EntityNotFoundException;
+import com.digitalchief.companymanagement.service.exception.EntityNotUniqueException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CoalescingAspect {
+    // followers get detached copies, never the entity or the exception instance the leader's thread holds
+    private final SingleFlight<CallKey> singleFlight =
+            new SingleFlight<>(DetachedCopies::copy, CoalescingAspect::copyFailure);
+    private final CoalescingProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public CoalescingAspect(CoalescingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("coalescing.in.flight", singleFlight, SingleFlight::inFlight).register(meterRegistry);
+        Gauge.builder("coalescing.waiting", singleFlight, SingleFlight::waiting).register(meterRegistry);
+    }
+
+    @Around("@annotation(coalesced)")
+    public Object coalesce(ProceedingJoinPoint joinPoint, Coalesced coalesced) throws Throwable {
+        // a caller inside a transaction must see its own persistence context, not an entity loaded by another thread
+        if (!properties.isEnabled(coalesced.value())
+                || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        meterRegistry.counter("coalescing.requests", "method", coalesced.value()).increment();
+        CallKey key = new CallKey(coalesced.value(), Arrays.asList(joinPoint.getArgs()));
+        return singleFlight.execute(key, () -> {
+            meterRegistry.counter("coalescing.executions", "method", coalesced.value()).increment();
+            return joinPoint.proceed();
+        });
+    }
+
+    private static Throwable copyFailure(Throwable failure) {
+        if (failure instanceof EntityNotFoundException) {
+            return new EntityNotFoundException(failure.getMessage(), failure);
+        }
+        if (failure instanceof EntityNotUniqueException) {
+            return new EntityNotUniqueException(failure.getMessage(), failure);
+        }
+        return new CoalescedCallException(failure);
+    }
+
+    private record CallKey(String method, List<Object> args) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.digitalchief.companymanagement.coalescing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "company-management.coalescing")
+public class CoalescingProperties {
+
+    private boolean enabled = true;
+
+    private Map<String, Boolean> methods = new HashMap<>();
+
+    public boolean isEnabled(String method) {
+        return enabled && methods.getOrDefault(method, true);
+    }
+}
@@ -0,0 +1,68 @@
+package com.digitalchief.companymanagement.coalescing;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Runs concurrent calls with the same key once. The caller that starts the flight gets the result or the failure of
+ * the call itself, every follower gets a copy of its own made by {@code copyResult} or {@code copyFailure}, so no
+ * object is shared between the threads.
+ */
+public class SingleFlight<K> {
+    private final ConcurrentMap<K, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final UnaryOperator<Object> copyResult;
+    private final UnaryOperator<Throwable> copyFailure;
+
+    public SingleFlight(UnaryOperator<Object> copyResult, UnaryOperator<Throwable> copyFailure) {
+        this.copyResult = copyResult;
+        this.copyFailure = copyFailure;
+    }
+
+    public Object execute(K key, Call call) throws Throwable {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            Object result = call.run();
+            flight.complete(result);
+            return result;
+        } catch (Throwable e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    public int waiting() {
+        return inFlight.values().stream()
+                .mapToInt(CompletableFuture::getNumberOfDependents)
+                .sum();
+    }
+
+    private Object await(CompletableFuture<Object> flight) throws Throwable {
+        Object result;
+        try {
+            result = flight.join();
+        } catch (CompletionException e) {
+            throw copyFailure.apply(e.getCause());
+        }
+        return copyResult.apply(result);
+    }
+
+    @FunctionalInterface
+    public interface Call {
+
+        Object run() throws Throwable;
+    }
+}
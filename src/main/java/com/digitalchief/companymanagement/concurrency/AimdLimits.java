@@ -0,0 +1,24 @@
+package com.digitalchief.companymanagement.concurrency;
+
+import com.digitalchief.companymanagement.workload.WorkloadClass;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * One {@link AimdLimit} per workload class, so slow batch or reporting calls shrink only their own limit and never
+ * take permits from interactive requests.
+ */
+public class AimdLimits {
+    private final Map<WorkloadClass, AimdLimit> limits = new EnumMap<>(WorkloadClass.class);
+
+    public AimdLimits(ConcurrencyLimitProperties properties) {
+        for (WorkloadClass workload : WorkloadClass.values()) {
+            limits.put(workload, new AimdLimit(properties));
+        }
+    }
+
+    public AimdLimit get(WorkloadClass workload) {
+        return limits.get(workload);
+    }
+}
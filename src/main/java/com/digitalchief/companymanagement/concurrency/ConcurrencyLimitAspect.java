@@ -0,0 +1,65 @@
+package com.digitalchief.companymanagement.concurrency;
+
+import com.digitalchief.companymanagement.workload.WorkloadClass;
+import com.digitalchief.companymanagement.workload.WorkloadContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ConcurrencyLimitAspect {
+    private final AimdLimits limits;
+    private final Map<WorkloadClass, Counter> rejected = new EnumMap<>(WorkloadClass.class);
+
+    public ConcurrencyLimitAspect(AimdLimits limits, MeterRegistry meterRegistry) {
+        this.limits = limits;
+        for (WorkloadClass workload : WorkloadClass.values()) {
+            AimdLimit limit = limits.get(workload);
+            rejected.put(workload, meterRegistry.counter("concurrency.limit.rejected", "workload", workload.tag()));
+            Gauge.builder("concurrency.limit", limit, AimdLimit::getLimit)
+                    .tag("workload", workload.tag())
+                    .register(meterRegistry);
+            Gauge.builder("concurrency.limit.in.flight", limit, AimdLimit::getInFlight)
+                    .tag("workload", workload.tag())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Around("within(com.digitalchief.companymanagement.service.impl..*) && !within(*..*ReactiveServiceImpl)"
+            + " && !@annotation(com.digitalchief.companymanagement.concurrency.NoConcurrencyLimit)")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        // nested service calls run inside the caller's transaction, which already holds a permit
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        WorkloadClass workload = WorkloadContext.current();
+        AimdLimit limit = limits.get(workload);
+        if (!limit.tryAcquire()) {
+            rejected.get(workload).increment();
+            throw new ConcurrencyLimitExceededException(limit.getLimit());
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = false;
+        try {
+            return joinPoint.proceed();
+        } catch (DataAccessException | TransactionException e) {
+            dropped = true;
+            throw e;
+        } finally {
+            limit.release(System.nanoTime() - start, dropped);
+        }
+    }
+}
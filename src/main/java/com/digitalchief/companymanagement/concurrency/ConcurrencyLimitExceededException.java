@@ -0,0 +1,7 @@
+package com.digitalchief.companymanagement.concurrency;
+
+public class ConcurrencyLimitExceededException extends RuntimeException {
+    public ConcurrencyLimitExceededException(int limit) {
+        super("Service is overloaded, concurrency limit " + limit + " reached");
+    }
+}
@@ -0,0 +1,15 @@
+package com.digitalchief.companymanagement.concurrency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Keeps a service method out of the latency-based concurrency limit. Meant for streaming downloads, whose duration is
+ * set by how fast the client reads rather than by the database, so their latency would only shrink the limit.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface NoConcurrencyLimit {
+}
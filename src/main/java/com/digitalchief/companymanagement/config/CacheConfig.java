@@ -0,0 +1,48 @@
+package com.digitalchief.companymanagement.config;
+
+import com.digitalchief.companymanagement.cache.CacheNames;
+import com.digitalchief.companymanagement.cache.CopyingCache;
+import com.digitalchief.companymanagement.cache.DetachedCopies;
+import com.digitalchief.companymanagement.cache.EntityCacheProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@EnableCaching
+@Configuration
+@EnableConfigurationProperties(EntityCacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(EntityCacheProperties properties, MeterRegistry meterRegistry) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name,
+                                               com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                // the decorated cache is not recognized by the cache metrics auto-configuration
+                CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+                // entities are cached as detached copies, a caller changing its instance cannot corrupt the cache
+                return new CopyingCache(super.adaptCaffeineCache(name, cache), DetachedCopies::copy);
+            }
+        };
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(properties.getEntities().getMaximumSize())
+                .expireAfterWrite(properties.getEntities().getExpireAfterWrite())
+                .recordStats());
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCacheNames(List.of(CacheNames.COMPANIES, CacheNames.DEPARTMENTS));
+
+        // entries loaded inside a transaction become visible only after it commits
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,18 @@
+package com.digitalchief.companymanagement.config;
+
+import com.digitalchief.companymanagement.coalescing.CoalescingAspect;
+import com.digitalchief.companymanagement.coalescing.CoalescingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(CoalescingProperties.class)
+public class CoalescingConfig {
+
+    @Bean
+    public CoalescingAspect coalescingAspect(CoalescingProperties properties, MeterRegistry meterRegistry) {
+        return new CoalescingAspect(properties, meterRegistry);
+    }
+}
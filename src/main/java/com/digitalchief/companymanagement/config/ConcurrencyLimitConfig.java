@@ -0,0 +1,27 @@
+package com.digitalchief.companymanagement.config;
+
+import com.digitalchief.companymanagement.concurrency.AimdLimits;
+import com.digitalchief.companymanagement.concurrency.ConcurrencyLimitAspect;
+import com.digitalchief.companymanagement.concurrency.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+@ConditionalOnProperty(prefix = "company-management.concurrency-limit", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public AimdLimits aimdLimits(ConcurrencyLimitProperties properties) {
+        return new AimdLimits(properties);
+    }
+
+    @Bean
+    public ConcurrencyLimitAspect concurrencyLimitAspect(AimdLimits aimdLimits, MeterRegistry meterRegistry) {
+        return new ConcurrencyLimitAspect(aimdLimits, meterRegistry);
+    }
+}
@@ -0,0 +1,53 @@
+package com.digitalchief.companymanagement.config;
+
+import com.digitalchief.companymanagement.sql.QueryListener;
+import com.digitalchief.companymanagement.sql.TimedDataSource;
+import com.digitalchief.companymanagement.workload.WorkloadClass;
+import com.digitalchief.companymanagement.workload.WorkloadProperties;
+import com.digitalchief.companymanagement.workload.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties({DataSourceProperties.class, WorkloadProperties.class})
+public class DataSourceConfig {
+
+    // DataSourceAutoConfiguration backs off as soon as an R2DBC ConnectionFactory exists
+    @Bean
+    public TimedDataSource dataSource(DataSourceProperties properties, WorkloadProperties workloads,
+                                      Environment environment, MeterRegistry meterRegistry,
+                                      ObjectProvider<QueryListener> queryListeners) {
+        Map<WorkloadClass, HikariDataSource> pools = new EnumMap<>(WorkloadClass.class);
+        pools.put(WorkloadClass.INTERACTIVE, pool(WorkloadClass.INTERACTIVE, properties, environment, meterRegistry));
+        workloads.getPools().forEach((workload, settings) -> {
+            HikariDataSource pool = pool(workload, properties, environment, meterRegistry);
+            pool.setMaximumPoolSize(settings.getConnections());
+            pool.setMinimumIdle(0);
+            pools.put(workload, pool);
+        });
+        return new TimedDataSource(new WorkloadRoutingDataSource(pools), queryListeners);
+    }
+
+    private static HikariDataSource pool(WorkloadClass workload, DataSourceProperties properties,
+                                         Environment environment, MeterRegistry meterRegistry) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(workload.tag());
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
@@ -0,0 +1,17 @@
+package com.digitalchief.companymanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "company-management.graphql")
+public class GraphQlLimitsProperties {
+
+    private int maxDepth = 6;
+
+    private int maxComplexity = 200;
+
+    private int maxPageSize = 100;
+}
@@ -0,0 +1,40 @@
+package com.digitalchief.companymanagement.config;
+
+import com.digitalchief.companymanagement.idempotency.IdempotencyFilter;
+import com.digitalchief.companymanagement.idempotency.IdempotencyKeyCleaner;
+import com.digitalchief.companymanagement.idempotency.IdempotencyKeyStore;
+import com.digitalchief.companymanagement.idempotency.IdempotencyProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+@ConditionalOnProperty(prefix = "company-management.idempotency", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyKeyStore idempotencyKeyStore(JdbcTemplate jdbcTemplate) {
+        return new IdempotencyKeyStore(jdbcTemplate);
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyKeyStore store,
+                                                                       IdempotencyProperties properties,
+                                                                       ObjectMapper objectMapper) {
+        FilterRegistrationBean<IdempotencyFilter> registration =
+                new FilterRegistrationBean<>(new IdempotencyFilter(store, properties, objectMapper));
+        registration.addUrlPatterns("/api/v0/*");
+        return registration;
+    }
+
+    @Bean
+    public IdempotencyKeyCleaner idempotencyKeyCleaner(IdempotencyKeyStore store) {
+        return new IdempotencyKeyCleaner(store);
+    }
+}
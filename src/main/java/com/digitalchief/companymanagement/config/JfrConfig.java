@@ -0,0 +1,47 @@
+package com.digitalchief.companymanagement.config;
+
+import com.digitalchief.companymanagement.jfr.JfrProperties;
+import com.digitalchief.companymanagement.jfr.JfrRecorder;
+import com.digitalchief.companymanagement.jfr.JfrRecordingControlEndpoint;
+import com.digitalchief.companymanagement.jfr.JfrRecordingEndpoint;
+import com.digitalchief.companymanagement.jfr.ServiceOperationEventAspect;
+import com.digitalchief.companymanagement.jfr.SlowQueryEventEmitter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(JfrProperties.class)
+@ConditionalOnProperty(prefix = "company-management.jfr", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class JfrConfig {
+
+    @Bean
+    public ServiceOperationEventAspect serviceOperationEventAspect() {
+        return new ServiceOperationEventAspect();
+    }
+
+    @Bean
+    public SlowQueryEventEmitter slowQueryEventEmitter(JfrProperties properties) {
+        return new SlowQueryEventEmitter(properties);
+    }
+
+    @Bean
+    public JfrRecorder jfrRecorder(JfrProperties properties) {
+        return new JfrRecorder(properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "company-management.jfr", name = "remote-control", havingValue = "false",
+            matchIfMissing = true)
+    public JfrRecordingEndpoint jfrRecordingEndpoint(JfrRecorder jfrRecorder) {
+        return new JfrRecordingEndpoint(jfrRecorder);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "company-management.jfr", name = "remote-control", havingValue = "true")
+    public JfrRecordingControlEndpoint jfrRecordingControlEndpoint(JfrRecorder jfrRecorder) {
+        return new JfrRecordingControlEndpoint(jfrRecorder);
+    }
+}
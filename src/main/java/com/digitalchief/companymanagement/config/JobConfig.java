@@ -0,0 +1,31 @@
+package com.digitalchief.companymanagement.config;
+
+import com.digitalchief.companymanagement.job.JobHandler;
+import com.digitalchief.companymanagement.job.JobProperties;
+import com.digitalchief.companymanagement.job.JobRunner;
+import com.digitalchief.companymanagement.job.JobStore;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(JobProperties.class)
+public class JobConfig {
+
+    @Bean
+    public JobStore jobStore(JdbcTemplate jdbcTemplate) {
+        return new JobStore(jdbcTemplate);
+    }
+
+    @Bean
+    public JobRunner jobRunner(JobStore jobStore, List<JobHandler> handlers, DataSource dataSource,
+                               PlatformTransactionManager transactionManager, JobProperties properties) {
+        return new JobRunner(jobStore, handlers, dataSource, new TransactionTemplate(transactionManager), properties);
+    }
+}
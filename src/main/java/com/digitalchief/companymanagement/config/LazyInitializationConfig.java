@@ -0,0 +1,26 @@
+package com.digitalchief.companymanagement.config;
+
+import com.digitalchief.companymanagement.CompanyManagementApplication;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * The {@code lazy} profile initializes beans on first use. The beans of the application itself, and with them
+ * everything a request needs (repositories, the entity manager factory, caches, filters), stay eager. So does the
+ * dispatcher servlet, see {@code spring.mvc.servlet.load-on-startup}. What is left lazy is infrastructure off the
+ * request path. The OpenAPI description is not built at startup either, springdoc scans the controllers on the first
+ * request to {@code /v3/api-docs}.
+ */
+@Configuration
+@Profile("lazy")
+public class LazyInitializationConfig {
+    private static final String APPLICATION_PACKAGE = CompanyManagementApplication.class.getPackageName() + ".";
+
+    @Bean
+    public static LazyInitializationExcludeFilter applicationBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+                && beanType.getName().startsWith(APPLICATION_PACKAGE);
+    }
+}
@@ -0,0 +1,47 @@
+package com.digitalchief.companymanagement.config;
+
+import com.digitalchief.companymanagement.metrics.RequestAwareStatistics;
+import com.digitalchief.companymanagement.metrics.RequestStatementCounter;
+import com.digitalchief.companymanagement.metrics.RequestStatisticsFilter;
+import com.digitalchief.companymanagement.metrics.ServiceMetricsAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.internal.StatisticsInitiator;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public ServiceMetricsAspect serviceMetricsAspect(MeterRegistry meterRegistry) {
+        return new ServiceMetricsAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer requestStatisticsCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.put(StatisticsInitiator.STATS_BUILDER, (StatisticsFactory) RequestAwareStatistics::new);
+        };
+    }
+
+    @Bean
+    public RequestStatementCounter requestStatementCounter() {
+        return new RequestStatementCounter();
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestStatisticsFilter> requestStatisticsFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RequestStatisticsFilter> registration =
+                new FilterRegistrationBean<>(new RequestStatisticsFilter(meterRegistry));
+        registration.addUrlPatterns("/api/v0/*", "/graphql");
+        // wraps the idempotency filter, which keeps the default lowest order
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return registration;
+    }
+}
@@ -0,0 +1,18 @@
+package com.digitalchief.companymanagement.config;
+
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseAutoConfiguration;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * The whole context of the {@code --migrate} run mode: a data source and Liquibase, which applies the changelog while
+ * the context starts. Nothing else of the application is started, so no jobs are picked up and no caches listen.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile(MigrationConfig.PROFILE)
+@ImportAutoConfiguration({DataSourceAutoConfiguration.class, LiquibaseAutoConfiguration.class})
+public class MigrationConfig {
+    public static final String PROFILE = "migrate";
+}
@@ -0,0 +1,94 @@
+package com.digitalchief.companymanagement.config;
+
+import com.digitalchief.companymanagement.coalescing.CoalescingAspect;
+import com.digitalchief.companymanagement.concurrency.ConcurrencyLimitAspect;
+import com.digitalchief.companymanagement.entity.Company;
+import com.digitalchief.companymanagement.entity.Department;
+import com.digitalchief.companymanagement.entity.Employee;
+import com.digitalchief.companymanagement.entity.row.CompanyRow;
+import com.digitalchief.companymanagement.entity.row.DepartmentRow;
+import com.digitalchief.companymanagement.entity.row.EmployeeRow;
+import com.digitalchief.companymanagement.jfr.ServiceOperationEventAspect;
+import com.digitalchief.companymanagement.mapper.CompanyMapper;
+import com.digitalchief.companymanagement.mapper.DepartmentMapper;
+import com.digitalchief.companymanagement.mapper.EmployeeMapper;
+import com.digitalchief.companymanagement.mapper.JobMapper;
+import com.digitalchief.companymanagement.metrics.ServiceMetricsAspect;
+import com.digitalchief.companymanagement.model.CompanyModel;
+import com.digitalchief.companymanagement.model.DepartmentModel;
+import com.digitalchief.companymanagement.model.EmployeeModel;
+import com.digitalchief.companymanagement.model.ErrorResponse;
+import com.digitalchief.companymanagement.model.batch.BatchRequest;
+import com.digitalchief.companymanagement.model.batch.BatchResponse;
+import com.digitalchief.companymanagement.model.job.EmployeeExportLine;
+import com.digitalchief.companymanagement.model.job.JobModel;
+import com.digitalchief.companymanagement.model.job.JobRequest;
+import com.digitalchief.companymanagement.service.impl.CompanyServiceImpl;
+import com.digitalchief.companymanagement.service.impl.DepartmentServiceImpl;
+import com.digitalchief.companymanagement.service.impl.EmployeeServiceImpl;
+import com.digitalchief.companymanagement.service.impl.JobServiceImpl;
+import com.digitalchief.companymanagement.workload.WorkloadAspect;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.util.List;
+
+/**
+ * Reflection and resource hints for the native image that Spring AOT cannot infer from the bean definitions. They are
+ * only read by {@code ./gradlew nativeCompile -Pnative} and have no effect on the JVM.
+ */
+@Configuration
+@ImportRuntimeHints(NativeConfig.Hints.class)
+public class NativeConfig {
+
+    static class Hints implements RuntimeHintsRegistrar {
+        private static final List<Class<?>> MAPPERS = List.of(CompanyMapper.class, DepartmentMapper.class,
+                EmployeeMapper.class, JobMapper.class);
+
+        private static final List<Class<?>> ENTITIES = List.of(Company.class, Department.class, Employee.class,
+                CompanyRow.class, DepartmentRow.class, EmployeeRow.class);
+
+        // serialized by hand (JSON caches, job results, error responses of filters) or introspected by springdoc
+        private static final Class<?>[] MODELS = {CompanyModel.class, DepartmentModel.class, EmployeeModel.class,
+                ErrorResponse.class, BatchRequest.class, BatchResponse.class, JobRequest.class, JobModel.class,
+                EmployeeExportLine.class};
+
+        private static final List<Class<?>> ASPECTS = List.of(CoalescingAspect.class, ConcurrencyLimitAspect.class,
+                ServiceMetricsAspect.class, ServiceOperationEventAspect.class, WorkloadAspect.class);
+
+        // their annotations (@Coalesced, @Workload, @NoConcurrencyLimit) and parameter names are read by the aspects
+        // at runtime
+        private static final List<Class<?>> ADVISED_SERVICES = List.of(CompanyServiceImpl.class,
+                DepartmentServiceImpl.class, EmployeeServiceImpl.class, JobServiceImpl.class);
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Mappers.getMapper loads the generated <Mapper>Impl by name and calls its no-arg constructor
+            for (Class<?> mapper : MAPPERS) {
+                hints.reflection().registerType(TypeReference.of(mapper.getName() + "Impl"),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            }
+            // Lombok accessors are ordinary methods, Hibernate, R2DBC and GraphQL use them and the fields reflectively
+            for (Class<?> entity : ENTITIES) {
+                hints.reflection().registerType(entity, MemberCategory.DECLARED_FIELDS,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), MODELS);
+            for (Class<?> aspect : ASPECTS) {
+                hints.reflection().registerType(aspect, MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+            for (Class<?> service : ADVISED_SERVICES) {
+                hints.reflection().registerType(service, MemberCategory.INTROSPECT_PUBLIC_METHODS);
+            }
+            // Liquibase resolves the scripts included by the master changelog as classpath resources
+            hints.resources().registerPattern("db/changelog/*.yaml");
+            hints.resources().registerPattern("db/changelog/scripts/*.sql");
+            hints.resources().registerPattern("messages.properties");
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.digitalchief.companymanagement.config;
+
+import com.digitalchief.companymanagement.ratelimit.RateLimitInterceptor;
+import com.digitalchief.companymanagement.ratelimit.RateLimitProperties;
+import com.digitalchief.companymanagement.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.web.SpringDataWebProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(prefix = "company-management.rate-limit", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class RateLimitConfig implements WebMvcConfigurer {
+    private final RateLimitProperties properties;
+    private final SpringDataWebProperties springDataWebProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        RateLimiter rateLimiter = new RateLimiter(properties, meterRegistry);
+        int maxPageSize = springDataWebProperties.getPageable().getMaxPageSize();
+        registry.addInterceptor(new RateLimitInterceptor(rateLimiter, properties, maxPageSize))
+                .addPathPatterns("/api/v0/companies/**", "/api/v0/reactive/companies/**");
+    }
+}
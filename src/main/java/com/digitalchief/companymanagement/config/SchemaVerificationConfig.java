@@ -0,0 +1,25 @@
+package com.digitalchief.companymanagement.config;
+
+import com.digitalchief.companymanagement.migration.SchemaVersionVerifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+@ConditionalOnProperty(prefix = "company-management.schema-verification", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class SchemaVerificationConfig {
+
+    // a node that runs Liquibase itself is up to date once it has started
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.liquibase", name = "enabled", havingValue = "false")
+    public SchemaVersionVerifier schemaVersionVerifier(
+            JdbcTemplate jdbcTemplate,
+            @Value("${spring.liquibase.change-log:classpath:/db/changelog/db.changelog-master.yaml}")
+            Resource changeLog) {
+        return new SchemaVersionVerifier(jdbcTemplate, changeLog);
+    }
+}
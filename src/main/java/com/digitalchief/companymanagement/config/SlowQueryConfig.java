@@ -0,0 +1,51 @@
+package com.digitalchief.companymanagement.config;
+
+import com.digitalchief.companymanagement.sql.QueryExplainer;
+import com.digitalchief.companymanagement.sql.SlowQueryControlEndpoint;
+import com.digitalchief.companymanagement.sql.SlowQueryEndpoint;
+import com.digitalchief.companymanagement.sql.SlowQueryLog;
+import com.digitalchief.companymanagement.sql.SlowQueryProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+
+@Configuration
+@EnableConfigurationProperties(SlowQueryProperties.class)
+@ConditionalOnProperty(prefix = "company-management.slow-queries", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class SlowQueryConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "company-management.slow-queries.explain", name = "enabled",
+            havingValue = "true")
+    public QueryExplainer queryExplainer(DataSource dataSource, SlowQueryProperties properties) {
+        // bypass the timing proxy, explained statements must not be reported as slow queries themselves
+        DataSource target = dataSource instanceof DelegatingDataSource delegating
+                ? delegating.getTargetDataSource()
+                : dataSource;
+        return new QueryExplainer(target, properties.getExplain());
+    }
+
+    @Bean
+    public SlowQueryLog slowQueryLog(SlowQueryProperties properties, ObjectProvider<QueryExplainer> queryExplainer) {
+        return new SlowQueryLog(properties, queryExplainer.getIfAvailable());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "company-management.slow-queries", name = "remote-control", havingValue = "false",
+            matchIfMissing = true)
+    public SlowQueryEndpoint slowQueryEndpoint(SlowQueryLog slowQueryLog) {
+        return new SlowQueryEndpoint(slowQueryLog);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "company-management.slow-queries", name = "remote-control", havingValue = "true")
+    public SlowQueryControlEndpoint slowQueryControlEndpoint(SlowQueryLog slowQueryLog) {
+        return new SlowQueryControlEndpoint(slowQueryLog);
+    }
+}
@@ -0,0 +1,26 @@
+package com.digitalchief.companymanagement.config;
+
+import com.digitalchief.companymanagement.startup.StartupReportProperties;
+import com.digitalchief.companymanagement.startup.StartupReportWriter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.metrics.ApplicationStartup;
+
+@Configuration
+@EnableConfigurationProperties(StartupReportProperties.class)
+@ConditionalOnProperty(prefix = "company-management.startup-report", name = "enabled", havingValue = "true")
+public class StartupReportConfig {
+
+    @Bean
+    public StartupReportWriter startupReportWriter(ApplicationStartup applicationStartup,
+                                                   StartupReportProperties properties) {
+        if (!(applicationStartup instanceof BufferingApplicationStartup bufferingApplicationStartup)) {
+            throw new IllegalStateException("The startup report needs the application to be started with "
+                    + "BufferingApplicationStartup, see CompanyManagementApplication.main");
+        }
+        return new StartupReportWriter(bufferingApplicationStartup, properties);
+    }
+}
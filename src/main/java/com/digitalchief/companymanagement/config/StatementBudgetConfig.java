@@ -0,0 +1,27 @@
+package com.digitalchief.companymanagement.config;
+
+import com.digitalchief.companymanagement.metrics.StatementBudgetInterceptor;
+import com.digitalchief.companymanagement.metrics.StatementBudgetProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(StatementBudgetProperties.class)
+@ConditionalOnProperty(prefix = "company-management.statement-budget", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class StatementBudgetConfig implements WebMvcConfigurer {
+    private final StatementBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new StatementBudgetInterceptor(properties, meterRegistry))
+                .addPathPatterns("/api/v0/**", "/graphql");
+    }
+}
@@ -0,0 +1,22 @@
+package com.digitalchief.companymanagement.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Stops the application as soon as it is ready. Used by {@code Dockerfile.faststart} to record the classes loaded
+ * during startup into an AppCDS archive, which the JVM writes on exit.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "company-management.training-run", name = "enabled", havingValue = "true")
+public class TrainingRunConfig {
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> trainingRunExit() {
+        return event -> System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
@@ -0,0 +1,29 @@
+package com.digitalchief.companymanagement.config;
+
+import com.digitalchief.companymanagement.transaction.SavepointScope;
+import com.digitalchief.companymanagement.transaction.SavepointScopeTransactionManager;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+@Configuration
+public class TransactionConfig {
+
+    @Bean
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory,
+                                                    ObjectProvider<TransactionManagerCustomizers> customizers) {
+        JpaTransactionManager transactionManager = new SavepointScopeTransactionManager(entityManagerFactory);
+        customizers.ifAvailable(transactionManagerCustomizers -> transactionManagerCustomizers
+                .customize(transactionManager));
+        return transactionManager;
+    }
+
+    @Bean
+    public SavepointScope savepointScope(EntityManager entityManager) {
+        return new SavepointScope(entityManager);
+    }
+}
@@ -0,0 +1,22 @@
+package com.digitalchief.companymanagement.config;
+
+import com.digitalchief.companymanagement.workload.Bulkheads;
+import com.digitalchief.companymanagement.workload.WorkloadAspect;
+import com.digitalchief.companymanagement.workload.WorkloadProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class WorkloadConfig {
+
+    @Bean
+    public Bulkheads bulkheads(WorkloadProperties properties, MeterRegistry meterRegistry) {
+        return new Bulkheads(properties, meterRegistry);
+    }
+
+    @Bean
+    public WorkloadAspect workloadAspect(Bulkheads bulkheads, WorkloadProperties properties) {
+        return new WorkloadAspect(bulkheads, properties);
+    }
+}
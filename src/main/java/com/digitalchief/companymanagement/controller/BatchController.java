@@ -0,0 +1,80 @@
+package com.digitalchief.companymanagement.controller;
+
+import com.digitalchief.companymanagement.metrics.StatementBudget;
+import com.digitalchief.companymanagement.model.ErrorResponse;
+import com.digitalchief.companymanagement.model.batch.BatchRequest;
+import com.digitalchief.companymanagement.model.batch.BatchResponse;
+import com.digitalchief.companymanagement.service.BatchService;
+import com.digitalchief.companymanagement.workload.Workload;
+import com.digitalchief.companymanagement.workload.WorkloadClass;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(
+        name = "Batch API",
+        description = "Operations for running many changes in one transaction"
+)
+@RestController
+@RequestMapping("/api/v0")
+@RequiredArgsConstructor
+public class BatchController {
+    private final BatchService batchService;
+
+    @Operation(summary = "Execute an ordered list of operations in one transaction")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch was committed, per-operation results are returned",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = BatchResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "An operation failed and the whole batch was rolled back",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = BatchResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Batch failed validation, no operation was executed",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Bulk workload has no free capacity",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+    })
+    @PostMapping("/batch")
+    @Workload(WorkloadClass.BULK)
+    @StatementBudget(500)
+    public ResponseEntity<BatchResponse> executeBatch(@Valid @RequestBody BatchRequest batchRequest) {
+        BatchResponse response = batchService.execute(batchRequest);
+
+        return ResponseEntity.status(response.isCommitted() ? HttpStatus.OK : HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(response);
+    }
+}
@@ -1,5 +1,9 @@
 package com.digitalchief.companymanagement.controller;
 
+import com.digitalchief.companymanagement.cache.EntityChange;
+import com.digitalchief.companymanagement.cache.EntityJsonCache;
+import com.digitalchief.companymanagement.cache.PageCacheEndpoint;
+import com.digitalchief.companymanagement.cache.PageResponseCache;
 import com.digitalchief.companymanagement.entity.Company;
 import com.digitalchief.companymanagement.mapper.CompanyMapper;
 import com.digitalchief.companymanagement.model.CompanyModel;
@@ -33,8 +37,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 @Tag(
         name = "Companies API",
         description = "Operations for working with companies"
@@ -44,6 +46,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CompanyController {
     private final CompanyService companyService;
+    private final PageResponseCache pageCache;
+    private final EntityJsonCache jsonCache;
     private final CompanyMapper mapper = Mappers.getMapper(CompanyMapper.class);
 
     @Operation(summary = "Retrieve companies with pagination and optional sorting")
@@ -79,10 +83,11 @@ public class CompanyController {
             )
     })
     @GetMapping("/companies")
-    public ResponseEntity<List<CompanyModel>> getCompaniesWithPagination(@PageableDefault Pageable pageable) {
-        List<CompanyModel> companyModels = mapper.toModel(companyService.findAllByPageable(pageable));
+    public ResponseEntity<byte[]> getCompaniesWithPagination(@PageableDefault Pageable pageable) {
+        byte[] companyModels = pageCache.get(PageCacheEndpoint.COMPANIES, null, pageable,
+                () -> mapper.toModel(companyService.findAllByPageable(pageable)));
 
-        return ResponseEntity.ok(companyModels);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(companyModels);
     }
 
     @Operation(summary = "Retrieve a specific company by id")
@@ -114,10 +119,12 @@ public class CompanyController {
             ),
     })
     @GetMapping("/companies/{companyId}")
-    public ResponseEntity<CompanyModel> getCompanyById(@PathVariable Long companyId) {
+    public ResponseEntity<byte[]> getCompanyById(@PathVariable Long companyId) {
         Company company = companyService.findById(companyId);
+        byte[] companyModel = jsonCache.get(EntityChange.Type.COMPANY, company.getId(), company.getVersion(),
+                () -> mapper.toModel(company));
 
-        return ResponseEntity.ok(mapper.toModel(company));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(companyModel);
     }
 
     @Operation(summary = "Create new company")
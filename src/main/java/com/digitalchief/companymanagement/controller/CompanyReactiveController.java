@@ -0,0 +1,44 @@
+package com.digitalchief.companymanagement.controller;
+
+import com.digitalchief.companymanagement.mapper.CompanyMapper;
+import com.digitalchief.companymanagement.model.CompanyModel;
+import com.digitalchief.companymanagement.service.CompanyReactiveService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.mapstruct.factory.Mappers;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Tag(
+        name = "Companies reactive API",
+        description = "Non-blocking read operations for companies"
+)
+@RestController
+@RequestMapping("/api/v0/reactive")
+@RequiredArgsConstructor
+public class CompanyReactiveController {
+    private final CompanyReactiveService companyService;
+    private final CompanyMapper mapper = Mappers.getMapper(CompanyMapper.class);
+
+    @Operation(summary = "Stream companies with pagination and optional sorting")
+    @GetMapping(value = "/companies", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<CompanyModel> getCompaniesWithPagination(@PageableDefault Pageable pageable) {
+        return companyService.findAllByPageable(pageable)
+                .map(mapper::toModel);
+    }
+
+    @Operation(summary = "Retrieve a specific company by id")
+    @GetMapping(value = "/companies/{companyId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<CompanyModel> getCompanyById(@PathVariable Long companyId) {
+        return companyService.findById(companyId)
+                .map(mapper::toModel);
+    }
+}
@@ -1,5 +1,9 @@
 package com.digitalchief.companymanagement.controller;
 
+import com.digitalchief.companymanagement.cache.EntityChange;
+import com.digitalchief.companymanagement.cache.EntityJsonCache;
+import com.digitalchief.companymanagement.cache.PageCacheEndpoint;
+import com.digitalchief.companymanagement.cache.PageResponseCache;
 import com.digitalchief.companymanagement.entity.Department;
 import com.digitalchief.companymanagement.mapper.DepartmentMapper;
 import com.digitalchief.companymanagement.model.DepartmentModel;
@@ -33,8 +37,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 @Tag(name = "Department API",
         description = "Operations for working with departments")
 @RestController
@@ -42,6 +44,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class DepartmentController {
     private final DepartmentService departmentService;
+    private final PageResponseCache pageCache;
+    private final EntityJsonCache jsonCache;
     private final DepartmentMapper mapper = Mappers.getMapper(DepartmentMapper.class);
 
     @Operation(summary = "Retrieve departments by company ID with pagination and optional sorting")
@@ -83,11 +87,12 @@ public class DepartmentController {
             )
     })
     @GetMapping("/companies/{companyId}/departments")
-    public ResponseEntity<List<DepartmentModel>> getDepartmentsByCompanyIdWithPagination(
+    public ResponseEntity<byte[]> getDepartmentsByCompanyIdWithPagination(
             @PathVariable Long companyId, @PageableDefault Pageable pageable) {
-        List<Department> departments = departmentService.findAllByCompanyIdWithPagination(companyId, pageable);
+        byte[] departmentModels = pageCache.get(PageCacheEndpoint.DEPARTMENTS, companyId, pageable,
+                () -> mapper.toModel(departmentService.findAllByCompanyIdWithPagination(companyId, pageable)));
 
-        return ResponseEntity.ok(mapper.toModel(departments));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(departmentModels);
     }
 
     @Operation(summary = "Retrieve a specific department by company ID and department ID")
@@ -124,11 +129,13 @@ public class DepartmentController {
             )
     })
     @GetMapping("/companies/{companyId}/departments/{departmentId}")
-    public ResponseEntity<DepartmentModel> getDepartmentByCompanyAndDepartmentId(
+    public ResponseEntity<byte[]> getDepartmentByCompanyAndDepartmentId(
             @PathVariable Long companyId, @PathVariable Long departmentId) {
         Department department = departmentService.findByCompanyAndDepartmentId(companyId, departmentId);
+        byte[] departmentModel = jsonCache.get(EntityChange.Type.DEPARTMENT, department.getId(),
+                department.getVersion(), () -> mapper.toModel(department));
 
-        return ResponseEntity.ok(mapper.toModel(department));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(departmentModel);
     }
 
     @Operation(summary = "Create a department in a specific company")
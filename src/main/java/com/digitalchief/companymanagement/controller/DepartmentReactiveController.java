@@ -0,0 +1,48 @@
+package com.digitalchief.companymanagement.controller;
+
+import com.digitalchief.companymanagement.mapper.DepartmentMapper;
+import com.digitalchief.companymanagement.model.DepartmentModel;
+import com.digitalchief.companymanagement.service.DepartmentReactiveService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.mapstruct.factory.Mappers;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Tag(
+        name = "Departments reactive API",
+        description = "Non-blocking read operations for departments"
+)
+@RestController
+@RequestMapping("/api/v0/reactive")
+@RequiredArgsConstructor
+public class DepartmentReactiveController {
+    private final DepartmentReactiveService departmentService;
+    private final DepartmentMapper mapper = Mappers.getMapper(DepartmentMapper.class);
+
+    @Operation(summary = "Stream departments of a company with pagination and optional sorting")
+    @GetMapping(value = "/companies/{companyId}/departments",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<DepartmentModel> getDepartmentsByCompanyIdWithPagination(@PathVariable Long companyId,
+                                                                        @PageableDefault Pageable pageable) {
+        return departmentService.findAllByCompanyIdWithPagination(companyId, pageable)
+                .map(mapper::toModel);
+    }
+
+    @Operation(summary = "Retrieve a specific department of a company by id")
+    @GetMapping(value = "/companies/{companyId}/departments/{departmentId}",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<DepartmentModel> getDepartmentByCompanyAndDepartmentId(@PathVariable Long companyId,
+                                                                       @PathVariable Long departmentId) {
+        return departmentService.findByCompanyAndDepartmentId(companyId, departmentId)
+                .map(mapper::toModel);
+    }
+}
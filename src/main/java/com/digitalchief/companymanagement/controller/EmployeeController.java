@@ -1,5 +1,7 @@
 package com.digitalchief.companymanagement.controller;
 
+import com.digitalchief.companymanagement.cache.EntityChange;
+import com.digitalchief.companymanagement.cache.EntityJsonCache;
 import com.digitalchief.companymanagement.entity.Employee;
 import com.digitalchief.companymanagement.mapper.EmployeeMapper;
 import com.digitalchief.companymanagement.model.EmployeeModel;
@@ -41,6 +43,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class EmployeeController {
     private final EmployeeService employeeService;
+    private final EntityJsonCache jsonCache;
     private final EmployeeMapper mapper = Mappers.getMapper(EmployeeMapper.class);
 
     @Operation(summary = "Retrieve employees by company ID and department ID with pagination")
@@ -129,12 +132,14 @@ public class EmployeeController {
             )
     })
     @GetMapping("/companies/{companyId}/departments/{departmentId}/employees/{id}")
-    public ResponseEntity<EmployeeModel> findEmployeeById(@PathVariable Long companyId,
-                                                          @PathVariable Long departmentId,
-                                                          @PathVariable Long id) {
+    public ResponseEntity<byte[]> findEmployeeById(@PathVariable Long companyId,
+                                                   @PathVariable Long departmentId,
+                                                   @PathVariable Long id) {
         Employee employee = employeeService.findByCompanyAndDepartmentAndEmployeeId(companyId, departmentId, id);
+        byte[] employeeModel = jsonCache.get(EntityChange.Type.EMPLOYEE, employee.getId(), employee.getVersion(),
+                () -> mapper.toModel(employee));
 
-        return ResponseEntity.ok(mapper.toModel(employee));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(employeeModel);
     }
 
     @Operation(summary = "Create a new employee in a department")
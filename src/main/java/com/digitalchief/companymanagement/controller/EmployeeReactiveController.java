@@ -0,0 +1,49 @@
+package com.digitalchief.companymanagement.controller;
+
+import com.digitalchief.companymanagement.mapper.EmployeeMapper;
+import com.digitalchief.companymanagement.model.EmployeeModel;
+import com.digitalchief.companymanagement.service.EmployeeReactiveService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.mapstruct.factory.Mappers;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Tag(
+        name = "Employees reactive API",
+        description = "Non-blocking read operations for employees"
+)
+@RestController
+@RequestMapping("/api/v0/reactive")
+@RequiredArgsConstructor
+public class EmployeeReactiveController {
+    private final EmployeeReactiveService employeeService;
+    private final EmployeeMapper mapper = Mappers.getMapper(EmployeeMapper.class);
+
+    @Operation(summary = "Stream employees of a department with pagination and optional sorting")
+    @GetMapping(value = "/companies/{companyId}/departments/{departmentId}/employees",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<EmployeeModel> findEmployeesByCompanyIdAndDepartmentIdWithPagination(
+            @PathVariable Long companyId, @PathVariable Long departmentId, @PageableDefault Pageable pageable) {
+        return employeeService.findAllByCompanyAndDepartmentIdWithPagination(companyId, departmentId, pageable)
+                .map(mapper::toModel);
+    }
+
+    @Operation(summary = "Retrieve a specific employee by id")
+    @GetMapping(value = "/companies/{companyId}/departments/{departmentId}/employees/{id}",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<EmployeeModel> findEmployeeById(@PathVariable Long companyId,
+                                                @PathVariable Long departmentId,
+                                                @PathVariable Long id) {
+        return employeeService.findByCompanyAndDepartmentAndEmployeeId(companyId, departmentId, id)
+                .map(mapper::toModel);
+    }
+}
@@ -0,0 +1,77 @@
+package com.digitalchief.companymanagement.controller;
+
+import com.digitalchief.companymanagement.config.GraphQlLimitsProperties;
+import com.digitalchief.companymanagement.entity.Company;
+import com.digitalchief.companymanagement.entity.Department;
+import com.digitalchief.companymanagement.entity.Employee;
+import com.digitalchief.companymanagement.service.CompanyService;
+import com.digitalchief.companymanagement.service.DepartmentService;
+import com.digitalchief.companymanagement.service.EmployeeService;
+import com.digitalchief.companymanagement.workload.Workload;
+import com.digitalchief.companymanagement.workload.WorkloadClass;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Controller
+@RequiredArgsConstructor
+public class GraphQlController {
+    private final CompanyService companyService;
+    private final DepartmentService departmentService;
+    private final EmployeeService employeeService;
+    private final GraphQlLimitsProperties properties;
+
+    @QueryMapping
+    @Workload(WorkloadClass.REPORTING)
+    public List<Company> companies(@Argument int page, @Argument int size) {
+        return companyService.findAllByPageable(PageRequest.of(page, Math.min(size, properties.getMaxPageSize())));
+    }
+
+    @QueryMapping
+    @Workload(WorkloadClass.REPORTING)
+    public Company company(@Argument Long id) {
+        return companyService.findById(id);
+    }
+
+    @BatchMapping
+    @Workload(WorkloadClass.REPORTING)
+    public Map<Company, List<Department>> departments(List<Company> companies) {
+        Map<Long, List<Department>> departmentsByCompanyId = departmentService
+                .findAllByCompanyIds(companies.stream().map(Company::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(department -> department.getCompany().getId()));
+
+        return byParent(companies, Company::getId, departmentsByCompanyId);
+    }
+
+    @BatchMapping
+    @Workload(WorkloadClass.REPORTING)
+    public Map<Department, List<Employee>> employees(List<Department> departments) {
+        Map<Long, List<Employee>> employeesByDepartmentId = employeeService
+                .findAllByCompanyAndDepartmentIds(
+                        departments.stream().map(department -> department.getCompany().getId()).distinct().toList(),
+                        departments.stream().map(Department::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(employee -> employee.getDepartment().getId()));
+
+        return byParent(departments, Department::getId, employeesByDepartmentId);
+    }
+
+    private static <P, C> Map<P, List<C>> byParent(List<P> parents, Function<P, Long> id,
+                                                   Map<Long, List<C>> childrenByParentId) {
+        Map<P, List<C>> children = new LinkedHashMap<>();
+        for (P parent : parents) {
+            children.put(parent, childrenByParentId.getOrDefault(id.apply(parent), List.of()));
+        }
+        return children;
+    }
+}
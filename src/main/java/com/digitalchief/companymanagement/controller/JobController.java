@@ -0,0 +1,148 @@
+package com.digitalchief.companymanagement.controller;
+
+import com.digitalchief.companymanagement.job.Job;
+import com.digitalchief.companymanagement.mapper.JobMapper;
+import com.digitalchief.companymanagement.model.ErrorResponse;
+import com.digitalchief.companymanagement.model.job.JobModel;
+import com.digitalchief.companymanagement.model.job.JobRequest;
+import com.digitalchief.companymanagement.service.JobService;
+import com.digitalchief.companymanagement.workload.Workload;
+import com.digitalchief.companymanagement.workload.WorkloadClass;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.mapstruct.factory.Mappers;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.net.URI;
+
+@Tag(
+        name = "Job API",
+        description = "Operations for running long exports and bulk changes in the background"
+)
+@RestController
+@RequestMapping("/api/v0")
+@RequiredArgsConstructor
+public class JobController {
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+
+    private final JobService jobService;
+    private final JobMapper mapper = Mappers.getMapper(JobMapper.class);
+
+    @Operation(summary = "Submit a background job")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Job was queued, its state can be polled at the Location header",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = JobModel.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Job request failed validation",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Company was not found by id",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+    })
+    @PostMapping("/jobs")
+    public ResponseEntity<JobModel> submitJob(@Valid @RequestBody JobRequest jobRequest) {
+        Job job = jobService.submitJob(jobRequest.getType(), jobRequest.getCompanyId());
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v0/jobs/" + job.id()))
+                .body(mapper.toModel(job));
+    }
+
+    @Operation(summary = "Retrieve status and progress of a job")
+    @Parameters(value = {
+            @Parameter(
+                    name = "jobId",
+                    description = "ID of job to retrieve",
+                    example = "1",
+                    schema = @Schema(type = "integer")
+            )
+    })
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Job was successfully retrieved",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = JobModel.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Job was not found by id",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+    })
+    @GetMapping("/jobs/{jobId}")
+    public JobModel getJobById(@PathVariable Long jobId) {
+        return mapper.toModel(jobService.findById(jobId));
+    }
+
+    @Operation(summary = "Download the result of a succeeded export job")
+    @Parameters(value = {
+            @Parameter(
+                    name = "jobId",
+                    description = "ID of job whose result to download",
+                    example = "1",
+                    schema = @Schema(type = "integer")
+            )
+    })
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Result as newline-delimited JSON, one employee per line",
+                    content = @Content(mediaType = NDJSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Job was not found or has no result yet",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+    })
+    @GetMapping("/jobs/{jobId}/result")
+    @Workload(WorkloadClass.BULK)
+    public void getJobResult(@PathVariable Long jobId, HttpServletResponse response) throws IOException {
+        jobService.findWithResultById(jobId);
+        // the result is copied from the database to the client chunk by chunk
+        response.setContentType(NDJSON_VALUE);
+        jobService.writeResultById(jobId, response.getOutputStream());
+    }
+}
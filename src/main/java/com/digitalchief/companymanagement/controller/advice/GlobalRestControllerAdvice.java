@@ -1,9 +1,14 @@
 package com.digitalchief.companymanagement.controller.advice;
 
+import com.digitalchief.companymanagement.concurrency.ConcurrencyLimitExceededException;
 import com.digitalchief.companymanagement.model.ErrorResponse;
+import com.digitalchief.companymanagement.ratelimit.RateLimitExceededException;
+import com.digitalchief.companymanagement.service.exception.BatchValidationException;
 import com.digitalchief.companymanagement.service.exception.EntityNotFoundException;
 import com.digitalchief.companymanagement.service.exception.EntityNotUniqueException;
+import com.digitalchief.companymanagement.workload.BulkheadFullException;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -34,4 +39,54 @@ public class GlobalRestControllerAdvice extends ResponseEntityExceptionHandler {
 
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
+
+    @ExceptionHandler(BatchValidationException.class)
+    public ResponseEntity<ErrorResponse> handleBatchValidationException(
+            HttpServletRequest request, BatchValidationException e) {
+        ErrorResponse response = ErrorResponse.builder()
+                .message(e.getMessage())
+                .url(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceededException(
+            HttpServletRequest request, RateLimitExceededException e) {
+        ErrorResponse response = ErrorResponse.builder()
+                .message(e.getMessage())
+                .url(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(response);
+    }
+
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrencyLimitExceededException(
+            HttpServletRequest request, ConcurrencyLimitExceededException e) {
+        ErrorResponse response = ErrorResponse.builder()
+                .message(e.getMessage())
+                .url(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ErrorResponse> handleBulkheadFullException(
+            HttpServletRequest request, BulkheadFullException e) {
+        ErrorResponse response = ErrorResponse.builder()
+                .message(e.getMessage())
+                .url(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
 }
@@ -1,15 +1,19 @@
 package com.digitalchief.companymanagement.entity;
 
+import com.digitalchief.companymanagement.cache.EntityChangeListener;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -18,6 +22,7 @@ import java.sql.Date;
 import java.util.List;
 
 @Entity
+@EntityListeners(EntityChangeListener.class)
 @Getter
 @Setter
 @Table(name = "companies", indexes = { @Index(name = "idx_company_id", columnList = "id") })
@@ -25,7 +30,8 @@ import java.util.List;
 public class Company {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "companies_id_seq")
+    @SequenceGenerator(name = "companies_id_seq", sequenceName = "companies_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -37,6 +43,9 @@ public class Company {
     @Column(nullable = false)
     private Date dateOfCreation;
 
+    @Version
+    private Long version;
+
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "company", cascade = CascadeType.ALL)
     private List<Department> departments;
 }
@@ -1,5 +1,6 @@
 package com.digitalchief.companymanagement.entity;
 
+import com.digitalchief.companymanagement.cache.EntityChangeListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -9,6 +10,7 @@ import java.math.BigDecimal;
 import java.util.List;
 
 @Entity
+@EntityListeners(EntityChangeListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,7 +18,8 @@ import java.util.List;
 public class Department {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "departments_id_seq")
+    @SequenceGenerator(name = "departments_id_seq", sequenceName = "departments_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -28,6 +31,9 @@ public class Department {
     @Column(nullable = false)
     private BigDecimal annualBudget;
 
+    @Version
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id")
     private Company company;
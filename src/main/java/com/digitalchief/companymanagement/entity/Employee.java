@@ -1,7 +1,9 @@
 package com.digitalchief.companymanagement.entity;
 
+import com.digitalchief.companymanagement.cache.EntityChangeListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -9,15 +11,19 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.PartitionKey;
 
 import java.math.BigDecimal;
 import java.sql.Date;
 
 @Entity
+@EntityListeners(EntityChangeListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -25,7 +31,8 @@ import java.sql.Date;
 public class Employee {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employees_id_seq")
+    @SequenceGenerator(name = "employees_id_seq", sequenceName = "employees_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -49,8 +56,16 @@ public class Employee {
     @Column(nullable = false)
     private BigDecimal salaryPerMonth;
 
+    @Version
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "department_id")
     private Department department;
 
+    // the hash partitioning key, copied from the department so that updates and deletes hit a single partition
+    @PartitionKey
+    @Column(nullable = false, updatable = false)
+    private Long companyId;
+
 }
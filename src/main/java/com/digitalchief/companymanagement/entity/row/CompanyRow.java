@@ -0,0 +1,25 @@
+package com.digitalchief.companymanagement.entity.row;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@Table("companies")
+@NoArgsConstructor
+public class CompanyRow {
+
+    @Id
+    private Long id;
+
+    private String name;
+
+    private String description;
+
+    private LocalDate dateOfCreation;
+}
@@ -0,0 +1,27 @@
+package com.digitalchief.companymanagement.entity.row;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@Table("departments")
+@NoArgsConstructor
+public class DepartmentRow {
+
+    @Id
+    private Long id;
+
+    private String name;
+
+    private String description;
+
+    private BigDecimal annualBudget;
+
+    private Long companyId;
+}
@@ -0,0 +1,38 @@
+package com.digitalchief.companymanagement.entity.row;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@Table("employees")
+@NoArgsConstructor
+public class EmployeeRow {
+
+    @Id
+    private Long id;
+
+    private String firstname;
+
+    private String lastname;
+
+    private String position;
+
+    private Integer age;
+
+    private String email;
+
+    private LocalDate dateOfEmployment;
+
+    private BigDecimal salaryPerMonth;
+
+    private Long departmentId;
+
+    private Long companyId;
+}
@@ -0,0 +1,7 @@
+package com.digitalchief.companymanagement.idempotency;
+
+/**
+ * An {@code Idempotency-Key} together with the client that sent it; keys of different clients never collide.
+ */
+public record ClientKey(String client, String key) {
+}
@@ -0,0 +1,216 @@
+package com.digitalchief.companymanagement.idempotency;
+
+import com.digitalchief.companymanagement.model.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Makes POST requests carrying an {@code Idempotency-Key} header safe to retry. The first request with a key runs
+ * normally and its response is stored; later requests with the same key get the stored response without reaching the
+ * controllers, and requests arriving while the first one is still running wait for it. Only the headers in
+ * {@link #STORED_HEADERS} are stored and replayed along with the status, content type and body.
+ * <p>
+ * Keys are scoped per client, identified by its address as in rate limiting. A running request renews the lease on
+ * its key every third of {@code in-progress-timeout}, so the key is taken over only when the node running the request
+ * is gone, however long the request takes.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final List<String> STORED_HEADERS = List.of(HttpHeaders.LOCATION, HttpHeaders.CONTENT_LOCATION);
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long INITIAL_BACKOFF_MILLIS = 10;
+    private static final long MAX_BACKOFF_MILLIS = 200;
+
+    private final IdempotencyKeyStore store;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ScheduledExecutorService renewals =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("idempotency-lease-"));
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.BAD_REQUEST,
+                    IDEMPOTENCY_KEY_HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        ClientKey clientKey = new ClientKey(request.getRemoteAddr(), key);
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String fingerprint = fingerprint(request.getMethod(), target(request), cachedRequest.getBody());
+        UUID leaseToken = UUID.randomUUID();
+        long deadline = System.nanoTime() + properties.getWaitTimeout().toNanos();
+        long backoff = INITIAL_BACKOFF_MILLIS;
+
+        while (true) {
+            if (store.tryStart(clientKey, fingerprint, leaseToken, properties.getInProgressTimeout())) {
+                execute(clientKey, leaseToken, cachedRequest, response, chain);
+                return;
+            }
+
+            Optional<StoredResponse> stored = store.find(clientKey);
+            if (stored.isPresent() && !stored.get().fingerprint().equals(fingerprint)) {
+                writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                        IDEMPOTENCY_KEY_HEADER + " was already used for a different request");
+                return;
+            }
+            if (stored.isPresent() && stored.get().status() == IdempotencyStatus.COMPLETED) {
+                replay(stored.get(), response);
+                return;
+            }
+            if (System.nanoTime() - deadline > 0) {
+                writeError(request, response, HttpStatus.CONFLICT,
+                        "Request with the same " + IDEMPOTENCY_KEY_HEADER + " is still in progress");
+                return;
+            }
+
+            // the key is in progress on this or another node, or was released between the two statements
+            sleep(backoff);
+            backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+        }
+    }
+
+    private void execute(ClientKey key, UUID leaseToken, HttpServletRequest request, HttpServletResponse response,
+                         FilterChain chain) throws ServletException, IOException {
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        Duration lease = properties.getInProgressTimeout();
+        long renewalMillis = Math.max(lease.toMillis() / 3, 1);
+        ScheduledFuture<?> renewal = renewals.scheduleAtFixedRate(() -> renew(key, leaseToken, lease),
+                renewalMillis, renewalMillis, TimeUnit.MILLISECONDS);
+        boolean completed = false;
+        try {
+            chain.doFilter(request, cachingResponse);
+            renewal.cancel(false);
+            // server errors are not stored so that the client can retry them
+            if (cachingResponse.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                store.complete(key, leaseToken, cachingResponse.getStatus(), cachingResponse.getContentType(),
+                        storedHeaders(cachingResponse), cachingResponse.getContentAsByteArray(), properties.getTtl());
+                completed = true;
+            }
+        } finally {
+            renewal.cancel(false);
+            if (!completed) {
+                store.release(key, leaseToken);
+            }
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    private void renew(ClientKey key, UUID leaseToken, Duration lease) {
+        try {
+            if (!store.renew(key, leaseToken, lease)) {
+                log.warn("Lost the lease on {} {} of client {}", IDEMPOTENCY_KEY_HEADER, key.key(), key.client());
+            }
+        } catch (RuntimeException e) {
+            // the next renewal tries again, the lease lasts three renewal intervals
+            log.warn("Could not renew the lease on {} {}", IDEMPOTENCY_KEY_HEADER, key.key(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        renewals.shutdownNow();
+    }
+
+    private static Map<String, String> storedHeaders(HttpServletResponse response) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : STORED_HEADERS) {
+            String value = response.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        return headers;
+    }
+
+    private static void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.responseStatus());
+        response.setHeader(REPLAYED_HEADER, "true");
+        stored.headers().forEach(response::setHeader);
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.body() != null) {
+            response.setContentLength(stored.body().length);
+            response.getOutputStream().write(stored.body());
+        }
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                            String message) throws IOException {
+        ErrorResponse error = ErrorResponse.builder()
+                .message(message)
+                .url(request.getRequestURI())
+                .build();
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    // the query string is part of the request, the same body posted with other parameters is a different request
+    private static String target(HttpServletRequest request) {
+        String query = request.getQueryString();
+        return query != null ? request.getRequestURI() + "?" + query : request.getRequestURI();
+    }
+
+    public static String fingerprint(String method, String target, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(method.getBytes(StandardCharsets.UTF_8));
+            digest.update(target.getBytes(StandardCharsets.UTF_8));
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) throws IOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a concurrent request", e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.digitalchief.companymanagement.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Slf4j
+@RequiredArgsConstructor
+public class IdempotencyKeyCleaner {
+    private final IdempotencyKeyStore store;
+
+    @Scheduled(fixedDelayString = "${company-management.idempotency.cleanup-interval:PT10M}")
+    public void deleteExpiredKeys() {
+        int deleted = store.deleteExpired();
+        if (deleted > 0) {
+            log.debug("Deleted {} expired idempotency keys", deleted);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.digitalchief.companymanagement.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class IdempotencyKeyStore {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Claims the key for the current request under the given lease token. An expired key, including one left in
+     * progress by a crashed node, is taken over; a key whose lease is still being renewed is not.
+     */
+    public boolean tryStart(ClientKey key, String fingerprint, UUID leaseToken, Duration lease) {
+        return jdbcTemplate.update("""
+                INSERT INTO idempotency_keys (client_id, idempotency_key, request_fingerprint, status, lease_token,
+                                              expires_at)
+                VALUES (?, ?, ?, 'IN_PROGRESS', ?, now() + ? * INTERVAL '1 millisecond')
+                ON CONFLICT (client_id, idempotency_key) DO UPDATE
+                    SET request_fingerprint = excluded.request_fingerprint,
+                        status = excluded.status,
+                        lease_token = excluded.lease_token,
+                        response_status = NULL,
+                        response_content_type = NULL,
+                        response_headers = NULL,
+                        response_body = NULL,
+                        created_at = now(),
+                        expires_at = excluded.expires_at
+                    WHERE idempotency_keys.expires_at < now()
+                """, key.client(), key.key(), fingerprint, leaseToken, lease.toMillis()) == 1;
+    }
+
+    /**
+     * Extends the lease of a key still in progress under the given token.
+     *
+     * @return {@code false} when the lease was lost, because it expired and another request took the key over
+     */
+    public boolean renew(ClientKey key, UUID leaseToken, Duration lease) {
+        return jdbcTemplate.update("""
+                UPDATE idempotency_keys
+                SET expires_at = now() + ? * INTERVAL '1 millisecond'
+                WHERE client_id = ? AND idempotency_key = ? AND lease_token = ? AND status = 'IN_PROGRESS'
+                """, lease.toMillis(), key.client(), key.key(), leaseToken) == 1;
+    }
+
+    public Optional<StoredResponse> find(ClientKey key) {
+        return jdbcTemplate.query("""
+                SELECT request_fingerprint, status, response_status, response_content_type, response_headers,
+                       response_body
+                FROM idempotency_keys
+                WHERE client_id = ? AND idempotency_key = ? AND expires_at >= now()
+                """, (rs, rowNum) -> new StoredResponse(
+                rs.getString("request_fingerprint"),
+                IdempotencyStatus.valueOf(rs.getString("status")),
+                rs.getObject("response_status", Integer.class),
+                rs.getString("response_content_type"),
+                parseHeaders(rs.getString("response_headers")),
+                rs.getBytes("response_body")
+        ), key.client(), key.key()).stream().findFirst();
+    }
+
+    public void complete(ClientKey key, UUID leaseToken, int status, String contentType, Map<String, String> headers,
+                         byte[] body, Duration ttl) {
+        jdbcTemplate.update("""
+                UPDATE idempotency_keys
+                SET status = 'COMPLETED',
+                    lease_token = NULL,
+                    response_status = ?,
+                    response_content_type = ?,
+                    response_headers = ?,
+                    response_body = ?,
+                    expires_at = now() + ? * INTERVAL '1 millisecond'
+                WHERE client_id = ? AND idempotency_key = ? AND lease_token = ?
+                """, status, contentType, formatHeaders(headers), body, ttl.toMillis(), key.client(), key.key(),
+                leaseToken);
+    }
+
+    public void release(ClientKey key, UUID leaseToken) {
+        jdbcTemplate.update("""
+                DELETE FROM idempotency_keys
+                WHERE client_id = ? AND idempotency_key = ? AND lease_token = ? AND status = 'IN_PROGRESS'
+                """, key.client(), key.key(), leaseToken);
+    }
+
+    public int deleteExpired() {
+        return jdbcTemplate.update("DELETE FROM idempotency_keys WHERE expires_at < now()");
+    }
+
+    // header values cannot contain line breaks, so one header per line needs no escaping
+    private static String formatHeaders(Map<String, String> headers) {
+        if (headers.isEmpty()) {
+            return null;
+        }
+        return headers.entrySet().stream()
+                .map(header -> header.getKey() + ": " + header.getValue())
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static Map<String, String> parseHeaders(String headers) {
+        Map<String, String> parsed = new LinkedHashMap<>();
+        if (headers != null) {
+            headers.lines().forEach(line -> {
+                int separator = line.indexOf(": ");
+                parsed.put(line.substring(0, separator), line.substring(separator + 2));
+            });
+        }
+        return parsed;
+    }
+}
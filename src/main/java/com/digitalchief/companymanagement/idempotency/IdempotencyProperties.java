@@ -0,0 +1,23 @@
+package com.digitalchief.companymanagement.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "company-management.idempotency")
+public class IdempotencyProperties {
+
+    private boolean enabled = true;
+
+    private Duration ttl = Duration.ofHours(24);
+
+    private Duration inProgressTimeout = Duration.ofSeconds(30);
+
+    private Duration waitTimeout = Duration.ofSeconds(10);
+
+    private Duration cleanupInterval = Duration.ofMinutes(10);
+}
@@ -0,0 +1,6 @@
+package com.digitalchief.companymanagement.idempotency;
+
+public enum IdempotencyStatus {
+    IN_PROGRESS,
+    COMPLETED
+}
@@ -0,0 +1,13 @@
+package com.digitalchief.companymanagement.idempotency;
+
+import java.util.Map;
+
+public record StoredResponse(
+        String fingerprint,
+        IdempotencyStatus status,
+        Integer responseStatus,
+        String contentType,
+        Map<String, String> headers,
+        byte[] body
+) {
+}
@@ -0,0 +1,27 @@
+package com.digitalchief.companymanagement.jfr;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "company-management.jfr")
+public class JfrProperties {
+
+    private boolean enabled = true;
+
+    private Duration slowQueryThreshold = Duration.ofMillis(100);
+
+    private String defaultSettings = "profile";
+
+    private Duration maxDuration = Duration.ofMinutes(10);
+
+    private DataSize maxSize = DataSize.ofMegabytes(256);
+
+    // starting a recording and downloading it over the actuator, off unless the management port is trusted
+    private boolean remoteControl = false;
+}
@@ -0,0 +1,94 @@
+package com.digitalchief.companymanagement.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+/**
+ * Holds the single on-demand recording of this node. A recording stops on its own after the configured maximum
+ * duration, its data is kept until it is collected with {@link #stop()} or replaced by a new one.
+ */
+@RequiredArgsConstructor
+public class JfrRecorder implements DisposableBean {
+    private static final String RECORDING_NAME = "company-management";
+
+    private final JfrProperties properties;
+    private Recording recording;
+    private String settings;
+
+    public synchronized JfrRecordingStatus status() {
+        if (recording == null) {
+            return new JfrRecordingStatus(RecordingState.CLOSED.name(), null, null, null);
+        }
+        return new JfrRecordingStatus(recording.getState().name(), settings, recording.getStartTime(),
+                recording.getDuration());
+    }
+
+    public synchronized JfrRecordingStatus start(String settingsName) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new IllegalStateException("A recording is already running");
+        }
+        String name = settingsName != null ? settingsName : properties.getDefaultSettings();
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(name);
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Unknown JFR settings: " + name, e);
+        }
+
+        close();
+        Recording started = new Recording(configuration);
+        started.setName(RECORDING_NAME);
+        started.setToDisk(true);
+        started.setDuration(properties.getMaxDuration());
+        started.setMaxSize(properties.getMaxSize().toBytes());
+        started.start();
+        recording = started;
+        settings = name;
+        return status();
+    }
+
+    /**
+     * Stops the recording and dumps it to a temporary file, which the caller has to delete.
+     *
+     * @return the file, or {@code null} if no recording was started
+     */
+    public synchronized Path stop() throws IOException {
+        if (recording == null) {
+            return null;
+        }
+        Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+        try {
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+            recording.dump(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        } finally {
+            close();
+        }
+        return file;
+    }
+
+    @Override
+    public synchronized void destroy() {
+        close();
+    }
+
+    private void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+            settings = null;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.digitalchief.companymanagement.jfr;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * {@code GET /actuator/jfr} shows the recording state, {@code POST} starts a recording with the given settings
+ * ({@code default}, {@code profile} or a custom .jfc file) and {@code DELETE} stops it and returns the .jfr file.
+ */
+@WebEndpoint(id = "jfr")
+public class JfrRecordingControlEndpoint extends JfrRecordingEndpoint {
+    private static final int STATUS_CONFLICT = 409;
+
+    public JfrRecordingControlEndpoint(JfrRecorder recorder) {
+        super(recorder);
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Object> start(@Nullable String settings) {
+        try {
+            return new WebEndpointResponse<>(recorder.start(settings));
+        } catch (IllegalStateException e) {
+            return new WebEndpointResponse<>(e.getMessage(), STATUS_CONFLICT);
+        } catch (IllegalArgumentException e) {
+            return new WebEndpointResponse<>(e.getMessage(), WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+    }
+
+    @DeleteOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> stop() throws IOException {
+        Path file = recorder.stop();
+        if (file == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(new TemporaryFileResource(file));
+    }
+}
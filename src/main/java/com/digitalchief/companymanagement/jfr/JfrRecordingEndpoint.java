@@ -0,0 +1,21 @@
+package com.digitalchief.companymanagement.jfr;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+
+/**
+ * {@code GET /actuator/jfr} shows the recording state. Starting and stopping a recording is offered only by
+ * {@link JfrRecordingControlEndpoint}, which replaces this endpoint when {@code company-management.jfr.remote-control}
+ * is on.
+ */
+@WebEndpoint(id = "jfr")
+@RequiredArgsConstructor
+public class JfrRecordingEndpoint {
+    protected final JfrRecorder recorder;
+
+    @ReadOperation
+    public JfrRecordingStatus status() {
+        return recorder.status();
+    }
+}
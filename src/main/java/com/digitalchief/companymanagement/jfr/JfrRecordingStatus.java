@@ -0,0 +1,12 @@
+package com.digitalchief.companymanagement.jfr;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public record JfrRecordingStatus(
+        String state,
+        String settings,
+        Instant startTime,
+        Duration maxDuration
+) {
+}
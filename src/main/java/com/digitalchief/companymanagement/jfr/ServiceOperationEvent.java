@@ -0,0 +1,44 @@
+package com.digitalchief.companymanagement.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.digitalchief.companymanagement.ServiceOperation")
+@Label("Service Operation")
+@Category("Company Management")
+@Description("Call of a company, department or employee service method")
+@StackTrace(false)
+public class ServiceOperationEvent extends Event {
+
+    @Label("Service")
+    String service;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Company ID")
+    @Description("0 when the operation is not bound to a company")
+    long companyId;
+
+    @Label("Department ID")
+    @Description("0 when the operation is not bound to a department")
+    long departmentId;
+
+    @Label("Employee ID")
+    @Description("0 when the operation is not bound to an employee")
+    long employeeId;
+
+    @Label("Rows Touched")
+    @Description("Entities loaded, inserted, updated or deleted by Hibernate")
+    long rowsTouched;
+
+    @Label("SQL Statements")
+    long sqlStatements;
+
+    @Label("Failed")
+    boolean failed;
+}
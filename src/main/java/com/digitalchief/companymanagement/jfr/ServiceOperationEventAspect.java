@@ -0,0 +1,91 @@
+package com.digitalchief.companymanagement.jfr;
+
+import com.digitalchief.companymanagement.entity.Company;
+import com.digitalchief.companymanagement.entity.Department;
+import com.digitalchief.companymanagement.entity.Employee;
+import com.digitalchief.companymanagement.metrics.RequestStatistics;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Emits a {@link ServiceOperationEvent} per service call while a JFR recording that enables it is running. Outside of
+ * recordings the call is passed through untouched.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+public class ServiceOperationEventAspect {
+
+    @Around("com.digitalchief.companymanagement.metrics.ServiceMetricsAspect.entityServices()")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServiceOperationEvent event = new ServiceOperationEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        // calls outside of HTTP requests, e.g. from jobs, get statistics of their own
+        RequestStatistics statistics = RequestStatistics.current();
+        boolean bound = statistics == null;
+        if (bound) {
+            statistics = new RequestStatistics();
+            RequestStatistics.bind(statistics);
+        }
+        long statementsBefore = statistics.getStatements();
+        long rowsBefore = rowsTouched(statistics);
+        Object result = null;
+        event.begin();
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable e) {
+            event.failed = true;
+            throw e;
+        } finally {
+            event.end();
+            if (bound) {
+                RequestStatistics.bind(null);
+            }
+            if (event.shouldCommit()) {
+                event.service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                event.operation = joinPoint.getSignature().getName();
+                event.sqlStatements = statistics.getStatements() - statementsBefore;
+                event.rowsTouched = rowsTouched(statistics) - rowsBefore;
+                fillIds(event, (MethodSignature) joinPoint.getSignature(), joinPoint.getArgs(), result);
+                event.commit();
+            }
+        }
+    }
+
+    private static long rowsTouched(RequestStatistics statistics) {
+        return statistics.getEntitiesLoaded() + statistics.getEntitiesWritten();
+    }
+
+    private static void fillIds(ServiceOperationEvent event, MethodSignature signature, Object[] args,
+                                Object result) {
+        String[] names = signature.getParameterNames();
+        for (int i = 0; i < args.length; i++) {
+            if (!(args[i] instanceof Long id) || names == null) {
+                continue;
+            }
+            switch (names[i]) {
+                case "companyId" -> event.companyId = id;
+                case "departmentId" -> event.departmentId = id;
+                case "employeeId" -> event.employeeId = id;
+                default -> {
+                }
+            }
+        }
+        // created entities only get their id from the call itself
+        if (result instanceof Company company && event.companyId == 0 && company.getId() != null) {
+            event.companyId = company.getId();
+        } else if (result instanceof Department department && event.departmentId == 0
+                && department.getId() != null) {
+            event.departmentId = department.getId();
+        } else if (result instanceof Employee employee && event.employeeId == 0 && employee.getId() != null) {
+            event.employeeId = employee.getId();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.digitalchief.companymanagement.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("com.digitalchief.companymanagement.SlowQuery")
+@Label("Slow Query")
+@Category("Company Management")
+@Description("JDBC statement that ran longer than company-management.jfr.slow-query-threshold")
+public class SlowQueryEvent extends Event {
+
+    @Label("SQL")
+    String sql;
+
+    @Label("Execution Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long executionTime;
+}
@@ -0,0 +1,26 @@
+package com.digitalchief.companymanagement.jfr;
+
+import com.digitalchief.companymanagement.sql.QueryListener;
+
+import java.util.List;
+
+public class SlowQueryEventEmitter implements QueryListener {
+    private final long thresholdNanos;
+
+    public SlowQueryEventEmitter(JfrProperties properties) {
+        this.thresholdNanos = properties.getSlowQueryThreshold().toNanos();
+    }
+
+    @Override
+    public void onQuery(String sql, List<Object> parameters, long elapsedNanos) {
+        if (elapsedNanos < thresholdNanos) {
+            return;
+        }
+        SlowQueryEvent event = new SlowQueryEvent();
+        if (event.isEnabled()) {
+            event.sql = sql;
+            event.executionTime = elapsedNanos;
+            event.commit();
+        }
+    }
+}
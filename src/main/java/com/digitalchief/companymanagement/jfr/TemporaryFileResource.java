@@ -0,0 +1,35 @@
+package com.digitalchief.companymanagement.jfr;
+
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * File resource that deletes the file once its content has been read.
+ */
+class TemporaryFileResource extends FileSystemResource {
+    private final Path file;
+
+    TemporaryFileResource(Path file) {
+        super(file);
+        this.file = file;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return new FilterInputStream(super.getInputStream()) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    Files.deleteIfExists(file);
+                }
+            }
+        };
+    }
+}
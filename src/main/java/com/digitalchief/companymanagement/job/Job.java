@@ -0,0 +1,21 @@
+package com.digitalchief.companymanagement.job;
+
+import com.digitalchief.companymanagement.model.job.JobStatus;
+import com.digitalchief.companymanagement.model.job.JobType;
+
+import java.time.LocalDateTime;
+
+public record Job(
+        Long id,
+        JobType type,
+        JobStatus status,
+        Long companyId,
+        long progress,
+        Long total,
+        String checkpoint,
+        String resultLocation,
+        String error,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,49 @@
+package com.digitalchief.companymanagement.job;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Progress of a running job. Handlers update it while processing a chunk and the runner stores it in the same
+ * transaction as the chunk, so a resumed job continues exactly after the last committed chunk.
+ */
+public class JobExecution {
+    private final ByteArrayOutputStream result = new ByteArrayOutputStream();
+
+    @Getter
+    private final Job job;
+
+    @Getter
+    private long progress;
+
+    @Getter
+    @Setter
+    private Long total;
+
+    @Getter
+    @Setter
+    private String checkpoint;
+
+    public JobExecution(Job job) {
+        this.job = job;
+        this.progress = job.progress();
+        this.total = job.total();
+        this.checkpoint = job.checkpoint();
+    }
+
+    public void addProgress(long processed) {
+        progress += processed;
+    }
+
+    public void appendResult(byte[] bytes) {
+        result.writeBytes(bytes);
+    }
+
+    byte[] drainResult() {
+        byte[] bytes = result.toByteArray();
+        result.reset();
+        return bytes;
+    }
+}
@@ -0,0 +1,19 @@
+package com.digitalchief.companymanagement.job;
+
+import com.digitalchief.companymanagement.model.job.JobType;
+
+public interface JobHandler {
+
+    JobType type();
+
+    /**
+     * Processes the next chunk of the job inside the transaction that also stores the execution state.
+     *
+     * @return {@code true} if there is more work left
+     */
+    boolean runChunk(JobExecution execution);
+
+    default String resultLocation(Job job) {
+        return null;
+    }
+}
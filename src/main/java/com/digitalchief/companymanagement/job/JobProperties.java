@@ -0,0 +1,21 @@
+package com.digitalchief.companymanagement.job;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "company-management.jobs")
+public class JobProperties {
+
+    private int threads = 2;
+
+    private int chunkSize = 500;
+
+    private Duration pollInterval = Duration.ofSeconds(5);
+
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+}
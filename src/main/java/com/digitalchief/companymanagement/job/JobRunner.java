@@ -0,0 +1,177 @@
+package com.digitalchief.companymanagement.job;
+
+import com.digitalchief.companymanagement.model.job.JobStatus;
+import com.digitalchief.companymanagement.model.job.JobType;
+import com.digitalchief.companymanagement.workload.WorkloadClass;
+import com.digitalchief.companymanagement.workload.WorkloadContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs queued jobs and resumes jobs left running by a stopped node. Every job is guarded by a session-level PostgreSQL
+ * advisory lock held on a dedicated connection for as long as the job runs, so only one node executes it; when the node
+ * dies its connection closes, the lock is released and another node picks the job up at the next poll.
+ */
+@Slf4j
+public class JobRunner implements DisposableBean {
+    private final JobStore store;
+    private final Map<JobType, JobHandler> handlers;
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+    private final JobProperties properties;
+    private final ExecutorService workers;
+    private final ThreadPoolExecutor trigger;
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+    private volatile boolean stopping;
+
+    public JobRunner(JobStore store, List<JobHandler> handlers, DataSource dataSource,
+                     TransactionTemplate transactionTemplate, JobProperties properties) {
+        this.store = store;
+        this.handlers = new EnumMap<>(JobType.class);
+        handlers.forEach(handler -> this.handlers.put(handler.type(), handler));
+        this.dataSource = dataSource;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.workers = Executors.newFixedThreadPool(properties.getThreads(), new CustomizableThreadFactory("job-"));
+        // at most one poll waits behind the running one, further triggers are covered by it
+        this.trigger = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1),
+                new CustomizableThreadFactory("job-trigger-"), new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    public void trigger() {
+        trigger.execute(this::poll);
+    }
+
+    @Scheduled(fixedDelayString = "${company-management.jobs.poll-interval:PT5S}")
+    public synchronized void poll() {
+        int free = properties.getThreads() - running.size();
+        if (stopping || free <= 0) {
+            return;
+        }
+
+        for (Long id : store.findUnfinished(properties.getThreads() * 4)) {
+            if (free == 0) {
+                return;
+            }
+            if (running.contains(id)) {
+                continue;
+            }
+            Connection lock = tryLock(id);
+            if (lock == null) {
+                continue;
+            }
+            // another node may have finished the job between the query and the lock
+            Optional<Job> job = store.find(id)
+                    .filter(found -> found.status() == JobStatus.QUEUED || found.status() == JobStatus.RUNNING);
+            if (job.isEmpty()) {
+                unlock(lock, id);
+                continue;
+            }
+
+            running.add(id);
+            free--;
+            workers.execute(() -> {
+                try {
+                    run(job.get());
+                } finally {
+                    unlock(lock, id);
+                    running.remove(id);
+                }
+            });
+        }
+    }
+
+    private void run(Job job) {
+        JobHandler handler = handlers.get(job.type());
+        JobExecution execution = new JobExecution(job);
+        try {
+            WorkloadContext.callIn(WorkloadClass.BULK, () -> {
+                store.markRunning(job.id());
+                boolean hasMore = true;
+                while (hasMore && !stopping) {
+                    hasMore = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                        boolean more = handler.runChunk(execution);
+                        store.saveChunk(job.id(), execution.getProgress(), execution.getTotal(),
+                                execution.getCheckpoint(), execution.drainResult());
+                        return more;
+                    }));
+                }
+                if (!hasMore) {
+                    store.complete(job.id(), handler.resultLocation(job));
+                }
+                return null;
+            });
+        } catch (Throwable e) {
+            log.warn("Job {} of type {} failed", job.id(), job.type(), e);
+            store.fail(job.id(), e.getMessage());
+        }
+    }
+
+    private Connection tryLock(Long id) {
+        try {
+            Connection connection = bulkConnection();
+            try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+                statement.setLong(1, id);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (resultSet.next() && resultSet.getBoolean(1)) {
+                        return connection;
+                    }
+                }
+            }
+            connection.close();
+        } catch (SQLException e) {
+            log.warn("Could not lock job {}", id, e);
+        }
+        return null;
+    }
+
+    // the lock connection is held for the whole job, it must not take one from the interactive pool
+    private Connection bulkConnection() throws SQLException {
+        try {
+            return (Connection) WorkloadContext.callIn(WorkloadClass.BULK, dataSource::getConnection);
+        } catch (SQLException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    private void unlock(Connection connection, Long id) {
+        try (connection; PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+            statement.setLong(1, id);
+            statement.execute();
+        } catch (SQLException e) {
+            log.warn("Could not unlock job {}", id, e);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        stopping = true;
+        trigger.shutdownNow();
+        workers.shutdown();
+        // running jobs stop after their current chunk and stay RUNNING, to be resumed by the next node
+        workers.awaitTermination(properties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,119 @@
+package com.digitalchief.companymanagement.job;
+
+import com.digitalchief.companymanagement.model.job.JobStatus;
+import com.digitalchief.companymanagement.model.job.JobType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class JobStore {
+    private static final int RESULT_FETCH_SIZE = 4;
+
+    private static final RowMapper<Job> JOB_ROW_MAPPER = (rs, rowNum) -> new Job(
+            rs.getLong("id"),
+            JobType.valueOf(rs.getString("type")),
+            JobStatus.valueOf(rs.getString("status")),
+            rs.getLong("company_id"),
+            rs.getLong("progress"),
+            rs.getObject("total", Long.class),
+            rs.getString("checkpoint"),
+            rs.getString("result_location"),
+            rs.getString("error"),
+            toLocalDateTime(rs.getTimestamp("created_at")),
+            toLocalDateTime(rs.getTimestamp("updated_at"))
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Long create(JobType type, Long companyId) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO jobs (type, status, company_id)
+                VALUES (?, 'QUEUED', ?)
+                RETURNING id
+                """, Long.class, type.name(), companyId);
+    }
+
+    public Optional<Job> find(Long id) {
+        return jdbcTemplate.query("""
+                SELECT id, type, status, company_id, progress, total, checkpoint, result_location, error,
+                       created_at, updated_at
+                FROM jobs
+                WHERE id = ?
+                """, JOB_ROW_MAPPER, id).stream().findFirst();
+    }
+
+    public List<Long> findUnfinished(int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM jobs WHERE status IN ('QUEUED', 'RUNNING') ORDER BY id LIMIT ?", Long.class, limit);
+    }
+
+    /**
+     * Writes the result chunks of the job to the output in order. Inside a transaction the driver reads them through a
+     * cursor, {@value #RESULT_FETCH_SIZE} chunks at a time, so the whole result is never held in memory.
+     */
+    public void writeResult(Long id, OutputStream output) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT data FROM job_result_chunks WHERE job_id = ? ORDER BY seq");
+            statement.setFetchSize(RESULT_FETCH_SIZE);
+            statement.setLong(1, id);
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            try {
+                output.write(rs.getBytes("data"));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    public void markRunning(Long id) {
+        jdbcTemplate.update("UPDATE jobs SET status = 'RUNNING', updated_at = now() WHERE id = ?", id);
+    }
+
+    public void saveChunk(Long id, long progress, Long total, String checkpoint, byte[] result) {
+        jdbcTemplate.update("""
+                UPDATE jobs
+                SET progress = ?,
+                    total = ?,
+                    checkpoint = ?,
+                    updated_at = now()
+                WHERE id = ?
+                """, progress, total, checkpoint, id);
+        if (result.length > 0) {
+            // only the node holding the advisory lock of the job appends to it, so max(seq) cannot race
+            jdbcTemplate.update("""
+                    INSERT INTO job_result_chunks (job_id, seq, data)
+                    SELECT ?, coalesce(max(seq) + 1, 0), ?
+                    FROM job_result_chunks
+                    WHERE job_id = ?
+                    """, id, result, id);
+        }
+    }
+
+    public void complete(Long id, String resultLocation) {
+        jdbcTemplate.update("""
+                UPDATE jobs SET status = 'SUCCEEDED', result_location = ?, updated_at = now() WHERE id = ?
+                """, resultLocation, id);
+    }
+
+    public void fail(Long id, String error) {
+        jdbcTemplate.update("UPDATE jobs SET status = 'FAILED', error = ?, updated_at = now() WHERE id = ?",
+                error, id);
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
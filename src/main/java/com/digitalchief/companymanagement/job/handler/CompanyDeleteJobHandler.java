@@ -0,0 +1,66 @@
+package com.digitalchief.companymanagement.job.handler;
+
+import com.digitalchief.companymanagement.entity.Department;
+import com.digitalchief.companymanagement.entity.Employee;
+import com.digitalchief.companymanagement.job.JobExecution;
+import com.digitalchief.companymanagement.job.JobHandler;
+import com.digitalchief.companymanagement.job.JobProperties;
+import com.digitalchief.companymanagement.model.job.JobType;
+import com.digitalchief.companymanagement.repository.CompanyRepository;
+import com.digitalchief.companymanagement.repository.DepartmentRepository;
+import com.digitalchief.companymanagement.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Deletes a company bottom-up, one chunk of employees or departments per transaction. Entities are removed through
+ * JPA so that every deletion invalidates caches like a regular delete does. Whatever is left in the database is the
+ * checkpoint, so a resumed job simply continues.
+ */
+@Component
+@RequiredArgsConstructor
+public class CompanyDeleteJobHandler implements JobHandler {
+    private final CompanyRepository companyRepository;
+    private final DepartmentRepository departmentRepository;
+    private final EmployeeRepository employeeRepository;
+    private final JobProperties properties;
+
+    @Override
+    public JobType type() {
+        return JobType.COMPANY_DELETE;
+    }
+
+    @Override
+    public boolean runChunk(JobExecution execution) {
+        Long companyId = execution.getJob().companyId();
+        if (execution.getTotal() == null) {
+            execution.setTotal(employeeRepository.countByCompanyId(companyId)
+                    + departmentRepository.countByCompanyId(companyId) + 1);
+        }
+
+        PageRequest chunk = PageRequest.ofSize(properties.getChunkSize());
+        List<Employee> employees = employeeRepository
+                .findAllByCompanyIdAndIdGreaterThanOrderById(companyId, 0L, chunk);
+        if (!employees.isEmpty()) {
+            employeeRepository.deleteAll(employees);
+            execution.addProgress(employees.size());
+            return true;
+        }
+
+        List<Department> departments = departmentRepository.findAllByCompanyId(companyId, chunk);
+        if (!departments.isEmpty()) {
+            departmentRepository.deleteAll(departments);
+            execution.addProgress(departments.size());
+            return true;
+        }
+
+        companyRepository.findById(companyId).ifPresent(company -> {
+            companyRepository.delete(company);
+            execution.addProgress(1);
+        });
+        return false;
+    }
+}
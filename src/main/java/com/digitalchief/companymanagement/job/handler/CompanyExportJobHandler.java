@@ -0,0 +1,77 @@
+package com.digitalchief.companymanagement.job.handler;
+
+import com.digitalchief.companymanagement.entity.Employee;
+import com.digitalchief.companymanagement.job.Job;
+import com.digitalchief.companymanagement.job.JobExecution;
+import com.digitalchief.companymanagement.job.JobHandler;
+import com.digitalchief.companymanagement.job.JobProperties;
+import com.digitalchief.companymanagement.mapper.EmployeeMapper;
+import com.digitalchief.companymanagement.model.job.EmployeeExportLine;
+import com.digitalchief.companymanagement.model.job.JobType;
+import com.digitalchief.companymanagement.repository.EmployeeRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.mapstruct.factory.Mappers;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Exports all employees of a company as NDJSON, one line per employee. The checkpoint is the id of the last exported
+ * employee.
+ */
+@Component
+@RequiredArgsConstructor
+public class CompanyExportJobHandler implements JobHandler {
+    private static final byte[] LINE_SEPARATOR = {'\n'};
+
+    private final EmployeeRepository employeeRepository;
+    private final JobProperties properties;
+    private final ObjectMapper objectMapper;
+    private final EmployeeMapper mapper = Mappers.getMapper(EmployeeMapper.class);
+
+    @Override
+    public JobType type() {
+        return JobType.COMPANY_EXPORT;
+    }
+
+    @Override
+    public boolean runChunk(JobExecution execution) {
+        Long companyId = execution.getJob().companyId();
+        if (execution.getTotal() == null) {
+            execution.setTotal(employeeRepository.countByCompanyId(companyId));
+        }
+
+        long afterId = execution.getCheckpoint() == null ? 0 : Long.parseLong(execution.getCheckpoint());
+        List<Employee> employees = employeeRepository.findAllByCompanyIdAndIdGreaterThanOrderById(
+                companyId, afterId, PageRequest.ofSize(properties.getChunkSize()));
+        for (Employee employee : employees) {
+            EmployeeExportLine line = new EmployeeExportLine(employee.getDepartment().getId(),
+                    employee.getDepartment().getName(), mapper.toModel(employee));
+            execution.appendResult(toJson(line));
+            execution.appendResult(LINE_SEPARATOR);
+        }
+
+        if (!employees.isEmpty()) {
+            execution.addProgress(employees.size());
+            execution.setCheckpoint(String.valueOf(employees.get(employees.size() - 1).getId()));
+        }
+        return employees.size() == properties.getChunkSize();
+    }
+
+    @Override
+    public String resultLocation(Job job) {
+        return "/api/v0/jobs/" + job.id() + "/result";
+    }
+
+    private byte[] toJson(EmployeeExportLine line) {
+        try {
+            return objectMapper.writeValueAsBytes(line);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
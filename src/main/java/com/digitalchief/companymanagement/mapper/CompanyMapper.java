@@ -2,6 +2,7 @@ package com.digitalchief.companymanagement.mapper;
 
 import com.digitalchief.companymanagement.entity.Company;
 import com.digitalchief.companymanagement.entity.Employee;
+import com.digitalchief.companymanagement.entity.row.CompanyRow;
 import com.digitalchief.companymanagement.model.CompanyModel;
 import com.digitalchief.companymanagement.model.EmployeeModel;
 import org.mapstruct.BeanMapping;
@@ -11,6 +12,7 @@ import org.mapstruct.MappingTarget;
 import org.mapstruct.Mappings;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 
+import java.sql.Date;
 import java.util.List;
 
 @Mapper
@@ -18,19 +20,30 @@ public interface CompanyMapper {
 
     @Mappings({
             @Mapping(target = "id", ignore = true),
-            @Mapping(target = "departments", ignore = true)
+            @Mapping(target = "departments", ignore = true),
+            @Mapping(target = "version", ignore = true)
     })
     void copyAllFields(@MappingTarget Company target, Company source);
 
     @Mappings({
             @Mapping(target = "id", ignore = true),
             @Mapping(target = "departments", ignore = true),
+            @Mapping(target = "version", ignore = true),
     })
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void copyNotNullFields(@MappingTarget Company target, Company source);
 
+    @Mapping(target = "departments", ignore = true)
+    Company copy(Company source);
+
+    default Date copy(Date date) {
+        return date == null ? null : new Date(date.getTime());
+    }
+
     CompanyModel toModel(Company entity);
 
+    CompanyModel toModel(CompanyRow row);
+
     List<CompanyModel> toModel(List<Company> entities);
 
     Company toEntity(CompanyModel model);
@@ -2,6 +2,7 @@ package com.digitalchief.companymanagement.mapper;
 
 import com.digitalchief.companymanagement.entity.Department;
 import com.digitalchief.companymanagement.entity.Employee;
+import com.digitalchief.companymanagement.entity.row.DepartmentRow;
 import com.digitalchief.companymanagement.model.DepartmentModel;
 import com.digitalchief.companymanagement.model.EmployeeModel;
 import org.mapstruct.BeanMapping;
@@ -20,6 +21,7 @@ public interface DepartmentMapper {
             @Mapping(target = "id", ignore = true),
             @Mapping(target = "company", ignore = true),
             @Mapping(target = "employees", ignore = true),
+            @Mapping(target = "version", ignore = true),
     })
     void copyAllFields(@MappingTarget Department target, Department source);
 
@@ -27,12 +29,21 @@ public interface DepartmentMapper {
             @Mapping(target = "id", ignore = true),
             @Mapping(target = "company", ignore = true),
             @Mapping(target = "employees", ignore = true),
+            @Mapping(target = "version", ignore = true),
     })
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void copyNotNullFields(@MappingTarget Department target, Department source);
 
+    @Mappings({
+            @Mapping(target = "company", ignore = true),
+            @Mapping(target = "employees", ignore = true),
+    })
+    Department copy(Department source);
+
     DepartmentModel toModel(Department entity);
 
+    DepartmentModel toModel(DepartmentRow row);
+
     List<DepartmentModel> toModel(List<Department> entities);
 
     Department toEntity(DepartmentModel model);
@@ -1,6 +1,7 @@
 package com.digitalchief.companymanagement.mapper;
 
 import com.digitalchief.companymanagement.entity.Employee;
+import com.digitalchief.companymanagement.entity.row.EmployeeRow;
 import com.digitalchief.companymanagement.model.EmployeeModel;
 import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
@@ -9,6 +10,7 @@ import org.mapstruct.MappingTarget;
 import org.mapstruct.Mappings;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 
+import java.sql.Date;
 import java.util.List;
 
 @Mapper
@@ -16,22 +18,36 @@ public interface EmployeeMapper {
 
     @Mappings({
             @Mapping(target = "id", ignore = true),
-            @Mapping(target = "department", ignore = true)
+            @Mapping(target = "department", ignore = true),
+            @Mapping(target = "companyId", ignore = true),
+            @Mapping(target = "version", ignore = true)
     })
     void copyAllFields(@MappingTarget Employee target, Employee source);
 
     @Mappings({
             @Mapping(target = "id", ignore = true),
             @Mapping(target = "department", ignore = true),
+            @Mapping(target = "companyId", ignore = true),
+            @Mapping(target = "version", ignore = true),
     })
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void copyNotNullFields(@MappingTarget Employee target, Employee source);
 
+    @Mapping(target = "department", ignore = true)
+    Employee copy(Employee source);
+
+    default Date copy(Date date) {
+        return date == null ? null : new Date(date.getTime());
+    }
+
     EmployeeModel toModel(Employee entity);
 
+    EmployeeModel toModel(EmployeeRow row);
+
     List<EmployeeModel> toModel(List<Employee> entities);
 
     @Mapping(target = "dateOfEmployment", source = "dateOfEmployment")
+    @Mapping(target = "companyId", ignore = true)
     Employee toEntity(EmployeeModel model);
 
     List<Employee> toEntity(List<EmployeeModel> models);
@@ -0,0 +1,12 @@
+package com.digitalchief.companymanagement.mapper;
+
+import com.digitalchief.companymanagement.job.Job;
+import com.digitalchief.companymanagement.model.job.JobModel;
+import org.mapstruct.Mapper;
+
+@Mapper
+public interface JobMapper {
+
+    JobModel toModel(Job job);
+
+}
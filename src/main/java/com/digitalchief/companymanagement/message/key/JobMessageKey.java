@@ -0,0 +1,9 @@
+package com.digitalchief.companymanagement.message.key;
+
+public class JobMessageKey {
+
+    public static final String NOT_FOUND_BY_ID = "job.not-found.by-id";
+
+    public static final String RESULT_NOT_AVAILABLE = "job.result.not-available";
+
+}
@@ -0,0 +1,58 @@
+package com.digitalchief.companymanagement.metrics;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+
+/**
+ * Hibernate statistics that, besides the usual global counters, attribute entity loads and writes, and flushes to the
+ * request running on the current thread. Statements are counted at the JDBC level by {@link RequestStatementCounter}.
+ */
+public class RequestAwareStatistics extends StatisticsImpl {
+
+    public RequestAwareStatistics(SessionFactoryImplementor sessionFactory) {
+        super(sessionFactory);
+    }
+
+    @Override
+    public void loadEntity(String entityName) {
+        super.loadEntity(entityName);
+        RequestStatistics statistics = RequestStatistics.current();
+        if (statistics != null) {
+            statistics.entityLoaded();
+        }
+    }
+
+    @Override
+    public void insertEntity(String entityName) {
+        super.insertEntity(entityName);
+        entityWritten();
+    }
+
+    @Override
+    public void updateEntity(String entityName) {
+        super.updateEntity(entityName);
+        entityWritten();
+    }
+
+    @Override
+    public void deleteEntity(String entityName) {
+        super.deleteEntity(entityName);
+        entityWritten();
+    }
+
+    @Override
+    public void flush() {
+        super.flush();
+        RequestStatistics statistics = RequestStatistics.current();
+        if (statistics != null) {
+            statistics.flushed();
+        }
+    }
+
+    private static void entityWritten() {
+        RequestStatistics statistics = RequestStatistics.current();
+        if (statistics != null) {
+            statistics.entityWritten();
+        }
+    }
+}
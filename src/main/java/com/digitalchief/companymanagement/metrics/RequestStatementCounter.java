@@ -0,0 +1,20 @@
+package com.digitalchief.companymanagement.metrics;
+
+import com.digitalchief.companymanagement.sql.QueryListener;
+
+import java.util.List;
+
+/**
+ * Attributes every JDBC statement executed through the application's data source to the request running on the
+ * current thread, whether Hibernate or a {@code JdbcTemplate} sent it. A JDBC batch counts once, it is one round trip.
+ */
+public class RequestStatementCounter implements QueryListener {
+
+    @Override
+    public void onQuery(String sql, List<Object> parameters, long elapsedNanos) {
+        RequestStatistics statistics = RequestStatistics.current();
+        if (statistics != null) {
+            statistics.statementExecuted();
+        }
+    }
+}
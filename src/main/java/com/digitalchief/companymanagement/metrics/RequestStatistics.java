@@ -0,0 +1,83 @@
+package com.digitalchief.companymanagement.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Database work done on behalf of one HTTP request. Bound to the request thread and handed over to bulkhead threads
+ * that execute the request's controller call.
+ */
+public final class RequestStatistics {
+    public static final String ATTRIBUTE = RequestStatistics.class.getName();
+
+    private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private final String endpoint;
+    private final AtomicLong statements = new AtomicLong();
+    private final AtomicLong entitiesLoaded = new AtomicLong();
+    private final AtomicLong entitiesWritten = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+
+    public RequestStatistics() {
+        this(null);
+    }
+
+    /**
+     * @param endpoint method and path of the request, e.g. {@code GET /api/v0/companies/1}
+     */
+    public RequestStatistics(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public static RequestStatistics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds the statistics to the current thread and returns the previously bound ones, to be restored afterwards.
+     */
+    public static RequestStatistics bind(RequestStatistics statistics) {
+        RequestStatistics previous = CURRENT.get();
+        if (statistics == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(statistics);
+        }
+        return previous;
+    }
+
+    void statementExecuted() {
+        statements.incrementAndGet();
+    }
+
+    void entityLoaded() {
+        entitiesLoaded.incrementAndGet();
+    }
+
+    void entityWritten() {
+        entitiesWritten.incrementAndGet();
+    }
+
+    void flushed() {
+        flushes.incrementAndGet();
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getStatements() {
+        return statements.get();
+    }
+
+    public long getEntitiesLoaded() {
+        return entitiesLoaded.get();
+    }
+
+    public long getEntitiesWritten() {
+        return entitiesWritten.get();
+    }
+
+    public long getFlushes() {
+        return flushes.get();
+    }
+}
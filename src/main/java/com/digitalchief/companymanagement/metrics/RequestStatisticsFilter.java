@@ -0,0 +1,54 @@
+package com.digitalchief.companymanagement.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many SQL statements, entity loads and flushes each request caused, tagged like
+ * {@code http.server.requests} so that a slow endpoint can be matched with the database work behind it.
+ */
+@RequiredArgsConstructor
+public class RequestStatisticsFilter extends OncePerRequestFilter {
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestStatistics statistics = new RequestStatistics(request.getMethod() + " " + request.getRequestURI());
+        request.setAttribute(RequestStatistics.ATTRIBUTE, statistics);
+        RequestStatistics previous = RequestStatistics.bind(statistics);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestStatistics.bind(previous);
+            record(request, statistics);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestStatistics statistics) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("method", request.getMethod(), "uri", pattern != null ? pattern.toString() : UNKNOWN_URI);
+        summary("hibernate.request.statements", "statements", tags).record(statistics.getStatements());
+        summary("hibernate.request.entities.loaded", "entities", tags).record(statistics.getEntitiesLoaded());
+        summary("hibernate.request.flushes", "flushes", tags).record(statistics.getFlushes());
+    }
+
+    private DistributionSummary summary(String name, String baseUnit, Tags tags) {
+        return DistributionSummary.builder(name)
+                .baseUnit(baseUnit)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+}
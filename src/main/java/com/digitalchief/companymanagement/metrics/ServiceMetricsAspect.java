@@ -0,0 +1,54 @@
+package com.digitalchief.companymanagement.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Times every public method of the company, department and employee services. The timer sits outside the transaction
+ * interceptor, so commit time is included, and inside the concurrency limit, so rejected calls are not. It also
+ * publishes the running method as the current {@link ServiceOperation}.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    @Pointcut("execution(public * com.digitalchief.companymanagement.service.impl.CompanyServiceImpl.*(..))"
+            + " || execution(public * com.digitalchief.companymanagement.service.impl.DepartmentServiceImpl.*(..))"
+            + " || execution(public * com.digitalchief.companymanagement.service.impl.EmployeeServiceImpl.*(..))")
+    public void entityServices() {
+    }
+
+    @Around("entityServices()")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        String previousOperation = ServiceOperation.enter(service + "." + method);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = NONE;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            ServiceOperation.exit(previousOperation);
+            sample.stop(Timer.builder("service.invocations")
+                    .description("Duration of service method invocations")
+                    .tag("service", service)
+                    .tag("method", method)
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
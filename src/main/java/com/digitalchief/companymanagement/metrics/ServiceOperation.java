@@ -0,0 +1,30 @@
+package com.digitalchief.companymanagement.metrics;
+
+/**
+ * Service method the current thread is executing, e.g. {@code CompanyServiceImpl.findById}, for diagnostics taken
+ * below the service layer. Maintained by {@link ServiceMetricsAspect}; nested calls restore the outer method.
+ */
+public final class ServiceOperation {
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ServiceOperation() {
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    static String enter(String operation) {
+        String previous = CURRENT.get();
+        CURRENT.set(operation);
+        return previous;
+    }
+
+    static void exit(String previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
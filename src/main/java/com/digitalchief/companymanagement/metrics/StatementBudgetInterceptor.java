@@ -0,0 +1,54 @@
+package com.digitalchief.companymanagement.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Reports requests that executed more SQL statements than their budget, which usually means an N+1 query. Every
+ * overrun is counted, only a sample of them is logged.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class StatementBudgetInterceptor implements HandlerInterceptor {
+    private final StatementBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(request.getAttribute(RequestStatistics.ATTRIBUTE) instanceof RequestStatistics statistics)) {
+            return;
+        }
+        int budget = budget(handler);
+        long statements = statistics.getStatements();
+        if (statements <= budget) {
+            return;
+        }
+
+        String uri = String.valueOf(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+        meterRegistry.counter("hibernate.request.budget.exceeded", "method", request.getMethod(), "uri", uri)
+                .increment();
+        if (ThreadLocalRandom.current().nextDouble() < properties.getLogSampleRate()) {
+            log.warn("{} {} executed {} SQL statements, its budget is {}", request.getMethod(),
+                    request.getRequestURI(), statements, budget);
+        }
+    }
+
+    private int budget(Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            StatementBudget statementBudget = handlerMethod.getMethodAnnotation(StatementBudget.class);
+            if (statementBudget != null) {
+                return statementBudget.value();
+            }
+        }
+        return properties.getDefaultBudget();
+    }
+}
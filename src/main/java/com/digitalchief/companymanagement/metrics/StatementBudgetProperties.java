@@ -0,0 +1,17 @@
+package com.digitalchief.companymanagement.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "company-management.statement-budget")
+public class StatementBudgetProperties {
+
+    private boolean enabled = true;
+
+    private int defaultBudget = 10;
+
+    private double logSampleRate = 0.1;
+}
@@ -0,0 +1,74 @@
+package com.digitalchief.companymanagement.migration;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Refuses to start a node whose database lacks changesets of the changelog it was built with. Serving nodes do not run
+ * Liquibase, so instead of taking its lock and checksumming every script they compare the included files with the
+ * {@code databasechangelog} table in one query. Includes limited to a context, such as the demo data, are optional.
+ */
+public class SchemaVersionVerifier implements SmartInitializingSingleton {
+    private static final String APPLIED_CHANGELOGS_SQL = "SELECT DISTINCT filename FROM databasechangelog";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Resource changeLog;
+
+    public SchemaVersionVerifier(JdbcTemplate jdbcTemplate, Resource changeLog) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.changeLog = changeLog;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        verify();
+    }
+
+    public void verify() {
+        Set<String> applied = new HashSet<>();
+        for (String filename : jdbcTemplate.queryForList(APPLIED_CHANGELOGS_SQL, String.class)) {
+            applied.add(normalize(filename));
+        }
+        List<String> missing = requiredChangeLogs().stream()
+                .filter(file -> !applied.contains(file))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Database schema is behind the application, missing changelogs " + missing
+                    + ". Apply them with the --migrate run mode first.");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> requiredChangeLogs() {
+        Map<String, Object> root;
+        try (InputStream inputStream = changeLog.getInputStream()) {
+            root = new Yaml().load(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + changeLog, e);
+        }
+        List<String> files = new ArrayList<>();
+        for (Map<String, Object> entry : (List<Map<String, Object>>) root.get("databaseChangeLog")) {
+            if (entry.get("include") instanceof Map<?, ?> include
+                    && include.get("contextFilter") == null && include.get("context") == null) {
+                files.add(normalize((String) include.get("file")));
+            }
+        }
+        return files;
+    }
+
+    private static String normalize(String file) {
+        String path = file.startsWith("classpath:") ? file.substring("classpath:".length()) : file;
+        return path.startsWith("/") ? path.substring(1) : path;
+    }
+}
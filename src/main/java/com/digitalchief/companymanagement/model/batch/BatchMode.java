@@ -0,0 +1,6 @@
+package com.digitalchief.companymanagement.model.batch;
+
+public enum BatchMode {
+    ALL_OR_NOTHING,
+    BEST_EFFORT
+}
@@ -0,0 +1,38 @@
+package com.digitalchief.companymanagement.model.batch;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "Single operation of a batch")
+public class BatchOperation {
+
+    @NotNull
+    @Schema(description = "Service method to call", example = "PATCH_DEPARTMENT")
+    @JsonProperty(value = "type")
+    private BatchOperationType type;
+
+    @Schema(description = "ID of the company the operation targets", example = "1")
+    @JsonProperty(value = "companyId")
+    private Long companyId;
+
+    @Schema(description = "ID of the department the operation targets", example = "1")
+    @JsonProperty(value = "departmentId")
+    private Long departmentId;
+
+    @Schema(description = "ID of the employee the operation targets", example = "1")
+    @JsonProperty(value = "employeeId")
+    private Long employeeId;
+
+    @Schema(description = "Company, department or employee model, as accepted by the matching endpoint",
+            example = "{\"annualBudget\": 120000.00}")
+    @JsonProperty(value = "body")
+    private JsonNode body;
+}
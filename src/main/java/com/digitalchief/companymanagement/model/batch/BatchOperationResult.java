@@ -0,0 +1,34 @@
+package com.digitalchief.companymanagement.model.batch;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Result of a single batch operation")
+public class BatchOperationResult {
+
+    @Schema(description = "Position of the operation in the request", example = "0")
+    private int index;
+
+    @Schema(description = "Service method that was called", example = "CREATE_DEPARTMENT")
+    private BatchOperationType type;
+
+    @Schema(description = "Outcome of the operation", example = "SUCCEEDED")
+    private BatchOperationStatus status;
+
+    @Schema(description = "ID of the created or changed entity", example = "11")
+    private Long id;
+
+    @Schema(description = "Error message of a failed operation")
+    private String error;
+}
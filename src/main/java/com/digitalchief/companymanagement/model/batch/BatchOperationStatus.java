@@ -0,0 +1,8 @@
+package com.digitalchief.companymanagement.model.batch;
+
+public enum BatchOperationStatus {
+    SUCCEEDED,
+    FAILED,
+    ROLLED_BACK,
+    SKIPPED
+}
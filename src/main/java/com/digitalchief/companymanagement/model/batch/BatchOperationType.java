@@ -0,0 +1,16 @@
+package com.digitalchief.companymanagement.model.batch;
+
+public enum BatchOperationType {
+    CREATE_COMPANY,
+    UPDATE_COMPANY,
+    PATCH_COMPANY,
+    DELETE_COMPANY,
+    CREATE_DEPARTMENT,
+    UPDATE_DEPARTMENT,
+    PATCH_DEPARTMENT,
+    DELETE_DEPARTMENT,
+    CREATE_EMPLOYEE,
+    UPDATE_EMPLOYEE,
+    PATCH_EMPLOYEE,
+    DELETE_EMPLOYEE
+}
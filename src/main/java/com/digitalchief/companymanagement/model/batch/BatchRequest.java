@@ -0,0 +1,32 @@
+package com.digitalchief.companymanagement.model.batch;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "Batch Request")
+public class BatchRequest {
+
+    @NotNull
+    @Schema(description = "Whether a failed operation rolls back the whole batch", example = "ALL_OR_NOTHING")
+    @JsonProperty(value = "mode")
+    private BatchMode mode = BatchMode.ALL_OR_NOTHING;
+
+    @Valid
+    @NotEmpty
+    @Size(max = 100)
+    @Schema(description = "Operations, executed in the given order")
+    @JsonProperty(value = "operations")
+    private List<BatchOperation> operations;
+}
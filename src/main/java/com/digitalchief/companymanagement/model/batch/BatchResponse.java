@@ -0,0 +1,28 @@
+package com.digitalchief.companymanagement.model.batch;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Batch Response")
+public class BatchResponse {
+
+    @Schema(description = "Mode the batch was executed in", example = "BEST_EFFORT")
+    private BatchMode mode;
+
+    @Schema(description = "Whether the transaction was committed", example = "true")
+    private boolean committed;
+
+    @Schema(description = "Per-operation results in request order")
+    private List<BatchOperationResult> results;
+}
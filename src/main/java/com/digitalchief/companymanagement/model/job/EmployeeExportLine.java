@@ -0,0 +1,6 @@
+package com.digitalchief.companymanagement.model.job;
+
+import com.digitalchief.companymanagement.model.EmployeeModel;
+
+public record EmployeeExportLine(Long departmentId, String departmentName, EmployeeModel employee) {
+}
@@ -0,0 +1,48 @@
+package com.digitalchief.companymanagement.model.job;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Job Model")
+public class JobModel {
+
+    @Schema(description = "ID of the job", example = "1")
+    private Long id;
+
+    @Schema(description = "Kind of work", example = "COMPANY_EXPORT")
+    private JobType type;
+
+    @Schema(description = "Current state of the job", example = "RUNNING")
+    private JobStatus status;
+
+    @Schema(description = "ID of the company the job works on", example = "1")
+    private Long companyId;
+
+    @Schema(description = "Number of processed items", example = "500")
+    private long progress;
+
+    @Schema(description = "Number of items to process, known once the job has started", example = "1200")
+    private Long total;
+
+    @Schema(description = "Where the result can be downloaded once the job has succeeded",
+            example = "/api/v0/jobs/1/result")
+    private String resultLocation;
+
+    @Schema(description = "Error message of a failed job")
+    private String error;
+
+    @Schema(description = "Time the job was submitted")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "Time of the last status or progress change")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,25 @@
+package com.digitalchief.companymanagement.model.job;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "Job Request")
+public class JobRequest {
+
+    @NotNull
+    @Schema(description = "Kind of work to run in the background", example = "COMPANY_EXPORT")
+    @JsonProperty(value = "type")
+    private JobType type;
+
+    @NotNull
+    @Schema(description = "ID of the company the job works on", example = "1")
+    @JsonProperty(value = "companyId")
+    private Long companyId;
+}
@@ -0,0 +1,8 @@
+package com.digitalchief.companymanagement.model.job;
+
+public enum JobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
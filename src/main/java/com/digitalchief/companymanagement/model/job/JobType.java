@@ -0,0 +1,6 @@
+package com.digitalchief.companymanagement.model.job;
+
+public enum JobType {
+    COMPANY_EXPORT,
+    COMPANY_DELETE
+}
@@ -0,0 +1,19 @@
+package com.digitalchief.companymanagement.ratelimit;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(Duration retryAfter) {
+        this(Math.max(1, retryAfter.plusNanos(999_999_999).toSeconds()));
+    }
+
+    private RateLimitExceededException(long retryAfterSeconds) {
+        super("Too many requests, retry after " + retryAfterSeconds + " s");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,42 @@
+package com.digitalchief.companymanagement.ratelimit;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final int maxPageSize;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // an async result is dispatched through the interceptors again, the request was charged on its first pass
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        rateLimiter.acquire(request.getRemoteAddr(), cost(request));
+        return true;
+    }
+
+    private int cost(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return properties.getWriteCost();
+        }
+        String size = request.getParameter("size");
+        if (size == null) {
+            return 1;
+        }
+        int pageSize;
+        try {
+            pageSize = Math.min(Math.max(Integer.parseInt(size), 1), maxPageSize);
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+        return 1 + (pageSize - 1) / properties.getItemsPerToken();
+    }
+}
@@ -0,0 +1,27 @@
+package com.digitalchief.companymanagement.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "company-management.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    private int capacity = 100;
+
+    private double tokensPerSecond = 20;
+
+    private int itemsPerToken = 20;
+
+    private int writeCost = 2;
+
+    private long maxClients = 10_000;
+
+    private Duration idleTimeout = Duration.ofMinutes(10);
+}
@@ -0,0 +1,44 @@
+package com.digitalchief.companymanagement.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+public class RateLimiter {
+    private final RateLimitProperties properties;
+    private final LongSupplier nanoClock;
+    private final Cache<String, TokenBucket> buckets;
+    private final Counter admitted;
+    private final Counter rejected;
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxClients())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+        this.admitted = meterRegistry.counter("rate.limit.requests", "outcome", "admitted");
+        this.rejected = meterRegistry.counter("rate.limit.requests", "outcome", "rejected");
+    }
+
+    public void acquire(String client, int cost) {
+        long now = nanoClock.getAsLong();
+        TokenBucket bucket = buckets.get(client,
+                key -> new TokenBucket(properties.getCapacity(), properties.getTokensPerSecond(), now));
+        long waitNanos = bucket.tryAcquire(Math.min(cost, properties.getCapacity()), now);
+        if (waitNanos > 0) {
+            rejected.increment();
+            throw new RateLimitExceededException(Duration.ofNanos(waitNanos));
+        }
+        admitted.increment();
+    }
+}
@@ -0,0 +1,39 @@
+package com.digitalchief.companymanagement.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket implemented as a generic cell rate algorithm: the whole state is the theoretical arrival time of the
+ * next request, updated with a single CAS, so concurrent requests of one client never block each other.
+ */
+public class TokenBucket {
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(int capacity, double tokensPerSecond, long nowNanos) {
+        this.emissionIntervalNanos = Math.max(1, (long) (1_000_000_000L / tokensPerSecond));
+        this.burstNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * @return {@code 0} if the tokens were taken, otherwise the number of nanoseconds after which the same request
+     * would be admitted
+     */
+    public long tryAcquire(int tokens, long nowNanos) {
+        long increment = emissionIntervalNanos * tokens;
+        while (true) {
+            long current = theoreticalArrival.get();
+            long start = current - nowNanos > 0 ? current : nowNanos;
+            long next = start + increment;
+            long excess = next - nowNanos - burstNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
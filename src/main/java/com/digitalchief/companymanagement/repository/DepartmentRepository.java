@@ -5,6 +5,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +16,8 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
     List<Department> findAllByCompanyIdAndId(Long companyId, Long departmentId);
 
     Optional<Department> findByCompanyIdAndId(Long companyId, Long id);
+
+    List<Department> findAllByCompanyIdIn(Collection<Long> companyIds);
+
+    long countByCompanyId(Long companyId);
 }
\ No newline at end of file
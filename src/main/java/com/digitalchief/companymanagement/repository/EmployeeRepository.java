@@ -2,18 +2,30 @@ package com.digitalchief.companymanagement.repository;
 
 import com.digitalchief.companymanagement.entity.Employee;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
-    List<Employee> findAllByDepartmentIdAndId(Long departmentId, Long id, Pageable pageable);
+    List<Employee> findAllByCompanyIdAndDepartmentId(Long companyId, Long departmentId, Pageable pageable);
 
-    Optional<Employee> findByDepartmentIdAndId(Long departmentId, Long id);
+    Optional<Employee> findByCompanyIdAndDepartmentIdAndId(Long companyId, Long departmentId, Long id);
 
+    List<Employee> findAllByCompanyIdInAndDepartmentIdIn(Collection<Long> companyIds, Collection<Long> departmentIds);
+
+    @EntityGraph(attributePaths = "department")
+    List<Employee> findAllByCompanyIdAndIdGreaterThanOrderById(Long companyId, Long id, Pageable pageable);
+
+    long countByCompanyId(Long companyId);
+
+    // e-mails are unique across companies, only employee_emails can look one up without visiting every partition
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM employee_emails WHERE email = :email)", nativeQuery = true)
     boolean existsByEmail(String email);
 }
@@ -0,0 +1,12 @@
+package com.digitalchief.companymanagement.repository.reactive;
+
+import com.digitalchief.companymanagement.entity.row.CompanyRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+public interface CompanyReactiveRepository extends R2dbcRepository<CompanyRow, Long> {
+    Flux<CompanyRow> findAllBy(Pageable pageable);
+}
@@ -0,0 +1,17 @@
+package com.digitalchief.companymanagement.repository.reactive;
+
+import com.digitalchief.companymanagement.entity.row.DepartmentRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface DepartmentReactiveRepository extends R2dbcRepository<DepartmentRow, Long> {
+    Flux<DepartmentRow> findAllByCompanyId(Long companyId, Pageable pageable);
+
+    Mono<DepartmentRow> findByCompanyIdAndId(Long companyId, Long id);
+
+    Mono<Boolean> existsByCompanyIdAndId(Long companyId, Long id);
+}
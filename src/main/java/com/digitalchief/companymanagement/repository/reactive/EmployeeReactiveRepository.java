@@ -0,0 +1,15 @@
+package com.digitalchief.companymanagement.repository.reactive;
+
+import com.digitalchief.companymanagement.entity.row.EmployeeRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface EmployeeReactiveRepository extends R2dbcRepository<EmployeeRow, Long> {
+    Flux<EmployeeRow> findAllByCompanyIdAndDepartmentId(Long companyId, Long departmentId, Pageable pageable);
+
+    Mono<EmployeeRow> findByCompanyIdAndDepartmentIdAndId(Long companyId, Long departmentId, Long id);
+}
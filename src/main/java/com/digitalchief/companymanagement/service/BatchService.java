@@ -0,0 +1,10 @@
+package com.digitalchief.companymanagement.service;
+
+import com.digitalchief.companymanagement.model.batch.BatchRequest;
+import com.digitalchief.companymanagement.model.batch.BatchResponse;
+
+public interface BatchService {
+
+    BatchResponse execute(BatchRequest request);
+
+}
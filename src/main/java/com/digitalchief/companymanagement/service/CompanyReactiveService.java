@@ -0,0 +1,14 @@
+package com.digitalchief.companymanagement.service;
+
+import com.digitalchief.companymanagement.entity.row.CompanyRow;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface CompanyReactiveService {
+
+    Flux<CompanyRow> findAllByPageable(Pageable pageable);
+
+    Mono<CompanyRow> findById(Long companyId);
+
+}
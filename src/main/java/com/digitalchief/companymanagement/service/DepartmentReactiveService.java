@@ -0,0 +1,14 @@
+package com.digitalchief.companymanagement.service;
+
+import com.digitalchief.companymanagement.entity.row.DepartmentRow;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface DepartmentReactiveService {
+
+    Flux<DepartmentRow> findAllByCompanyIdWithPagination(Long companyId, Pageable pageable);
+
+    Mono<DepartmentRow> findByCompanyAndDepartmentId(Long companyId, Long departmentId);
+
+}
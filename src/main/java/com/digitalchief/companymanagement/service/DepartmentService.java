@@ -3,6 +3,7 @@ package com.digitalchief.companymanagement.service;
 import com.digitalchief.companymanagement.entity.Department;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface DepartmentService {
@@ -13,6 +14,8 @@ public interface DepartmentService {
 
     Department findById(Long departmentId);
 
+    List<Department> findAllByCompanyIds(Collection<Long> companyIds);
+
     Department createDepartmentInCompany(Department department, Long companyId);
 
     void updateDepartmentInCompanyById(Long companyId, Long departmentId, Department updateDepartment);
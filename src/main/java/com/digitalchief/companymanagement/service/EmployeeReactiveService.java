@@ -0,0 +1,15 @@
+package com.digitalchief.companymanagement.service;
+
+import com.digitalchief.companymanagement.entity.row.EmployeeRow;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface EmployeeReactiveService {
+
+    Flux<EmployeeRow> findAllByCompanyAndDepartmentIdWithPagination(
+            Long companyId, Long departmentId, Pageable pageable);
+
+    Mono<EmployeeRow> findByCompanyAndDepartmentAndEmployeeId(Long companyId, Long departmentId, Long employeeId);
+
+}
@@ -3,6 +3,7 @@ package com.digitalchief.companymanagement.service;
 import com.digitalchief.companymanagement.entity.Employee;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface EmployeeService {
@@ -10,6 +11,8 @@ public interface EmployeeService {
 
     Employee findByCompanyAndDepartmentAndEmployeeId(Long companyId, Long departmentId, Long employeeId);
 
+    List<Employee> findAllByCompanyAndDepartmentIds(Collection<Long> companyIds, Collection<Long> departmentIds);
+
     Employee createEmployeeInDepartment(Employee employee, Long companyId, Long departmentId);
 
     void updateEmployeeInDepartmentById(Long companyId, Long departmentId, Long employeeId, Employee updateEmployee);
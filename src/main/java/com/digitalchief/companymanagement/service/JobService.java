@@ -0,0 +1,18 @@
+package com.digitalchief.companymanagement.service;
+
+import com.digitalchief.companymanagement.job.Job;
+import com.digitalchief.companymanagement.model.job.JobType;
+
+import java.io.OutputStream;
+
+public interface JobService {
+
+    Job submitJob(JobType type, Long companyId);
+
+    Job findById(Long jobId);
+
+    Job findWithResultById(Long jobId);
+
+    void writeResultById(Long jobId, OutputStream output);
+
+}
@@ -0,0 +1,9 @@
+package com.digitalchief.companymanagement.service.exception;
+
+import java.util.List;
+
+public class BatchValidationException extends RuntimeException {
+    public BatchValidationException(List<String> errors) {
+        super(String.join("; ", errors));
+    }
+}
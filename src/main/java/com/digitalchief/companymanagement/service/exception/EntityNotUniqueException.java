@@ -4,4 +4,8 @@ public class EntityNotUniqueException extends RuntimeException {
     public EntityNotUniqueException(String message) {
         super(message);
     }
+
+    public EntityNotUniqueException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
@@ -0,0 +1,235 @@
+package com.digitalchief.companymanagement.service.impl;
+
+import com.digitalchief.companymanagement.entity.Company;
+import com.digitalchief.companymanagement.entity.Department;
+import com.digitalchief.companymanagement.entity.Employee;
+import com.digitalchief.companymanagement.mapper.CompanyMapper;
+import com.digitalchief.companymanagement.mapper.DepartmentMapper;
+import com.digitalchief.companymanagement.mapper.EmployeeMapper;
+import com.digitalchief.companymanagement.model.CompanyModel;
+import com.digitalchief.companymanagement.model.DepartmentModel;
+import com.digitalchief.companymanagement.model.EmployeeModel;
+import com.digitalchief.companymanagement.model.batch.BatchMode;
+import com.digitalchief.companymanagement.model.batch.BatchOperation;
+import com.digitalchief.companymanagement.model.batch.BatchOperationResult;
+import com.digitalchief.companymanagement.model.batch.BatchOperationStatus;
+import com.digitalchief.companymanagement.model.batch.BatchOperationType;
+import com.digitalchief.companymanagement.model.batch.BatchRequest;
+import com.digitalchief.companymanagement.model.batch.BatchResponse;
+import com.digitalchief.companymanagement.service.BatchService;
+import com.digitalchief.companymanagement.service.CompanyService;
+import com.digitalchief.companymanagement.service.DepartmentService;
+import com.digitalchief.companymanagement.service.EmployeeService;
+import com.digitalchief.companymanagement.service.exception.BatchValidationException;
+import com.digitalchief.companymanagement.transaction.SavepointScope;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.mapstruct.factory.Mappers;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class BatchServiceImpl implements BatchService {
+    private final CompanyService companyService;
+    private final DepartmentService departmentService;
+    private final EmployeeService employeeService;
+    private final EntityManager entityManager;
+    private final SavepointScope savepointScope;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final CompanyMapper companyMapper = Mappers.getMapper(CompanyMapper.class);
+    private final DepartmentMapper departmentMapper = Mappers.getMapper(DepartmentMapper.class);
+    private final EmployeeMapper employeeMapper = Mappers.getMapper(EmployeeMapper.class);
+
+    @Override
+    @Transactional
+    public BatchResponse execute(BatchRequest request) {
+        List<PreparedOperation> operations = prepare(request.getOperations());
+        List<BatchOperationResult> results = new ArrayList<>();
+
+        // best effort runs every operation behind a savepoint, a failure rolls back to that savepoint only
+        boolean bestEffort = request.getMode() == BatchMode.BEST_EFFORT;
+
+        for (PreparedOperation operation : operations) {
+            try {
+                Long id = bestEffort ? savepointScope.run(() -> runAndFlush(operation)) : runAndFlush(operation);
+                results.add(result(operation, BatchOperationStatus.SUCCEEDED).id(id).build());
+            } catch (RuntimeException e) {
+                results.add(result(operation, BatchOperationStatus.FAILED).error(e.getMessage()).build());
+                if (!bestEffort || isRollbackOnly()) {
+                    return rollback(request.getMode(), operations, results);
+                }
+            }
+        }
+        return BatchResponse.builder()
+                .mode(request.getMode())
+                .committed(true)
+                .results(results)
+                .build();
+    }
+
+    private List<PreparedOperation> prepare(List<BatchOperation> operations) {
+        List<PreparedOperation> prepared = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < operations.size(); i++) {
+            BatchOperation operation = operations.get(i);
+            String path = "operations[" + i + "]";
+            requireIds(operation, path, errors);
+            prepared.add(new PreparedOperation(i, operation, toEntity(operation, path, errors)));
+        }
+        if (!errors.isEmpty()) {
+            throw new BatchValidationException(errors);
+        }
+        return prepared;
+    }
+
+    private void requireIds(BatchOperation operation, String path, List<String> errors) {
+        boolean companyRequired = operation.getType() != BatchOperationType.CREATE_COMPANY;
+        boolean departmentRequired = switch (operation.getType()) {
+            case UPDATE_DEPARTMENT, PATCH_DEPARTMENT, DELETE_DEPARTMENT,
+                    CREATE_EMPLOYEE, UPDATE_EMPLOYEE, PATCH_EMPLOYEE, DELETE_EMPLOYEE -> true;
+            default -> false;
+        };
+        boolean employeeRequired = switch (operation.getType()) {
+            case UPDATE_EMPLOYEE, PATCH_EMPLOYEE, DELETE_EMPLOYEE -> true;
+            default -> false;
+        };
+
+        if (companyRequired && operation.getCompanyId() == null) {
+            errors.add(path + ".companyId: must not be null");
+        }
+        if (departmentRequired && operation.getDepartmentId() == null) {
+            errors.add(path + ".departmentId: must not be null");
+        }
+        if (employeeRequired && operation.getEmployeeId() == null) {
+            errors.add(path + ".employeeId: must not be null");
+        }
+    }
+
+    private Object toEntity(BatchOperation operation, String path, List<String> errors) {
+        Class<?> modelType = switch (operation.getType()) {
+            case CREATE_COMPANY, UPDATE_COMPANY, PATCH_COMPANY -> CompanyModel.class;
+            case CREATE_DEPARTMENT, UPDATE_DEPARTMENT, PATCH_DEPARTMENT -> DepartmentModel.class;
+            case CREATE_EMPLOYEE, UPDATE_EMPLOYEE, PATCH_EMPLOYEE -> EmployeeModel.class;
+            case DELETE_COMPANY, DELETE_DEPARTMENT, DELETE_EMPLOYEE -> null;
+        };
+        if (modelType == null) {
+            return null;
+        }
+        if (operation.getBody() == null || operation.getBody().isNull()) {
+            errors.add(path + ".body: must not be null");
+            return null;
+        }
+
+        Object model;
+        try {
+            model = objectMapper.treeToValue(operation.getBody(), modelType);
+        } catch (JsonProcessingException e) {
+            errors.add(path + ".body: " + e.getOriginalMessage());
+            return null;
+        }
+        boolean partial = switch (operation.getType()) {
+            case PATCH_COMPANY, PATCH_DEPARTMENT, PATCH_EMPLOYEE -> true;
+            default -> false;
+        };
+        // partial updates are not validated by the PATCH endpoints either
+        if (!partial) {
+            for (ConstraintViolation<Object> violation : validator.validate(model)) {
+                errors.add(path + ".body." + violation.getPropertyPath() + ": " + violation.getMessage());
+            }
+        }
+
+        if (model instanceof CompanyModel companyModel) {
+            return companyMapper.toEntity(companyModel);
+        }
+        if (model instanceof DepartmentModel departmentModel) {
+            return departmentMapper.toEntity(departmentModel);
+        }
+        return employeeMapper.toEntity((EmployeeModel) model);
+    }
+
+    private Long runAndFlush(PreparedOperation operation) {
+        Long id = run(operation);
+        entityManager.flush();
+        return id;
+    }
+
+    private Long run(PreparedOperation prepared) {
+        BatchOperation operation = prepared.operation();
+        Long companyId = operation.getCompanyId();
+        Long departmentId = operation.getDepartmentId();
+        Long employeeId = operation.getEmployeeId();
+
+        switch (operation.getType()) {
+            case CREATE_COMPANY -> {
+                return companyService.createCompany((Company) prepared.entity()).getId();
+            }
+            case UPDATE_COMPANY -> companyService.updateCompanyById(companyId, (Company) prepared.entity());
+            case PATCH_COMPANY -> companyService.updateCompanyPartiallyById(companyId, (Company) prepared.entity());
+            case DELETE_COMPANY -> companyService.deleteCompanyById(companyId);
+            case CREATE_DEPARTMENT -> {
+                return departmentService.createDepartmentInCompany((Department) prepared.entity(), companyId)
+                        .getId();
+            }
+            case UPDATE_DEPARTMENT -> departmentService.updateDepartmentInCompanyById(
+                    companyId, departmentId, (Department) prepared.entity());
+            case PATCH_DEPARTMENT -> departmentService.updateDepartmentInCompanyPartiallyById(
+                    companyId, departmentId, (Department) prepared.entity());
+            case DELETE_DEPARTMENT -> departmentService.deleteDepartmentFromCompanyById(companyId, departmentId);
+            case CREATE_EMPLOYEE -> {
+                return employeeService.createEmployeeInDepartment((Employee) prepared.entity(), companyId,
+                        departmentId).getId();
+            }
+            case UPDATE_EMPLOYEE -> employeeService.updateEmployeeInDepartmentById(
+                    companyId, departmentId, employeeId, (Employee) prepared.entity());
+            case PATCH_EMPLOYEE -> employeeService.updateEmployeeInDepartmentPartiallyById(
+                    companyId, departmentId, employeeId, (Employee) prepared.entity());
+            case DELETE_EMPLOYEE -> employeeService.deleteEmployeeFromDepartmentById(
+                    companyId, departmentId, employeeId);
+        }
+        return employeeId != null ? employeeId : departmentId != null ? departmentId : companyId;
+    }
+
+    private BatchResponse rollback(BatchMode mode, List<PreparedOperation> operations,
+                                   List<BatchOperationResult> results) {
+        TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        for (BatchOperationResult result : results) {
+            if (result.getStatus() == BatchOperationStatus.SUCCEEDED) {
+                result.setStatus(BatchOperationStatus.ROLLED_BACK);
+            }
+        }
+        for (PreparedOperation operation : operations.subList(results.size(), operations.size())) {
+            results.add(result(operation, BatchOperationStatus.SKIPPED).build());
+        }
+        return BatchResponse.builder()
+                .mode(mode)
+                .committed(false)
+                .results(results)
+                .build();
+    }
+
+    // Hibernate marks the transaction rollback-only on persistence errors, a savepoint cannot undo that
+    private boolean isRollbackOnly() {
+        return TransactionAspectSupport.currentTransactionStatus().isRollbackOnly();
+    }
+
+    private static BatchOperationResult.BatchOperationResultBuilder result(PreparedOperation operation,
+                                                                           BatchOperationStatus status) {
+        return BatchOperationResult.builder()
+                .index(operation.index())
+                .type(operation.operation().getType())
+                .status(status);
+    }
+
+    private record PreparedOperation(int index, BatchOperation operation, Object entity) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.digitalchief.companymanagement.service.impl;
+
+import com.digitalchief.companymanagement.entity.row.CompanyRow;
+import com.digitalchief.companymanagement.message.key.CompanyMessageKey;
+import com.digitalchief.companymanagement.message.source.MessagesSource;
+import com.digitalchief.companymanagement.repository.reactive.CompanyReactiveRepository;
+import com.digitalchief.companymanagement.service.CompanyReactiveService;
+import com.digitalchief.companymanagement.service.exception.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class CompanyReactiveServiceImpl implements CompanyReactiveService {
+    private final CompanyReactiveRepository companyRepository;
+    private final MessagesSource messagesSource;
+
+    @Override
+    public Flux<CompanyRow> findAllByPageable(Pageable pageable) {
+        return companyRepository.findAllBy(pageable);
+    }
+
+    @Override
+    public Mono<CompanyRow> findById(Long companyId) {
+        return companyRepository.findById(companyId)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException(
+                        messagesSource.getMessage(CompanyMessageKey.NOT_FOUND_BY_ID, companyId)
+                )));
+    }
+}
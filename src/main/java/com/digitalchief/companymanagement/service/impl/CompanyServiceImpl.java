@@ -1,5 +1,7 @@
 package com.digitalchief.companymanagement.service.impl;
 
+import com.digitalchief.companymanagement.cache.CacheNames;
+import com.digitalchief.companymanagement.coalescing.Coalesced;
 import com.digitalchief.companymanagement.entity.Company;
 import com.digitalchief.companymanagement.mapper.CompanyMapper;
 import com.digitalchief.companymanagement.message.key.CompanyMessageKey;
@@ -10,6 +12,7 @@ import com.digitalchief.companymanagement.service.exception.EntityNotFoundExcept
 import com.digitalchief.companymanagement.service.exception.EntityNotUniqueException;
 import lombok.RequiredArgsConstructor;
 import org.mapstruct.factory.Mappers;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,6 +33,8 @@ public class CompanyServiceImpl implements CompanyService {
     }
 
     @Override
+    @Coalesced("company-by-id")
+    @Cacheable(CacheNames.COMPANIES)
     public Company findById(Long companyId) {
         return companyRepository.findById(companyId)
                 .orElseThrow(() -> new EntityNotFoundException(
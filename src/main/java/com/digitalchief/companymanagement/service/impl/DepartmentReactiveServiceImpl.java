@@ -0,0 +1,33 @@
+package com.digitalchief.companymanagement.service.impl;
+
+import com.digitalchief.companymanagement.entity.row.DepartmentRow;
+import com.digitalchief.companymanagement.message.key.DepartmentMessageKey;
+import com.digitalchief.companymanagement.message.source.MessagesSource;
+import com.digitalchief.companymanagement.repository.reactive.DepartmentReactiveRepository;
+import com.digitalchief.companymanagement.service.DepartmentReactiveService;
+import com.digitalchief.companymanagement.service.exception.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class DepartmentReactiveServiceImpl implements DepartmentReactiveService {
+    private final DepartmentReactiveRepository departmentRepository;
+    private final MessagesSource messagesSource;
+
+    @Override
+    public Flux<DepartmentRow> findAllByCompanyIdWithPagination(Long companyId, Pageable pageable) {
+        return departmentRepository.findAllByCompanyId(companyId, pageable);
+    }
+
+    @Override
+    public Mono<DepartmentRow> findByCompanyAndDepartmentId(Long companyId, Long departmentId) {
+        return departmentRepository.findByCompanyIdAndId(companyId, departmentId)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException(
+                        messagesSource.getMessage(DepartmentMessageKey.DEPARTMENT_NOT_FOUND_BY_ID, departmentId)
+                )));
+    }
+}
@@ -1,5 +1,7 @@
 package com.digitalchief.companymanagement.service.impl;
 
+import com.digitalchief.companymanagement.cache.CacheNames;
+import com.digitalchief.companymanagement.coalescing.Coalesced;
 import com.digitalchief.companymanagement.entity.Company;
 import com.digitalchief.companymanagement.entity.Department;
 import com.digitalchief.companymanagement.mapper.DepartmentMapper;
@@ -11,10 +13,12 @@ import com.digitalchief.companymanagement.service.DepartmentService;
 import com.digitalchief.companymanagement.service.exception.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.mapstruct.factory.Mappers;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -32,6 +36,7 @@ public class DepartmentServiceImpl implements DepartmentService {
     }
 
     @Override
+    @Coalesced("department-by-id")
     public Department findByCompanyAndDepartmentId(Long companyId, Long departmentId) {
         return departmentRepository.findByCompanyIdAndId(companyId, departmentId)
                 .orElseThrow(() -> new EntityNotFoundException(
@@ -40,6 +45,7 @@ public class DepartmentServiceImpl implements DepartmentService {
     }
 
     @Override
+    @Cacheable(CacheNames.DEPARTMENTS)
     public Department findById(Long departmentId) {
         return departmentRepository.findById(departmentId)
                 .orElseThrow(() -> new EntityNotFoundException(
@@ -47,6 +53,11 @@ public class DepartmentServiceImpl implements DepartmentService {
                 ));
     }
 
+    @Override
+    public List<Department> findAllByCompanyIds(Collection<Long> companyIds) {
+        return departmentRepository.findAllByCompanyIdIn(companyIds);
+    }
+
     @Override
     @Transactional
     public Department createDepartmentInCompany(Department department, Long companyId) {
@@ -0,0 +1,49 @@
+package com.digitalchief.companymanagement.service.impl;
+
+import com.digitalchief.companymanagement.entity.row.EmployeeRow;
+import com.digitalchief.companymanagement.message.key.DepartmentMessageKey;
+import com.digitalchief.companymanagement.message.key.EmployeeMessageKey;
+import com.digitalchief.companymanagement.message.source.MessagesSource;
+import com.digitalchief.companymanagement.repository.reactive.DepartmentReactiveRepository;
+import com.digitalchief.companymanagement.repository.reactive.EmployeeReactiveRepository;
+import com.digitalchief.companymanagement.service.EmployeeReactiveService;
+import com.digitalchief.companymanagement.service.exception.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class EmployeeReactiveServiceImpl implements EmployeeReactiveService {
+    private final EmployeeReactiveRepository employeeRepository;
+    private final DepartmentReactiveRepository departmentRepository;
+    private final MessagesSource messages;
+
+    @Override
+    public Flux<EmployeeRow> findAllByCompanyAndDepartmentIdWithPagination(
+            Long companyId, Long departmentId, Pageable pageable) {
+        return requireDepartmentInCompany(companyId, departmentId)
+                .thenMany(employeeRepository.findAllByCompanyIdAndDepartmentId(companyId, departmentId, pageable));
+    }
+
+    @Override
+    public Mono<EmployeeRow> findByCompanyAndDepartmentAndEmployeeId(Long companyId, Long departmentId,
+                                                                     Long employeeId) {
+        return requireDepartmentInCompany(companyId, departmentId)
+                .then(employeeRepository.findByCompanyIdAndDepartmentIdAndId(companyId, departmentId, employeeId))
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException(
+                        messages.getMessage(EmployeeMessageKey.EMPLOYEE_NOT_FOUND_BY_ID, employeeId)
+                )));
+    }
+
+    private Mono<Void> requireDepartmentInCompany(Long companyId, Long departmentId) {
+        return departmentRepository.existsByCompanyIdAndId(companyId, departmentId)
+                .flatMap(exists -> exists
+                        ? Mono.<Void>empty()
+                        : Mono.error(new EntityNotFoundException(
+                                messages.getMessage(DepartmentMessageKey.DEPARTMENT_NOT_FOUND_BY_ID, departmentId)
+                        )));
+    }
+}
@@ -1,5 +1,6 @@
 package com.digitalchief.companymanagement.service.impl;
 
+import com.digitalchief.companymanagement.coalescing.Coalesced;
 import com.digitalchief.companymanagement.entity.Department;
 import com.digitalchief.companymanagement.entity.Employee;
 import com.digitalchief.companymanagement.mapper.EmployeeMapper;
@@ -20,6 +21,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -35,20 +37,27 @@ public class EmployeeServiceImpl implements EmployeeService {
     @Override
     public List<Employee> findAllByCompanyAndDepartmentIdWithPagination(
             Long companyId, Long departmentId, Pageable pageable) {
-        return employeeRepository.findAllByDepartmentIdAndId(companyId, departmentId, pageable);
+        return employeeRepository.findAllByCompanyIdAndDepartmentId(companyId, departmentId, pageable);
     }
 
     @Override
+    @Coalesced("employee-by-id")
     public Employee findByCompanyAndDepartmentAndEmployeeId(Long companyId, Long departmentId, Long employeeId) {
         if (!companyRepository.existsById(companyId)) {
             throw new EntityNotUniqueException(messages.getMessage(CompanyMessageKey.NOT_FOUND_BY_ID, companyId));
         }
-        return employeeRepository.findByDepartmentIdAndId(departmentId, employeeId)
+        return employeeRepository.findByCompanyIdAndDepartmentIdAndId(companyId, departmentId, employeeId)
                 .orElseThrow(() -> new EntityNotFoundException(
                         messages.getMessage(EmployeeMessageKey.EMPLOYEE_NOT_FOUND_BY_ID, employeeId)
                 ));
     }
 
+    @Override
+    public List<Employee> findAllByCompanyAndDepartmentIds(Collection<Long> companyIds,
+                                                           Collection<Long> departmentIds) {
+        return employeeRepository.findAllByCompanyIdInAndDepartmentIdIn(companyIds, departmentIds);
+    }
+
     @Override
     @Transactional
     public Employee createEmployeeInDepartment(Employee employee, Long companyId, Long departmentId) {
@@ -63,6 +72,7 @@ public class EmployeeServiceImpl implements EmployeeService {
         }
         Department departmentToCreateEmployeeIn = departmentService.findByCompanyAndDepartmentId(companyId, departmentId);
         employee.setDepartment(departmentToCreateEmployeeIn);
+        employee.setCompanyId(companyId);
 
         return employeeRepository.save(employee);
     }
@@ -80,7 +90,8 @@ public class EmployeeServiceImpl implements EmployeeService {
                             updateEmployee.getEmail())
             );
         }
-        Employee employeeToUpdate = employeeRepository.findByDepartmentIdAndId(departmentId, employeeId)
+        Employee employeeToUpdate = employeeRepository
+                .findByCompanyIdAndDepartmentIdAndId(companyId, departmentId, employeeId)
                 .orElseThrow(() -> new EntityNotFoundException(
                         messages.getMessage(EmployeeMessageKey.EMPLOYEE_NOT_FOUND_BY_ID, employeeId)
                 ));
@@ -101,7 +112,8 @@ public class EmployeeServiceImpl implements EmployeeService {
                             updateEmployee.getEmail())
             );
         }
-        Employee employeeToUpdate = employeeRepository.findByDepartmentIdAndId(departmentId, employeeId)
+        Employee employeeToUpdate = employeeRepository
+                .findByCompanyIdAndDepartmentIdAndId(companyId, departmentId, employeeId)
                 .orElseThrow(() -> new EntityNotFoundException(
                         messages.getMessage(EmployeeMessageKey.EMPLOYEE_NOT_FOUND_BY_ID, employeeId)
                 ));
@@ -115,7 +127,8 @@ public class EmployeeServiceImpl implements EmployeeService {
         if (!companyRepository.existsById(companyId)) {
             throw new EntityNotFoundException(messages.getMessage(CompanyMessageKey.NOT_FOUND_BY_ID, companyId));
         }
-        Employee employeeToDelete = employeeRepository.findByDepartmentIdAndId(departmentId, employeeId)
+        Employee employeeToDelete = employeeRepository
+                .findByCompanyIdAndDepartmentIdAndId(companyId, departmentId, employeeId)
                 .orElseThrow(() -> new EntityNotFoundException(
                         messages.getMessage(EmployeeMessageKey.EMPLOYEE_NOT_FOUND_BY_ID,
                                 employeeId)
@@ -0,0 +1,67 @@
+package com.digitalchief.companymanagement.service.impl;
+
+import com.digitalchief.companymanagement.concurrency.NoConcurrencyLimit;
+import com.digitalchief.companymanagement.job.Job;
+import com.digitalchief.companymanagement.job.JobRunner;
+import com.digitalchief.companymanagement.job.JobStore;
+import com.digitalchief.companymanagement.message.key.JobMessageKey;
+import com.digitalchief.companymanagement.message.source.MessagesSource;
+import com.digitalchief.companymanagement.model.job.JobStatus;
+import com.digitalchief.companymanagement.model.job.JobType;
+import com.digitalchief.companymanagement.service.CompanyService;
+import com.digitalchief.companymanagement.service.JobService;
+import com.digitalchief.companymanagement.service.exception.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.OutputStream;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class JobServiceImpl implements JobService {
+    private final JobStore jobStore;
+    private final JobRunner jobRunner;
+    private final CompanyService companyService;
+    private final MessagesSource messagesSource;
+
+    @Override
+    @Transactional
+    public Job submitJob(JobType type, Long companyId) {
+        companyService.findById(companyId);
+        Long jobId = jobStore.create(type, companyId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                jobRunner.trigger();
+            }
+        });
+        return findById(jobId);
+    }
+
+    @Override
+    public Job findById(Long jobId) {
+        return jobStore.find(jobId)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        messagesSource.getMessage(JobMessageKey.NOT_FOUND_BY_ID, jobId)
+                ));
+    }
+
+    @Override
+    public Job findWithResultById(Long jobId) {
+        Job job = findById(jobId);
+        if (job.status() != JobStatus.SUCCEEDED || job.resultLocation() == null) {
+            throw new EntityNotFoundException(messagesSource.getMessage(JobMessageKey.RESULT_NOT_AVAILABLE, jobId));
+        }
+        return job;
+    }
+
+    @Override
+    @NoConcurrencyLimit
+    public void writeResultById(Long jobId, OutputStream output) {
+        jobStore.writeResult(jobId, output);
+    }
+}
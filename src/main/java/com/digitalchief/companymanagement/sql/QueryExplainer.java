@@ -0,0 +1,113 @@
+package com.digitalchief.companymanagement.sql;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Captures execution plans of slow statements on a single background thread, so the request that ran the statement
+ * does not wait for them; when the queue is full further statements are not explained. Only plain SELECTs from tables
+ * that call no functions besides a few side-effect free ones are run with {@code EXPLAIN (ANALYZE, BUFFERS)}: analyzing
+ * a write, a locking read or a call such as {@code pg_notify}, {@code pg_advisory_lock} or {@code nextval} would repeat
+ * it, or block on the locks of the still open transaction that issued it. Those get a plain {@code EXPLAIN} instead.
+ * Every plan is taken in a read-only transaction that is rolled back afterwards.
+ */
+@Slf4j
+public class QueryExplainer implements DisposableBean {
+    private static final Pattern EXPLAINABLE = Pattern.compile("^\\s*(select|insert|update|delete|with)\\b",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern ANALYZABLE = Pattern.compile("^\\s*select\\b.*\\bfrom\\b",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern LOCKING = Pattern.compile(
+            "\\bfor\\s+(no\\s+key\\s+update|update|key\\s+share|share)\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern CALL = Pattern.compile("([a-z_][a-z0-9_$.]*)\\s*\\(", Pattern.CASE_INSENSITIVE);
+    // keywords followed by a parenthesis and functions that cannot change anything, every other call may
+    private static final Set<String> SAFE_CALLS = Set.of("select", "from", "where", "and", "or", "not", "in", "exists",
+            "any", "all", "on", "as", "join", "using", "values", "over", "filter", "when", "then", "else", "like",
+            "ilike", "between", "is", "by", "union", "intersect", "except", "lateral", "distinct", "limit", "offset",
+            "count", "sum", "min", "max", "avg", "lower", "upper", "coalesce", "nullif", "cast", "extract", "length",
+            "abs", "round");
+
+    private final DataSource dataSource;
+    private final int timeoutSeconds;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * @param dataSource data source that is not reported to {@link QueryListener}s, otherwise slow plans would be
+     *                   explained in turn
+     */
+    public QueryExplainer(DataSource dataSource, SlowQueryProperties.Explain properties) {
+        this.dataSource = dataSource;
+        this.timeoutSeconds = (int) Math.max(1, properties.getTimeout().toSeconds());
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("query-explainer-");
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()), threadFactory,
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    public void explain(SlowQuery query, List<Object> parameters) {
+        if (EXPLAINABLE.matcher(query.getSql()).find()) {
+            executor.execute(() -> query.setPlan(plan(query.getSql(), parameters)));
+        }
+    }
+
+    private String plan(String sql, List<Object> parameters) {
+        String explain = (analyzable(sql) ? "EXPLAIN (ANALYZE, BUFFERS) " : "EXPLAIN ") + sql;
+        try (Connection connection = dataSource.getConnection()) {
+            // read-only only applies to an explicit transaction, and rolling it back undoes whatever the plan did
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            try (PreparedStatement statement = connection.prepareStatement(explain)) {
+                statement.setQueryTimeout(timeoutSeconds);
+                for (int i = 0; i < parameters.size(); i++) {
+                    statement.setObject(i + 1, parameters.get(i));
+                }
+                StringJoiner plan = new StringJoiner("\n");
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        plan.add(resultSet.getString(1));
+                    }
+                }
+                return plan.toString();
+            } finally {
+                connection.rollback();
+            }
+        } catch (SQLException e) {
+            log.debug("Could not explain {}", sql, e);
+            return "EXPLAIN failed: " + e.getMessage();
+        }
+    }
+
+    private static boolean analyzable(String sql) {
+        if (!ANALYZABLE.matcher(sql).find() || LOCKING.matcher(sql).find()) {
+            return false;
+        }
+        Matcher call = CALL.matcher(sql);
+        while (call.find()) {
+            if (!SAFE_CALLS.contains(call.group(1).toLowerCase())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
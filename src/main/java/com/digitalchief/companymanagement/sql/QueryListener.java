@@ -0,0 +1,13 @@
+package com.digitalchief.companymanagement.sql;
+
+import java.util.List;
+
+/**
+ * Notified after every JDBC statement executed through {@link TimedDataSource}, on the thread that executed it.
+ * {@code parameters} holds the values bound to a prepared statement by index and is only valid during the call, so
+ * listeners that keep it have to copy it.
+ */
+public interface QueryListener {
+
+    void onQuery(String sql, List<Object> parameters, long elapsedNanos);
+}
@@ -0,0 +1,35 @@
+package com.digitalchief.companymanagement.sql;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Entry of the {@link SlowQueryLog}. The plan is filled in later by the {@link QueryExplainer} when the statement was
+ * sampled for EXPLAIN and stays {@code null} otherwise.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class SlowQuery {
+
+    private final long id;
+
+    private final Instant timestamp;
+
+    private final double durationMillis;
+
+    private final String sql;
+
+    private final List<String> parameters;
+
+    private final String endpoint;
+
+    private final String serviceMethod;
+
+    @Setter(AccessLevel.PACKAGE)
+    private volatile String plan;
+}
@@ -0,0 +1,20 @@
+package com.digitalchief.companymanagement.sql;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+
+/**
+ * {@code GET /actuator/slowqueries} returns the buffered slow queries, newest first, {@code DELETE} clears them.
+ */
+@WebEndpoint(id = "slowqueries")
+public class SlowQueryControlEndpoint extends SlowQueryEndpoint {
+
+    public SlowQueryControlEndpoint(SlowQueryLog slowQueryLog) {
+        super(slowQueryLog);
+    }
+
+    @DeleteOperation
+    public void clear() {
+        slowQueryLog.clear();
+    }
+}
@@ -0,0 +1,23 @@
+package com.digitalchief.companymanagement.sql;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+
+import java.util.List;
+
+/**
+ * {@code GET /actuator/slowqueries} returns the buffered slow queries, newest first. Clearing them is offered only by
+ * {@link SlowQueryControlEndpoint}, which replaces this endpoint when
+ * {@code company-management.slow-queries.remote-control} is on.
+ */
+@WebEndpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+    protected final SlowQueryLog slowQueryLog;
+
+    @ReadOperation
+    public List<SlowQuery> slowQueries() {
+        return slowQueryLog.entries();
+    }
+}
@@ -0,0 +1,94 @@
+package com.digitalchief.companymanagement.sql;
+
+import com.digitalchief.companymanagement.metrics.RequestStatistics;
+import com.digitalchief.companymanagement.metrics.ServiceOperation;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logs statements slower than the threshold together with their parameters, the request and the service method that
+ * issued them, and keeps the latest ones in a fixed-size ring buffer. A sample of them is handed to the
+ * {@link QueryExplainer}, if there is one. Parameter values are masked as their type unless {@code log-parameters} is
+ * on; the explainer always binds the real values.
+ */
+@Slf4j
+public class SlowQueryLog implements QueryListener {
+    private static final int MAX_PARAMETER_LENGTH = 100;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final long thresholdNanos;
+    private final SlowQuery[] entries;
+    private final QueryExplainer explainer;
+    private final double explainSampleRate;
+    private final boolean logParameters;
+    private long recorded;
+
+    public SlowQueryLog(SlowQueryProperties properties, QueryExplainer explainer) {
+        this.thresholdNanos = properties.getThreshold().toNanos();
+        this.entries = new SlowQuery[properties.getCapacity()];
+        this.explainer = explainer;
+        this.explainSampleRate = properties.getExplain().getSampleRate();
+        this.logParameters = properties.isLogParameters();
+    }
+
+    @Override
+    public void onQuery(String sql, List<Object> parameters, long elapsedNanos) {
+        if (elapsedNanos < thresholdNanos) {
+            return;
+        }
+        RequestStatistics statistics = RequestStatistics.current();
+        String endpoint = statistics != null ? statistics.getEndpoint() : null;
+        String serviceMethod = ServiceOperation.current();
+        List<String> parameterValues = parameters.stream()
+                .map(parameter -> logParameters ? format(parameter) : mask(parameter))
+                .toList();
+        double durationMillis = elapsedNanos / NANOS_PER_MILLI;
+
+        SlowQuery query = record(durationMillis, sql, parameterValues, endpoint, serviceMethod);
+        log.warn("Slow query took {} ms in {} ({}): {} {}", String.format("%.1f", durationMillis), endpoint,
+                serviceMethod, sql, parameterValues);
+        if (explainer != null && ThreadLocalRandom.current().nextDouble() < explainSampleRate) {
+            explainer.explain(query, new ArrayList<>(parameters));
+        }
+    }
+
+    /**
+     * Returns the buffered queries, newest first.
+     */
+    public synchronized List<SlowQuery> entries() {
+        int size = (int) Math.min(recorded, entries.length);
+        List<SlowQuery> result = new ArrayList<>(size);
+        for (long i = recorded - 1; i >= recorded - size; i--) {
+            result.add(entries[(int) (i % entries.length)]);
+        }
+        return result;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(entries, null);
+        recorded = 0;
+    }
+
+    private synchronized SlowQuery record(double durationMillis, String sql, List<String> parameters,
+                                          String endpoint, String serviceMethod) {
+        SlowQuery query = new SlowQuery(recorded + 1, Instant.now(), durationMillis, sql, parameters, endpoint,
+                serviceMethod);
+        entries[(int) (recorded % entries.length)] = query;
+        recorded++;
+        return query;
+    }
+
+    private static String mask(Object parameter) {
+        return parameter == null ? "null" : "<" + parameter.getClass().getSimpleName() + ">";
+    }
+
+    private static String format(Object parameter) {
+        String value = String.valueOf(parameter);
+        return value.length() > MAX_PARAMETER_LENGTH ? value.substring(0, MAX_PARAMETER_LENGTH) + "..." : value;
+    }
+}
@@ -0,0 +1,40 @@
+package com.digitalchief.companymanagement.sql;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "company-management.slow-queries")
+public class SlowQueryProperties {
+
+    private boolean enabled = true;
+
+    private Duration threshold = Duration.ofMillis(100);
+
+    private int capacity = 100;
+
+    // bound values hold e-mails, names and salaries; without this only their types are logged and exposed
+    private boolean logParameters = false;
+
+    // clearing the buffer over the actuator
+    private boolean remoteControl = false;
+
+    private Explain explain = new Explain();
+
+    @Getter
+    @Setter
+    public static class Explain {
+
+        private boolean enabled = false;
+
+        private double sampleRate = 0.1;
+
+        private Duration timeout = Duration.ofSeconds(5);
+
+        private int queueCapacity = 10;
+    }
+}
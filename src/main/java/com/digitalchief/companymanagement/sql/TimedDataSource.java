@@ -0,0 +1,159 @@
+package com.digitalchief.companymanagement.sql;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Times every statement executed on connections of the target data source and reports it, together with the bound
+ * parameters, to the {@link QueryListener} beans. Listeners are resolved on first use, so they may depend on the data
+ * source themselves. Without listeners connections are returned unwrapped.
+ */
+public class TimedDataSource extends DelegatingDataSource implements AutoCloseable {
+    private static final String UNKNOWN_SQL = "<statement batch>";
+    private static final Set<String> PREPARE_METHODS = Set.of("prepareStatement", "prepareCall");
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final ObjectProvider<QueryListener> listenerProvider;
+    private volatile List<QueryListener> listeners;
+
+    public TimedDataSource(DataSource targetDataSource, ObjectProvider<QueryListener> listenerProvider) {
+        super(targetDataSource);
+        this.listenerProvider = listenerProvider;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection wrap(Connection connection) {
+        if (listeners().isEmpty()) {
+            return connection;
+        }
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                default -> {
+                }
+            }
+            Object result = invoke(connection, method, args);
+            if (result instanceof CallableStatement statement) {
+                return proxy(CallableStatement.class, statement, new StatementHandler(statement, (String) args[0]));
+            }
+            if (result instanceof PreparedStatement statement && PREPARE_METHODS.contains(method.getName())) {
+                return proxy(PreparedStatement.class, statement, new StatementHandler(statement, (String) args[0]));
+            }
+            if (result instanceof Statement statement) {
+                return proxy(Statement.class, statement, new StatementHandler(statement, null));
+            }
+            return result;
+        });
+    }
+
+    private List<QueryListener> listeners() {
+        List<QueryListener> resolved = listeners;
+        if (resolved == null) {
+            resolved = listenerProvider.orderedStream().toList();
+            listeners = resolved;
+        }
+        return resolved;
+    }
+
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(TimedDataSource.class.getClassLoader(), new Class<?>[]{type},
+                handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * Parameter setters of {@link PreparedStatement} take the parameter index first and the value second, while the
+     * option setters of {@link Statement} take a single argument.
+     */
+    private static boolean isParameterSetter(Method method, Object[] args) {
+        return method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer;
+    }
+
+    private class StatementHandler implements InvocationHandler {
+        private final Statement statement;
+        private final String preparedSql;
+        private final List<Object> parameters = new ArrayList<>();
+        private final List<Object> parametersView = Collections.unmodifiableList(parameters);
+
+        StatementHandler(Statement statement, String preparedSql) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (preparedSql != null && isParameterSetter(method, args)) {
+                bind((Integer) args[0], method.getName().equals("setNull") ? null : args[1]);
+            } else if (method.getName().equals("clearParameters")) {
+                parameters.clear();
+            }
+            if (!EXECUTE_METHODS.contains(method.getName())) {
+                return TimedDataSource.invoke(statement, method, args);
+            }
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            if (sql == null) {
+                sql = UNKNOWN_SQL;
+            }
+            long start = System.nanoTime();
+            try {
+                return TimedDataSource.invoke(statement, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                for (QueryListener listener : listeners) {
+                    listener.onQuery(sql, parametersView, elapsed);
+                }
+            }
+        }
+
+        private void bind(int index, Object value) {
+            while (parameters.size() < index) {
+                parameters.add(null);
+            }
+            parameters.set(index - 1, value);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.digitalchief.companymanagement.startup;
+
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summary of a buffered startup timeline. The duration of a step includes the steps nested in it, e.g. a bean and the
+ * beans it depends on, so steps are ranked by their own time: the duration minus that of their direct children.
+ */
+public class StartupReport {
+    private static final String BEAN_NAME_TAG = "beanName";
+
+    private final Duration timeTaken;
+    private final List<Step> steps;
+
+    private StartupReport(Duration timeTaken, List<Step> steps) {
+        this.timeTaken = timeTaken;
+        this.steps = steps;
+    }
+
+    public static StartupReport of(StartupTimeline timeline, Duration timeTaken) {
+        Map<Long, Long> childrenNanos = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : timeline.getEvents()) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                childrenNanos.merge(parentId, event.getDuration().toNanos(), Long::sum);
+            }
+        }
+        List<Step> steps = new ArrayList<>();
+        for (StartupTimeline.TimelineEvent event : timeline.getEvents()) {
+            StartupStep step = event.getStartupStep();
+            long totalNanos = event.getDuration().toNanos();
+            long ownNanos = totalNanos - childrenNanos.getOrDefault(step.getId(), 0L);
+            steps.add(new Step(step.getName(), beanName(step), Duration.ofNanos(ownNanos), event.getDuration()));
+        }
+        steps.sort(Comparator.comparing(Step::own).reversed());
+        return new StartupReport(timeTaken, steps);
+    }
+
+    public List<Step> steps() {
+        return steps;
+    }
+
+    public String render(int topSteps) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Ready in %d ms, %d steps recorded%n%n", timeTaken.toMillis(), steps.size()));
+        report.append(String.format("Top %d steps by own time%n", Math.min(topSteps, steps.size())));
+        report.append(String.format("%9s %9s  %s%n", "own ms", "total ms", "step"));
+        for (Step step : steps.subList(0, Math.min(topSteps, steps.size()))) {
+            report.append(String.format("%9d %9d  %s%n", step.own().toMillis(), step.total().toMillis(),
+                    step.beanName() != null ? step.name() + " " + step.beanName() : step.name()));
+        }
+
+        Map<String, long[]> byName = new LinkedHashMap<>();
+        for (Step step : steps) {
+            long[] totals = byName.computeIfAbsent(step.name(), name -> new long[2]);
+            totals[0]++;
+            totals[1] += step.own().toNanos();
+        }
+        report.append(String.format("%nOwn time by step name%n"));
+        report.append(String.format("%9s %9s  %s%n", "own ms", "count", "step"));
+        byName.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, long[]> entry) -> entry.getValue()[1]).reversed())
+                .forEach(entry -> report.append(String.format("%9d %9d  %s%n",
+                        Duration.ofNanos(entry.getValue()[1]).toMillis(), entry.getValue()[0], entry.getKey())));
+        return report.toString();
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (BEAN_NAME_TAG.equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return null;
+    }
+
+    public record Step(String name, String beanName, Duration own, Duration total) {
+    }
+}
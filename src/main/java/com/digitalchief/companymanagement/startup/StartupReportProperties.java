@@ -0,0 +1,19 @@
+package com.digitalchief.companymanagement.startup;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "company-management.startup-report")
+public class StartupReportProperties {
+
+    private boolean enabled = false;
+
+    private Path file = Path.of("build/reports/startup/startup-report.txt");
+
+    private int topSteps = 40;
+}
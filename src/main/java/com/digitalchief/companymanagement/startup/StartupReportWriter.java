@@ -0,0 +1,45 @@
+package com.digitalchief.companymanagement.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.Ordered;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes the {@link StartupReport} once the application is ready. Runs before other ready listeners, so the report is
+ * complete even when the training run stops the application right away.
+ */
+@Slf4j
+public class StartupReportWriter implements ApplicationListener<ApplicationReadyEvent>, Ordered {
+    private final BufferingApplicationStartup applicationStartup;
+    private final StartupReportProperties properties;
+
+    public StartupReportWriter(BufferingApplicationStartup applicationStartup, StartupReportProperties properties) {
+        this.applicationStartup = applicationStartup;
+        this.properties = properties;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        StartupReport report = StartupReport.of(applicationStartup.getBufferedTimeline(), event.getTimeTaken());
+        Path file = properties.getFile().toAbsolutePath();
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, report.render(properties.getTopSteps()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write the startup report to " + file, e);
+        }
+        log.info("Startup report with {} steps written to {}", report.steps().size(), file);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,68 @@
+package com.digitalchief.companymanagement.transaction;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.transaction.UnexpectedRollbackException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.Savepoint;
+import java.util.function.Supplier;
+
+/**
+ * Runs a piece of work of the current transaction behind a JDBC savepoint. When the work fails it is rolled back to
+ * the savepoint, the persistence context is cleared and the transaction stays usable. A {@code @Transactional}
+ * method that takes part in the transaction and fails inside the scope does not mark the whole transaction
+ * rollback-only, {@link SavepointScopeTransactionManager} leaves that failure to the scope. Hibernate still marks
+ * the transaction rollback-only on persistence errors, which no savepoint can undo.
+ */
+@RequiredArgsConstructor
+public class SavepointScope {
+    private final EntityManager entityManager;
+
+    public <T> T run(Supplier<T> work) {
+        Session session = entityManager.unwrap(Session.class);
+        Savepoint savepoint = session.doReturningWork(Connection::setSavepoint);
+        Failures outer = (Failures) TransactionSynchronizationManager.unbindResourceIfPossible(Failures.class);
+        Failures failures = new Failures();
+        TransactionSynchronizationManager.bindResource(Failures.class, failures);
+        try {
+            T result = work.get();
+            if (failures.participantFailed) {
+                throw new UnexpectedRollbackException(
+                        "A participating transaction was marked rollback-only without throwing");
+            }
+            session.doWork(connection -> connection.releaseSavepoint(savepoint));
+            return result;
+        } catch (RuntimeException e) {
+            session.doWork(connection -> connection.rollback(savepoint));
+            // the persistence context still holds state written after the savepoint
+            entityManager.clear();
+            throw e;
+        } finally {
+            TransactionSynchronizationManager.unbindResource(Failures.class);
+            if (outer != null) {
+                TransactionSynchronizationManager.bindResource(Failures.class, outer);
+            }
+        }
+    }
+
+    /**
+     * Records the failure of a participating transaction for the innermost open scope.
+     *
+     * @return {@code false} when no scope is open and the transaction has to be marked rollback-only
+     */
+    static boolean recordParticipantFailure() {
+        Failures failures = (Failures) TransactionSynchronizationManager.getResource(Failures.class);
+        if (failures == null) {
+            return false;
+        }
+        failures.participantFailed = true;
+        return true;
+    }
+
+    private static final class Failures {
+        private boolean participantFailed;
+    }
+}
@@ -0,0 +1,24 @@
+package com.digitalchief.companymanagement.transaction;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * JPA transaction manager that lets an open {@link SavepointScope} handle the failure of a participating
+ * transaction. Outside of a scope a failing participant marks the transaction rollback-only as usual.
+ */
+public class SavepointScopeTransactionManager extends JpaTransactionManager {
+
+    public SavepointScopeTransactionManager(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+    }
+
+    @Override
+    protected void doSetRollbackOnly(DefaultTransactionStatus status) {
+        // the scope rolls back to its savepoint instead of dooming the transaction
+        if (!SavepointScope.recordParticipantFailure()) {
+            super.doSetRollbackOnly(status);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.digitalchief.companymanagement.workload;
+
+import com.digitalchief.companymanagement.metrics.RequestStatistics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fixed thread pool with a bounded queue reserved for one workload class. The caller waits for the result, so a full
+ * bulkhead rejects new work immediately instead of letting it occupy request threads of other workloads.
+ */
+public class Bulkhead implements AutoCloseable {
+    private final WorkloadClass workload;
+    private final ThreadPoolExecutor executor;
+    private final int capacity;
+    private final Counter rejected;
+
+    public Bulkhead(WorkloadClass workload, WorkloadProperties.Pool pool, MeterRegistry meterRegistry) {
+        this.workload = workload;
+        BlockingQueue<Runnable> queue = pool.getQueueCapacity() > 0
+                ? new ArrayBlockingQueue<>(pool.getQueueCapacity())
+                : new SynchronousQueue<>();
+        this.executor = new ThreadPoolExecutor(pool.getThreads(), pool.getThreads(), 0, TimeUnit.MILLISECONDS, queue,
+                new CustomizableThreadFactory(workload.tag() + "-"), new ThreadPoolExecutor.AbortPolicy());
+        this.capacity = pool.getThreads() + pool.getQueueCapacity();
+        this.rejected = meterRegistry.counter("bulkhead.rejected", "workload", workload.tag());
+        Gauge.builder("bulkhead.active", executor, ThreadPoolExecutor::getActiveCount)
+                .tag("workload", workload.tag())
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.queued", executor, e -> e.getQueue().size())
+                .tag("workload", workload.tag())
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.saturation", this, Bulkhead::saturation)
+                .tag("workload", workload.tag())
+                .register(meterRegistry);
+    }
+
+    public Object execute(WorkloadContext.Call call) throws Throwable {
+        RequestStatistics statistics = RequestStatistics.current();
+        Future<Object> future;
+        try {
+            future = executor.submit(() -> {
+                RequestStatistics previous = RequestStatistics.bind(statistics);
+                try {
+                    return WorkloadContext.callIn(workload, call);
+                } catch (Exception | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new UndeclaredThrowableException(e);
+                } finally {
+                    RequestStatistics.bind(previous);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new BulkheadFullException(workload);
+        }
+
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    public double saturation() {
+        return (double) (executor.getActiveCount() + executor.getQueue().size()) / capacity;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,7 @@
+package com.digitalchief.companymanagement.workload;
+
+public class BulkheadFullException extends RuntimeException {
+    public BulkheadFullException(WorkloadClass workload) {
+        super("No capacity left for " + workload.tag() + " requests");
+    }
+}
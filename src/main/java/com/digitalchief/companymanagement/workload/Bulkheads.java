@@ -0,0 +1,24 @@
+package com.digitalchief.companymanagement.workload;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+public class Bulkheads implements AutoCloseable {
+    private final Map<WorkloadClass, Bulkhead> bulkheads = new EnumMap<>(WorkloadClass.class);
+
+    public Bulkheads(WorkloadProperties properties, MeterRegistry meterRegistry) {
+        properties.getPools().forEach((workload, pool) ->
+                bulkheads.put(workload, new Bulkhead(workload, pool, meterRegistry)));
+    }
+
+    public Bulkhead get(WorkloadClass workload) {
+        return bulkheads.get(workload);
+    }
+
+    @Override
+    public void close() {
+        bulkheads.values().forEach(Bulkhead::close);
+    }
+}
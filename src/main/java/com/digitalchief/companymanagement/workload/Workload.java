@@ -0,0 +1,17 @@
+package com.digitalchief.companymanagement.workload;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a controller method on the executor and the connection pool of the given workload class. Methods without the
+ * annotation are {@link WorkloadClass#INTERACTIVE}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Workload {
+
+    WorkloadClass value();
+}
@@ -0,0 +1,22 @@
+package com.digitalchief.companymanagement.workload;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+@Aspect
+@RequiredArgsConstructor
+public class WorkloadAspect {
+    private final Bulkheads bulkheads;
+    private final WorkloadProperties properties;
+
+    @Around("@annotation(workload)")
+    public Object dispatch(ProceedingJoinPoint joinPoint, Workload workload) throws Throwable {
+        Bulkhead bulkhead = bulkheads.get(workload.value());
+        if (bulkhead == null || !properties.isIsolated()) {
+            return WorkloadContext.callIn(workload.value(), joinPoint::proceed);
+        }
+        return bulkhead.execute(joinPoint::proceed);
+    }
+}
@@ -0,0 +1,13 @@
+package com.digitalchief.companymanagement.workload;
+
+import java.util.Locale;
+
+public enum WorkloadClass {
+    INTERACTIVE,
+    BULK,
+    REPORTING;
+
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
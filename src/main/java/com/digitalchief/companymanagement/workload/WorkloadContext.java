@@ -0,0 +1,29 @@
+package com.digitalchief.companymanagement.workload;
+
+public final class WorkloadContext {
+    private static final ThreadLocal<WorkloadClass> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    public static WorkloadClass current() {
+        WorkloadClass workload = CURRENT.get();
+        return workload != null ? workload : WorkloadClass.INTERACTIVE;
+    }
+
+    public static Object callIn(WorkloadClass workload, Call call) throws Throwable {
+        WorkloadClass previous = CURRENT.get();
+        CURRENT.set(workload);
+        try {
+            return call.run();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Call {
+
+        Object run() throws Throwable;
+    }
+}
@@ -0,0 +1,29 @@
+package com.digitalchief.companymanagement.workload;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "company-management.workloads")
+public class WorkloadProperties {
+
+    private boolean isolated = true;
+
+    private Map<WorkloadClass, Pool> pools = new EnumMap<>(WorkloadClass.class);
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        private int threads = 2;
+
+        private int queueCapacity = 10;
+
+        private int connections = 2;
+    }
+}
@@ -0,0 +1,34 @@
+package com.digitalchief.companymanagement.workload;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Hands out connections from the pool of the workload class running on the current thread.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    private final Map<WorkloadClass, ? extends DataSource> pools;
+
+    public WorkloadRoutingDataSource(Map<WorkloadClass, ? extends DataSource> pools) {
+        this.pools = pools;
+        setTargetDataSources(Map.copyOf(pools));
+        setDefaultTargetDataSource(pools.get(WorkloadClass.INTERACTIVE));
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WorkloadContext.current();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource pool : pools.values()) {
+            if (pool instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
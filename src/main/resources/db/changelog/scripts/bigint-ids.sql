@@ -0,0 +1,11 @@
+ALTER TABLE companies
+    ALTER COLUMN id TYPE BIGINT;
+ALTER SEQUENCE companies_id_seq AS BIGINT INCREMENT BY 50;
+
+ALTER TABLE departments
+    ALTER COLUMN id TYPE BIGINT;
+ALTER SEQUENCE departments_id_seq AS BIGINT INCREMENT BY 50;
+
+ALTER TABLE employees
+    ALTER COLUMN id TYPE BIGINT;
+ALTER SEQUENCE employees_id_seq AS BIGINT INCREMENT BY 50;
@@ -0,0 +1,48 @@
+-- e-mails are unique across all companies. A partitioned employees table can only enforce uniqueness together with
+-- the partition key, so in both layouts every e-mail is also kept here, by triggers in the transaction that writes it
+CREATE TABLE employee_emails
+(
+    email       VARCHAR PRIMARY KEY,
+    employee_id BIGINT NOT NULL,
+    company_id  BIGINT NOT NULL
+);
+
+INSERT INTO employee_emails (email, employee_id, company_id)
+SELECT email, id, company_id
+FROM employees;
+
+-- the bodies are single-quoted rather than dollar-quoted, so that Liquibase does not split them into statements
+CREATE FUNCTION employee_emails_insert() RETURNS TRIGGER LANGUAGE plpgsql AS
+'BEGIN
+    INSERT INTO employee_emails (email, employee_id, company_id) VALUES (NEW.email, NEW.id, NEW.company_id);
+    RETURN NULL;
+END';
+
+CREATE FUNCTION employee_emails_update() RETURNS TRIGGER LANGUAGE plpgsql AS
+'BEGIN
+    UPDATE employee_emails SET email = NEW.email, company_id = NEW.company_id WHERE email = OLD.email;
+    RETURN NULL;
+END';
+
+CREATE FUNCTION employee_emails_delete() RETURNS TRIGGER LANGUAGE plpgsql AS
+'BEGIN
+    DELETE FROM employee_emails WHERE email = OLD.email;
+    RETURN NULL;
+END';
+
+CREATE TRIGGER employee_emails_insert
+    AFTER INSERT
+    ON employees
+    FOR EACH ROW
+EXECUTE FUNCTION employee_emails_insert();
+CREATE TRIGGER employee_emails_update
+    AFTER UPDATE OF email, company_id
+    ON employees
+    FOR EACH ROW
+    WHEN (OLD.email IS DISTINCT FROM NEW.email OR OLD.company_id IS DISTINCT FROM NEW.company_id)
+EXECUTE FUNCTION employee_emails_update();
+CREATE TRIGGER employee_emails_delete
+    AFTER DELETE
+    ON employees
+    FOR EACH ROW
+EXECUTE FUNCTION employee_emails_delete();
@@ -0,0 +1,12 @@
+ALTER TABLE employees
+    ADD COLUMN company_id BIGINT REFERENCES companies (id);
+
+UPDATE employees
+SET company_id = departments.company_id
+FROM departments
+WHERE departments.id = employees.department_id;
+
+ALTER TABLE employees
+    ALTER COLUMN company_id SET NOT NULL;
+
+CREATE INDEX idx_employees_company_department ON employees (company_id, department_id);
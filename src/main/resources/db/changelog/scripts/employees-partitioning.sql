@@ -0,0 +1,72 @@
+-- employees are spread over hash partitions by company, every employee query carries company_id so that it reads
+-- only one partition; the primary key has to include the partition key, e-mails stay unique across companies through
+-- employee_emails, whose triggers move over to the partitioned table
+ALTER SEQUENCE employees_id_seq OWNED BY NONE;
+ALTER TABLE employees
+    RENAME TO employees_unpartitioned;
+
+CREATE TABLE employees
+(
+    id                 BIGINT         NOT NULL DEFAULT nextval('employees_id_seq'),
+    firstname          VARCHAR        NOT NULL,
+    lastname           VARCHAR        NOT NULL,
+    position           VARCHAR        NOT NULL,
+    age                INTEGER        NOT NULL,
+    email              VARCHAR        NOT NULL,
+    date_of_employment DATE           NOT NULL,
+    salary_per_month   NUMERIC(19, 2) NOT NULL,
+    department_id      BIGINT REFERENCES departments (id),
+    version            BIGINT         NOT NULL DEFAULT 0,
+    company_id         BIGINT         NOT NULL REFERENCES companies (id)
+) PARTITION BY HASH (company_id);
+
+CREATE TABLE employees_p0 PARTITION OF employees FOR VALUES WITH (MODULUS 16, REMAINDER 0);
+CREATE TABLE employees_p1 PARTITION OF employees FOR VALUES WITH (MODULUS 16, REMAINDER 1);
+CREATE TABLE employees_p2 PARTITION OF employees FOR VALUES WITH (MODULUS 16, REMAINDER 2);
+CREATE TABLE employees_p3 PARTITION OF employees FOR VALUES WITH (MODULUS 16, REMAINDER 3);
+CREATE TABLE employees_p4 PARTITION OF employees FOR VALUES WITH (MODULUS 16, REMAINDER 4);
+CREATE TABLE employees_p5 PARTITION OF employees FOR VALUES WITH (MODULUS 16, REMAINDER 5);
+CREATE TABLE employees_p6 PARTITION OF employees FOR VALUES WITH (MODULUS 16, REMAINDER 6);
+CREATE TABLE employees_p7 PARTITION OF employees FOR VALUES WITH (MODULUS 16, REMAINDER 7);
+CREATE TABLE employees_p8 PARTITION OF employees FOR VALUES WITH (MODULUS 16, REMAINDER 8);
+CREATE TABLE employees_p9 PARTITION OF employees FOR VALUES WITH (MODULUS 16, REMAINDER 9);
+CREATE TABLE employees_p10 PARTITION OF employees FOR VALUES WITH (MODULUS 16, REMAINDER 10);
+CREATE TABLE employees_p11 PARTITION OF employees FOR VALUES WITH (MODULUS 16, REMAINDER 11);
+CREATE TABLE employees_p12 PARTITION OF employees FOR VALUES WITH (MODULUS 16, REMAINDER 12);
+CREATE TABLE employees_p13 PARTITION OF employees FOR VALUES WITH (MODULUS 16, REMAINDER 13);
+CREATE TABLE employees_p14 PARTITION OF employees FOR VALUES WITH (MODULUS 16, REMAINDER 14);
+CREATE TABLE employees_p15 PARTITION OF employees FOR VALUES WITH (MODULUS 16, REMAINDER 15);
+
+INSERT INTO employees (id, firstname, lastname, position, age, email, date_of_employment, salary_per_month,
+                       department_id, version, company_id)
+SELECT id, firstname, lastname, position, age, email, date_of_employment, salary_per_month,
+       department_id, version, company_id
+FROM employees_unpartitioned;
+
+DROP TABLE employees_unpartitioned;
+
+ALTER TABLE employees
+    ADD PRIMARY KEY (id, company_id);
+CREATE INDEX idx_employee_id ON employees (id);
+CREATE INDEX idx_employees_company_department ON employees (company_id, department_id);
+
+-- created only after the copy above, employee_emails already holds every copied e-mail
+CREATE TRIGGER employee_emails_insert
+    AFTER INSERT
+    ON employees
+    FOR EACH ROW
+EXECUTE FUNCTION employee_emails_insert();
+CREATE TRIGGER employee_emails_update
+    AFTER UPDATE OF email, company_id
+    ON employees
+    FOR EACH ROW
+    WHEN (OLD.email IS DISTINCT FROM NEW.email OR OLD.company_id IS DISTINCT FROM NEW.company_id)
+EXECUTE FUNCTION employee_emails_update();
+CREATE TRIGGER employee_emails_delete
+    AFTER DELETE
+    ON employees
+    FOR EACH ROW
+EXECUTE FUNCTION employee_emails_delete();
+
+ALTER SEQUENCE employees_id_seq OWNED BY employees.id;
+ANALYZE employees;
@@ -0,0 +1,8 @@
+ALTER TABLE companies
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE departments
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE employees
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
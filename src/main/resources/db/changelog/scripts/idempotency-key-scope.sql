@@ -0,0 +1,13 @@
+-- keys are scoped per client, so a key sent by one client never replays the response stored for another one
+ALTER TABLE idempotency_keys
+    ADD COLUMN client_id VARCHAR(64) NOT NULL DEFAULT '';
+ALTER TABLE idempotency_keys
+    ALTER COLUMN client_id DROP DEFAULT;
+ALTER TABLE idempotency_keys
+    DROP CONSTRAINT idempotency_keys_pkey;
+ALTER TABLE idempotency_keys
+    ADD PRIMARY KEY (client_id, idempotency_key);
+
+-- identifies the request holding an IN_PROGRESS key; only that request renews, completes or releases it
+ALTER TABLE idempotency_keys
+    ADD COLUMN lease_token UUID;
@@ -0,0 +1,13 @@
+CREATE TABLE idempotency_keys
+(
+    idempotency_key       VARCHAR(255) PRIMARY KEY,
+    request_fingerprint   VARCHAR(64) NOT NULL,
+    status                VARCHAR(16) NOT NULL,
+    response_status       INTEGER,
+    response_content_type VARCHAR,
+    response_body         BYTEA,
+    created_at            TIMESTAMP   NOT NULL DEFAULT now(),
+    expires_at            TIMESTAMP   NOT NULL
+);
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
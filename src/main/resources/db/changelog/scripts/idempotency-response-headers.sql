@@ -0,0 +1,3 @@
+-- headers of the stored response that are replayed with it, one "name: value" per line
+ALTER TABLE idempotency_keys
+    ADD COLUMN response_headers VARCHAR;
@@ -0,0 +1,17 @@
+-- every chunk of a job result is its own row, so saving a chunk does not rewrite the result written so far and a
+-- download reads the chunks one after another instead of the whole result at once
+CREATE TABLE job_result_chunks
+(
+    job_id BIGINT NOT NULL REFERENCES jobs (id) ON DELETE CASCADE,
+    seq    INTEGER NOT NULL,
+    data   BYTEA  NOT NULL,
+    PRIMARY KEY (job_id, seq)
+);
+
+INSERT INTO job_result_chunks (job_id, seq, data)
+SELECT id, 0, result
+FROM jobs
+WHERE result IS NOT NULL;
+
+ALTER TABLE jobs
+    DROP COLUMN result;
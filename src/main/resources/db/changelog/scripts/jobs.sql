@@ -0,0 +1,17 @@
+CREATE TABLE jobs
+(
+    id              BIGSERIAL PRIMARY KEY,
+    type            VARCHAR(32) NOT NULL,
+    status          VARCHAR(16) NOT NULL,
+    company_id      BIGINT      NOT NULL,
+    progress        BIGINT      NOT NULL DEFAULT 0,
+    total           BIGINT,
+    checkpoint      VARCHAR,
+    result          BYTEA,
+    result_location VARCHAR,
+    error           VARCHAR,
+    created_at      TIMESTAMP   NOT NULL DEFAULT now(),
+    updated_at      TIMESTAMP   NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_jobs_unfinished ON jobs (id) WHERE status IN ('QUEUED', 'RUNNING');
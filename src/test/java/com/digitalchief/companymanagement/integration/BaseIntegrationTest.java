@@ -25,6 +25,15 @@ public abstract class BaseIntegrationTest {
         registry.add("spring.datasource.url", POSTGRES_CONTAINER::getJdbcUrl);
         registry.add("spring.datasource.username", POSTGRES_CONTAINER::getUsername);
         registry.add("spring.datasource.password", POSTGRES_CONTAINER::getPassword);
+        registry.add("spring.r2dbc.url", BaseIntegrationTest::r2dbcUrl);
+        registry.add("spring.r2dbc.username", POSTGRES_CONTAINER::getUsername);
+        registry.add("spring.r2dbc.password", POSTGRES_CONTAINER::getPassword);
+    }
+
+    private static String r2dbcUrl() {
+        return "r2dbc:postgresql://" + POSTGRES_CONTAINER.getHost() + ":"
+                + POSTGRES_CONTAINER.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/"
+                + POSTGRES_CONTAINER.getDatabaseName();
     }
 
 }
@@ -0,0 +1,29 @@
+package com.digitalchief.companymanagement.integration;
+
+import com.digitalchief.companymanagement.metrics.RequestStatistics;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class StatementCountMatchers {
+
+    private StatementCountMatchers() {
+    }
+
+    /**
+     * Asserts the number of JDBC statements executed while the request was handled, whether Hibernate or a
+     * {@code JdbcTemplate} sent them.
+     */
+    public static ResultMatcher statements(long expected) {
+        return result -> {
+            Object statistics = result.getRequest().getAttribute(RequestStatistics.ATTRIBUTE);
+            assertThat(statistics)
+                    .as("statement statistics of %s", result.getRequest().getRequestURI())
+                    .isInstanceOf(RequestStatistics.class);
+            assertThat(((RequestStatistics) statistics).getStatements())
+                    .as("SQL statements executed by %s %s", result.getRequest().getMethod(),
+                            result.getRequest().getRequestURI())
+                    .isEqualTo(expected);
+        };
+    }
+}
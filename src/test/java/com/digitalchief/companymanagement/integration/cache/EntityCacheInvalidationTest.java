@@ -0,0 +1,157 @@
+package com.digitalchief.companymanagement.integration.cache;
+
+import com.digitalchief.companymanagement.CompanyManagementApplication;
+import com.digitalchief.companymanagement.builder.impl.CompanyTestBuilder;
+import com.digitalchief.companymanagement.builder.impl.DepartmentTestBuilder;
+import com.digitalchief.companymanagement.cache.CacheNames;
+import com.digitalchief.companymanagement.entity.Company;
+import com.digitalchief.companymanagement.entity.Department;
+import com.digitalchief.companymanagement.service.CompanyService;
+import com.digitalchief.companymanagement.service.DepartmentService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class EntityCacheInvalidationTest {
+
+    private static final PostgreSQLContainer<?> POSTGRES_CONTAINER = new PostgreSQLContainer<>("postgres:13.3");
+
+    private static final Long COMPANY_ID = 2L;
+
+    private static final Long COMPANY_ID_FOR_DEPARTMENT = 3L;
+
+    private static final Long DEPARTMENT_ID = 4L;
+
+    private static final Duration INVALIDATION_TIMEOUT = Duration.ofSeconds(10);
+
+    private static ConfigurableApplicationContext firstNode;
+
+    private static ConfigurableApplicationContext secondNode;
+
+    @BeforeAll
+    static void startNodes() {
+        POSTGRES_CONTAINER.start();
+        firstNode = startNode();
+        secondNode = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        secondNode.close();
+        firstNode.close();
+    }
+
+    @Test
+    void updateCompanyOnFirstNode_shouldEvictCompanyCachedOnSecondNode() {
+        CompanyService secondNodeService = secondNode.getBean(CompanyService.class);
+        Cache secondNodeCache = cache(secondNode, CacheNames.COMPANIES);
+        secondNodeService.findById(COMPANY_ID);
+        assertThat(secondNodeCache.get(COMPANY_ID)).isNotNull();
+
+        Company updateCompany = CompanyTestBuilder.aCompany()
+                .withName(null)
+                .withDescription("Updated on the first node")
+                .withDateOfCreation(null)
+                .build();
+        firstNode.getBean(CompanyService.class).updateCompanyPartiallyById(COMPANY_ID, updateCompany);
+
+        await().atMost(INVALIDATION_TIMEOUT).until(() -> secondNodeCache.get(COMPANY_ID) == null);
+        assertThat(secondNodeService.findById(COMPANY_ID).getDescription()).isEqualTo("Updated on the first node");
+        await().atMost(INVALIDATION_TIMEOUT).until(() -> lagTimer(secondNode, "company") != null);
+    }
+
+    @Test
+    void updateDepartmentOnFirstNode_shouldEvictDepartmentCachedOnSecondNode() {
+        DepartmentService secondNodeService = secondNode.getBean(DepartmentService.class);
+        Cache secondNodeCache = cache(secondNode, CacheNames.DEPARTMENTS);
+        secondNodeService.findById(DEPARTMENT_ID);
+        assertThat(secondNodeCache.get(DEPARTMENT_ID)).isNotNull();
+
+        Department updateDepartment = DepartmentTestBuilder.aDepartment()
+                .withName(null)
+                .withDescription("Updated on the first node")
+                .withAnnualBudget(null)
+                .build();
+        firstNode.getBean(DepartmentService.class)
+                .updateDepartmentInCompanyPartiallyById(COMPANY_ID_FOR_DEPARTMENT, DEPARTMENT_ID, updateDepartment);
+
+        await().atMost(INVALIDATION_TIMEOUT).until(() -> secondNodeCache.get(DEPARTMENT_ID) == null);
+        assertThat(secondNodeService.findById(DEPARTMENT_ID).getDescription()).isEqualTo("Updated on the first node");
+        await().atMost(INVALIDATION_TIMEOUT).until(() -> lagTimer(secondNode, "department") != null);
+    }
+
+    @Test
+    void updatesInOneTransactionOnFirstNode_shouldEvictAllOfThemOnSecondNode() {
+        Cache secondNodeCompanies = cache(secondNode, CacheNames.COMPANIES);
+        Cache secondNodeDepartments = cache(secondNode, CacheNames.DEPARTMENTS);
+        secondNode.getBean(CompanyService.class).findById(COMPANY_ID);
+        secondNode.getBean(DepartmentService.class).findById(DEPARTMENT_ID);
+        assertThat(secondNodeCompanies.get(COMPANY_ID)).isNotNull();
+        assertThat(secondNodeDepartments.get(DEPARTMENT_ID)).isNotNull();
+
+        Company updateCompany = CompanyTestBuilder.aCompany()
+                .withName(null)
+                .withDescription("Updated in one transaction")
+                .withDateOfCreation(null)
+                .build();
+        Department updateDepartment = DepartmentTestBuilder.aDepartment()
+                .withName(null)
+                .withDescription("Updated in one transaction")
+                .withAnnualBudget(null)
+                .build();
+        firstNode.getBean(TransactionTemplate.class).executeWithoutResult(status -> {
+            firstNode.getBean(CompanyService.class).updateCompanyPartiallyById(COMPANY_ID, updateCompany);
+            firstNode.getBean(DepartmentService.class)
+                    .updateDepartmentInCompanyPartiallyById(COMPANY_ID_FOR_DEPARTMENT, DEPARTMENT_ID, updateDepartment);
+        });
+
+        await().atMost(INVALIDATION_TIMEOUT).until(() -> secondNodeCompanies.get(COMPANY_ID) == null
+                && secondNodeDepartments.get(DEPARTMENT_ID) == null);
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(CompanyManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "spring.datasource.url=" + POSTGRES_CONTAINER.getJdbcUrl(),
+                        "spring.datasource.username=" + POSTGRES_CONTAINER.getUsername(),
+                        "spring.datasource.password=" + POSTGRES_CONTAINER.getPassword(),
+                        "spring.r2dbc.url=" + r2dbcUrl(),
+                        "spring.r2dbc.username=" + POSTGRES_CONTAINER.getUsername(),
+                        "spring.r2dbc.password=" + POSTGRES_CONTAINER.getPassword()
+                )
+                .run();
+    }
+
+    private static Cache cache(ConfigurableApplicationContext node, String name) {
+        return node.getBean(CacheManager.class).getCache(name);
+    }
+
+    private static Timer lagTimer(ConfigurableApplicationContext node, String entity) {
+        return node.getBean(MeterRegistry.class)
+                .find("cache.invalidation.lag")
+                .tag("entity", entity)
+                .timer();
+    }
+
+    private static String r2dbcUrl() {
+        return "r2dbc:postgresql://" + POSTGRES_CONTAINER.getHost() + ":"
+                + POSTGRES_CONTAINER.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/"
+                + POSTGRES_CONTAINER.getDatabaseName();
+    }
+}
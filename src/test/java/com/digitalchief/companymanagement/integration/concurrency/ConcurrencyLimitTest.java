@@ -0,0 +1,206 @@
+package com.digitalchief.companymanagement.integration.concurrency;
+
+import com.digitalchief.companymanagement.concurrency.AimdLimit;
+import com.digitalchief.companymanagement.concurrency.AimdLimits;
+import com.digitalchief.companymanagement.concurrency.ConcurrencyLimitExceededException;
+import com.digitalchief.companymanagement.integration.BaseIntegrationTest;
+import com.digitalchief.companymanagement.service.CompanyService;
+import com.digitalchief.companymanagement.workload.WorkloadClass;
+import com.digitalchief.companymanagement.workload.WorkloadContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@Import(ConcurrencyLimitTest.SlowDataSourceConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "company-management.concurrency-limit.initial-limit=8",
+        "company-management.concurrency-limit.min-limit=2",
+        "company-management.concurrency-limit.latency-threshold=100ms"
+})
+class ConcurrencyLimitTest extends BaseIntegrationTest {
+
+    private static final int MIN_LIMIT = 2;
+
+    private static volatile long connectionDelayMillis;
+
+    private static volatile CountDownLatch connectionGate = new CountDownLatch(0);
+
+    private static volatile WorkloadClass gatedWorkload = WorkloadClass.INTERACTIVE;
+
+    @Autowired
+    private CompanyService companyService;
+
+    @Autowired
+    private AimdLimits aimdLimits;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        connectionDelayMillis = 0;
+        connectionGate.countDown();
+        gatedWorkload = WorkloadClass.INTERACTIVE;
+        executor.shutdownNow();
+    }
+
+    @Test
+    void slowDatabase_shouldShrinkLimitToMinimum() {
+        connectionDelayMillis = 150;
+
+        for (int i = 0; i < 15; i++) {
+            companyService.findAllByPageable(PageRequest.of(0, 1));
+        }
+
+        assertThat(aimdLimits.get(WorkloadClass.INTERACTIVE).getLimit()).isEqualTo(MIN_LIMIT);
+        assertThat(meterRegistry.get("concurrency.limit").tag("workload", "interactive").gauge().value())
+                .isEqualTo(MIN_LIMIT);
+    }
+
+    @Test
+    @SneakyThrows
+    void saturatedService_shouldShedLoadWithServiceUnavailable() {
+        connectionGate = new CountDownLatch(1);
+        AimdLimit aimdLimit = aimdLimits.get(WorkloadClass.INTERACTIVE);
+        int limit = aimdLimit.getLimit();
+        double rejectedBefore = rejectedCount(WorkloadClass.INTERACTIVE);
+
+        List<Future<?>> calls = new ArrayList<>();
+        for (int i = 0; i < limit + 2; i++) {
+            calls.add(executor.submit(() -> companyService.findAllByPageable(PageRequest.of(0, 1))));
+        }
+        await().until(() -> aimdLimit.getInFlight() == limit);
+
+        mockMvc.perform(get("/api/v0/companies/1/departments").param("size", "7"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.message").isNotEmpty());
+
+        connectionGate.countDown();
+        assertThat(rejectedCalls(calls)).isEqualTo(2);
+        assertThat(rejectedCount(WorkloadClass.INTERACTIVE)).isEqualTo(rejectedBefore + 3);
+        assertThat(aimdLimit.getInFlight()).isZero();
+    }
+
+    @Test
+    @SneakyThrows
+    void saturatedBulkWorkload_shouldLeaveInteractiveRequestsUnaffected() {
+        gatedWorkload = WorkloadClass.BULK;
+        connectionGate = new CountDownLatch(1);
+        AimdLimit bulkLimit = aimdLimits.get(WorkloadClass.BULK);
+        int limit = bulkLimit.getLimit();
+        double interactiveRejectedBefore = rejectedCount(WorkloadClass.INTERACTIVE);
+
+        List<Future<?>> calls = new ArrayList<>();
+        for (int i = 0; i < limit + 1; i++) {
+            calls.add(executor.submit(() -> inBulkWorkload(
+                    () -> companyService.findAllByPageable(PageRequest.of(0, 1)))));
+        }
+        await().until(() -> bulkLimit.getInFlight() == limit);
+
+        mockMvc.perform(get("/api/v0/companies/1/departments").param("size", "7"))
+                .andExpect(status().isOk());
+        assertThat(aimdLimits.get(WorkloadClass.INTERACTIVE).getInFlight()).isZero();
+        assertThat(rejectedCount(WorkloadClass.INTERACTIVE)).isEqualTo(interactiveRejectedBefore);
+
+        connectionGate.countDown();
+        assertThat(rejectedCalls(calls)).isEqualTo(1);
+        assertThat(bulkLimit.getInFlight()).isZero();
+    }
+
+    private double rejectedCount(WorkloadClass workload) {
+        return meterRegistry.get("concurrency.limit.rejected").tag("workload", workload.tag()).counter().count();
+    }
+
+    @SneakyThrows
+    private static Object inBulkWorkload(WorkloadContext.Call call) {
+        return WorkloadContext.callIn(WorkloadClass.BULK, call);
+    }
+
+    private static long rejectedCalls(List<Future<?>> calls) throws InterruptedException {
+        long rejected = 0;
+        for (Future<?> call : calls) {
+            try {
+                call.get();
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(ConcurrencyLimitExceededException.class);
+                rejected++;
+            }
+        }
+        return rejected;
+    }
+
+    @TestConfiguration
+    static class SlowDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor slowDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? new SlowDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    private static class SlowDataSource extends DelegatingDataSource {
+
+        SlowDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            try {
+                if (WorkloadContext.current() == gatedWorkload) {
+                    connectionGate.await();
+                }
+                Thread.sleep(connectionDelayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException(e);
+            }
+            return super.getConnection();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.digitalchief.companymanagement.integration.controller;
+
+import com.digitalchief.companymanagement.entity.Department;
+import com.digitalchief.companymanagement.integration.BaseIntegrationTest;
+import com.digitalchief.companymanagement.repository.DepartmentRepository;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class BatchControllerTest extends BaseIntegrationTest {
+
+    private static final String URL = "/api/v0/batch";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Test
+    @SneakyThrows
+    void executeBatch_shouldApplySucceededOperations_whenModeIsBestEffort() {
+        String batch = """
+                {
+                  "mode": "BEST_EFFORT",
+                  "operations": [
+                    {"type": "PATCH_DEPARTMENT", "companyId": 1, "departmentId": 1,
+                     "body": {"annualBudget": 120000.00}},
+                    {"type": "CREATE_EMPLOYEE", "companyId": 1, "departmentId": 1,
+                     "body": {"firstname": "Jack", "lastname": "Doe", "position": "Manager", "age": 30,
+                              "email": "john.doe@example.com", "dateOfEmployment": "2022-01-01",
+                              "salaryPerMonth": 5000.00}},
+                    {"type": "CREATE_DEPARTMENT", "companyId": 1,
+                     "body": {"name": "Batch department", "description": "Created in a batch",
+                              "annualBudget": 30000.00}}
+                  ]
+                }
+                """;
+
+        mockMvc.perform(post(URL).contentType(MediaType.APPLICATION_JSON).content(batch))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.committed").value(true))
+                .andExpect(jsonPath("$.results[0].status").value("SUCCEEDED"))
+                .andExpect(jsonPath("$.results[1].status").value("FAILED"))
+                .andExpect(jsonPath("$.results[1].error").exists())
+                .andExpect(jsonPath("$.results[2].status").value("SUCCEEDED"))
+                .andExpect(jsonPath("$.results[2].id").exists());
+
+        List<Department> departments = departmentRepository.findAllByCompanyId(1L, Pageable.unpaged());
+        assertThat(departments).extracting(Department::getName).contains("Batch department");
+        assertThat(departmentRepository.findById(1L).orElseThrow().getAnnualBudget())
+                .isEqualByComparingTo(new BigDecimal("120000.00"));
+    }
+
+    @Test
+    @SneakyThrows
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void executeBatch_shouldRollBackEveryOperation_whenModeIsAllOrNothingAndOperationFails() {
+        String batch = """
+                {
+                  "mode": "ALL_OR_NOTHING",
+                  "operations": [
+                    {"type": "CREATE_DEPARTMENT", "companyId": 2,
+                     "body": {"name": "Batch department", "description": "Created in a batch",
+                              "annualBudget": 30000.00}},
+                    {"type": "PATCH_EMPLOYEE", "companyId": 2, "departmentId": 3, "employeeId": 1000,
+                     "body": {"position": "Director"}},
+                    {"type": "DELETE_COMPANY", "companyId": 5}
+                  ]
+                }
+                """;
+
+        mockMvc.perform(post(URL).contentType(MediaType.APPLICATION_JSON).content(batch))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.committed").value(false))
+                .andExpect(jsonPath("$.results[0].status").value("ROLLED_BACK"))
+                .andExpect(jsonPath("$.results[1].status").value("FAILED"))
+                .andExpect(jsonPath("$.results[2].status").value("SKIPPED"));
+
+        assertThat(departmentRepository.findAllByCompanyId(2L, Pageable.unpaged()))
+                .extracting(Department::getName)
+                .doesNotContain("Batch department");
+    }
+
+    @Test
+    @SneakyThrows
+    void executeBatch_shouldReturnBadRequestAndExecuteNothing_whenOperationsAreInvalid() {
+        String batch = """
+                {
+                  "operations": [
+                    {"type": "PATCH_DEPARTMENT", "companyId": 1, "departmentId": 1,
+                     "body": {"annualBudget": 120000.00}},
+                    {"type": "UPDATE_COMPANY", "body": {"name": "Company", "description": "Description"}},
+                    {"type": "CREATE_EMPLOYEE", "companyId": 1, "departmentId": 1,
+                     "body": {"firstname": "Jack", "lastname": "Doe", "position": "Manager", "age": 30,
+                              "email": "not-an-email", "dateOfEmployment": "2022-01-01",
+                              "salaryPerMonth": 5000.00}}
+                  ]
+                }
+                """;
+
+        mockMvc.perform(post(URL).contentType(MediaType.APPLICATION_JSON).content(batch))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("operations[1].companyId")))
+                .andExpect(jsonPath("$.message").value(containsString("operations[2].body.email")));
+
+        assertThat(departmentRepository.findById(1L).orElseThrow().getAnnualBudget())
+                .isEqualByComparingTo(new BigDecimal("100000.00"));
+    }
+}
@@ -9,12 +9,16 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -30,6 +34,10 @@ public class EmployeeControllerTest extends BaseIntegrationTest {
 
     private static final Long VALID_EMPLOYEE_ID = 1L;
 
+    private static final Long OTHER_COMPANY_ID = 2L;
+
+    private static final Long OTHER_COMPANY_DEPARTMENT_ID = 3L;
+
     private static final Long INVALID_COMPANY_ID = 1000L;
 
     private static final Long INVALID_DEPARTMENT_ID = 1001L;
@@ -42,13 +50,16 @@ public class EmployeeControllerTest extends BaseIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Nested
     class EmployeeControllerReadMethodsTest {
 
         @Test
         @SneakyThrows
         void findEmployeesByCompanyIdAndDepartmentIdWithPagination_shouldReturnOkStatusAndCorrectCountOfEmployees() {
-            int expectedLength = 1;
+            int expectedLength = 2;
             String url = fromPath("/api/v0/companies/{companyId}/departments/{departmentId}/employees")
                     .buildAndExpand(VALID_COMPANY_ID, VALID_DEPARTMENT_ID)
                     .toUriString();
@@ -178,6 +189,32 @@ public class EmployeeControllerTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    class EmployeeEmailUniquenessTest {
+
+        private static final String INSERT_EMPLOYEE_SQL = """
+                INSERT INTO employees (firstname, lastname, position, age, email, date_of_employment, salary_per_month,
+                                       department_id, company_id)
+                VALUES ('Alexander', 'Doe', 'UI/UX', 30, ?, '2019-01-15', 5000.00, ?, ?)
+                """;
+
+        @Test
+        void insertEmployee_shouldThrowDuplicateKeyException_whenEmailIsUsedInAnotherCompany() {
+            assertThatExceptionOfType(DuplicateKeyException.class).isThrownBy(() -> jdbcTemplate.update(
+                    INSERT_EMPLOYEE_SQL, "john.doe@example.com", OTHER_COMPANY_DEPARTMENT_ID, OTHER_COMPANY_ID));
+        }
+
+        @Test
+        void insertEmployee_shouldInsertEmployee_whenEmailWasReleasedByDeletedEmployee() {
+            jdbcTemplate.update("DELETE FROM employees WHERE email = ?", "john.doe@example.com");
+
+            int inserted = jdbcTemplate.update(
+                    INSERT_EMPLOYEE_SQL, "john.doe@example.com", OTHER_COMPANY_DEPARTMENT_ID, OTHER_COMPANY_ID);
+
+            assertThat(inserted).isEqualTo(1);
+        }
+    }
+
     @Nested
     class EmployeeControllerUpdateMethodsTest {
 
@@ -0,0 +1,130 @@
+package com.digitalchief.companymanagement.integration.controller;
+
+import com.digitalchief.companymanagement.integration.BaseIntegrationTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.SneakyThrows;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class GraphQlControllerTest extends BaseIntegrationTest {
+
+    private static final String HIERARCHY_QUERY = """
+            query ($size: Int) {
+              companies(page: 0, size: $size) {
+                id
+                name
+                departments {
+                  id
+                  name
+                  employees { id email }
+                }
+              }
+            }
+            """;
+
+    private static final long HIERARCHY_STATEMENTS = 4;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @SneakyThrows
+    void companies_shouldResolveHierarchyWithFixedNumberOfStatements() {
+        long fewCompaniesStatements = countStatements(() -> execute(HIERARCHY_QUERY, Map.of("size", 2))
+                .andExpect(jsonPath("$.data.companies.length()").value(2)));
+        long allCompaniesStatements = countStatements(() -> execute(HIERARCHY_QUERY, Map.of("size", 10))
+                .andExpect(jsonPath("$.data.companies.length()").value(10))
+                .andExpect(jsonPath("$.data.companies[0].departments.length()").value(2))
+                .andExpect(jsonPath("$.data.companies[0].departments[0].employees.length()").value(2)));
+
+        assertThat(fewCompaniesStatements).isEqualTo(HIERARCHY_STATEMENTS);
+        assertThat(allCompaniesStatements).isEqualTo(HIERARCHY_STATEMENTS);
+    }
+
+    @Test
+    @SneakyThrows
+    void company_shouldReturnCompanyWithDepartments() {
+        execute("{ company(id: 3) { name departments { name annualBudget } } }", Map.of())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.company.name").value("Company C"))
+                .andExpect(jsonPath("$.data.company.departments.length()").value(2));
+    }
+
+    @Test
+    @SneakyThrows
+    void company_shouldReturnNotFoundError_whenCompanyIsNotPresent() {
+        execute("{ company(id: 1000) { name } }", Map.of())
+                .andExpect(jsonPath("$.data.company").doesNotExist())
+                .andExpect(jsonPath("$.errors[0].extensions.classification").value("NOT_FOUND"));
+    }
+
+    @Test
+    @SneakyThrows
+    void companies_shouldRejectQuery_whenComplexityLimitIsExceeded() {
+        String query = IntStream.range(0, 60)
+                .mapToObj(i -> "c" + i + ": companies { id name departments { id } }")
+                .collect(Collectors.joining(" ", "{ ", " }"));
+
+        long statements = countStatements(() -> execute(query, Map.of())
+                .andExpect(jsonPath("$.data").doesNotExist())
+                .andExpect(jsonPath("$.errors[0].message").isNotEmpty()));
+
+        assertThat(statements).isZero();
+    }
+
+    @SneakyThrows
+    private long countStatements(ThrowingRunnable request) {
+        statistics.clear();
+        request.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    @SneakyThrows
+    private ResultActions execute(String query, Map<String, Object> variables) {
+        String body = objectMapper.writeValueAsString(Map.of("query", query, "variables", variables));
+        ResultActions actions = mockMvc.perform(post("/graphql")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+        MvcResult result = actions.andReturn();
+        return result.getRequest().isAsyncStarted() ? mockMvc.perform(asyncDispatch(result)) : actions;
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,136 @@
+package com.digitalchief.companymanagement.integration.controller;
+
+import com.digitalchief.companymanagement.integration.BaseIntegrationTest;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.web.util.UriComponentsBuilder.fromPath;
+
+@AutoConfigureMockMvc
+class ReactiveControllerTest extends BaseIntegrationTest {
+
+    private static final Long VALID_COMPANY_ID = 1L;
+
+    private static final Long INVALID_COMPANY_ID = 1000L;
+
+    private static final Long VALID_DEPARTMENT_ID = 1L;
+
+    private static final Long DEPARTMENT_ID_OF_OTHER_COMPANY = 3L;
+
+    private static final Long VALID_EMPLOYEE_ID = 1L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @SneakyThrows
+    void getCompaniesWithPagination_shouldStreamOneCompanyPerLine() {
+        int size = 5;
+        String url = fromPath("/api/v0/reactive/companies")
+                .queryParam("page", 0)
+                .queryParam("size", size)
+                .toUriString();
+
+        MvcResult result = mockMvc.perform(dispatch(get(url).accept(MediaType.APPLICATION_NDJSON)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsString().lines()).hasSize(size);
+    }
+
+    @Test
+    @SneakyThrows
+    void getCompaniesWithPagination_shouldReturnJsonArray_whenJsonIsAccepted() {
+        String url = fromPath("/api/v0/reactive/companies")
+                .queryParam("page", 0)
+                .queryParam("size", 10)
+                .toUriString();
+
+        mockMvc.perform(dispatch(get(url).accept(MediaType.APPLICATION_JSON)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(10));
+    }
+
+    @Test
+    @SneakyThrows
+    void getCompanyById_shouldReturnOkStatusAndExpectedCompany() {
+        mockMvc.perform(dispatch(get("/api/v0/reactive/companies/" + VALID_COMPANY_ID)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(VALID_COMPANY_ID))
+                .andExpect(jsonPath("$.name").value("Company A"))
+                .andExpect(jsonPath("$.dateOfCreation").value("2020-01-01"));
+    }
+
+    @Test
+    @SneakyThrows
+    void getCompanyById_shouldReturnNotFoundStatus_whenCompanyIsNotPresent() {
+        mockMvc.perform(dispatch(get("/api/v0/reactive/companies/" + INVALID_COMPANY_ID)))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").exists());
+    }
+
+    @Test
+    @SneakyThrows
+    void getDepartmentsByCompanyIdWithPagination_shouldReturnDepartmentsOfCompany() {
+        String url = "/api/v0/reactive/companies/" + VALID_COMPANY_ID + "/departments";
+
+        mockMvc.perform(dispatch(get(url).accept(MediaType.APPLICATION_JSON)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    @SneakyThrows
+    void findEmployeesByCompanyIdAndDepartmentIdWithPagination_shouldReturnEmployeesOfDepartment() {
+        String url = "/api/v0/reactive/companies/" + VALID_COMPANY_ID
+                + "/departments/" + VALID_DEPARTMENT_ID + "/employees";
+
+        mockMvc.perform(dispatch(get(url).accept(MediaType.APPLICATION_JSON)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    @SneakyThrows
+    void findEmployeeById_shouldReturnOkStatusAndExpectedEmployee() {
+        String url = "/api/v0/reactive/companies/" + VALID_COMPANY_ID
+                + "/departments/" + VALID_DEPARTMENT_ID + "/employees/" + VALID_EMPLOYEE_ID;
+
+        mockMvc.perform(dispatch(get(url)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("john.doe@example.com"));
+    }
+
+    @Test
+    @SneakyThrows
+    void findEmployeeById_shouldReturnNotFoundStatus_whenDepartmentBelongsToOtherCompany() {
+        String url = "/api/v0/reactive/companies/" + VALID_COMPANY_ID
+                + "/departments/" + DEPARTMENT_ID_OF_OTHER_COMPANY + "/employees/" + VALID_EMPLOYEE_ID;
+
+        mockMvc.perform(dispatch(get(url)))
+                .andExpect(status().isNotFound());
+    }
+
+    @SneakyThrows
+    private RequestBuilder dispatch(RequestBuilder requestBuilder) {
+        MvcResult result = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return asyncDispatch(result);
+    }
+}
@@ -0,0 +1,380 @@
+package com.digitalchief.companymanagement.integration.controller;
+
+import com.digitalchief.companymanagement.cache.EntityChangeHandler;
+import com.digitalchief.companymanagement.integration.BaseIntegrationTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.digitalchief.companymanagement.integration.StatementCountMatchers.statements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Baseline number of JDBC statements per endpoint, whether Hibernate or a {@code JdbcTemplate} sent them. Requests run
+ * in their own committed transactions with empty caches, so the counts include the flush at commit and the one
+ * {@code pg_notify} every write transaction sends for cache invalidation. Writes work on a fixture company with three
+ * departments of two employees. Inserts take their id from a block of 50 held by Hibernate, only the insert that opens
+ * a new block also fetches it.
+ */
+@AutoConfigureMockMvc
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StatementCountTest extends BaseIntegrationTest {
+
+    private static final String FIXTURE_NAME = "Statement count company";
+
+    private static final String CREATED_NAME = "Statement count created company";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private List<EntityChangeHandler> caches;
+
+    private Long companyId;
+
+    private final List<Long> departmentIds = new ArrayList<>();
+
+    private final List<Long> employeeIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        caches.forEach(EntityChangeHandler::onInvalidateAll);
+
+        companyId = jdbcTemplate.queryForObject("""
+                INSERT INTO companies (name, description, date_of_creation)
+                VALUES (?, 'Fixture for statement counts', '2020-01-01')
+                RETURNING id
+                """, Long.class, FIXTURE_NAME);
+        for (int department = 0; department < 3; department++) {
+            Long departmentId = jdbcTemplate.queryForObject("""
+                    INSERT INTO departments (name, description, annual_budget, company_id)
+                    VALUES ('Fixture department', 'Fixture for statement counts', 1000.00, ?)
+                    RETURNING id
+                    """, Long.class, companyId);
+            departmentIds.add(departmentId);
+            for (int employee = 0; employee < 2; employee++) {
+                employeeIds.add(jdbcTemplate.queryForObject("""
+                        INSERT INTO employees (firstname, lastname, position, age, email, date_of_employment,
+                                               salary_per_month, department_id, company_id)
+                        VALUES ('Jack', 'Doe', 'Engineer', 30, ?, '2022-01-01', 4000.00, ?, ?)
+                        RETURNING id
+                        """, Long.class, "statements." + department + "." + employee + "@example.com", departmentId,
+                        companyId));
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM employees WHERE company_id = ?", companyId);
+        jdbcTemplate.update("DELETE FROM departments WHERE company_id = ?", companyId);
+        jdbcTemplate.update("DELETE FROM companies WHERE id = ? OR name = ?", companyId, CREATED_NAME);
+        departmentIds.clear();
+        employeeIds.clear();
+    }
+
+    @Nested
+    class ReadEndpointsTest {
+
+        @Test
+        @SneakyThrows
+        void getCompaniesWithPagination_shouldExecutePageAndCountQueries() {
+            mockMvc.perform(get("/api/v0/companies?page=0&size=5"))
+                    .andExpect(status().isOk())
+                    .andExpect(statements(2));
+        }
+
+        @Test
+        @SneakyThrows
+        void getCompanyById_shouldExecuteOneQuery() {
+            mockMvc.perform(get("/api/v0/companies/1"))
+                    .andExpect(status().isOk())
+                    .andExpect(statements(1));
+        }
+
+        @Test
+        @SneakyThrows
+        void getCompanyById_shouldExecuteNoQuery_whenCompanyIsCached() {
+            mockMvc.perform(get("/api/v0/companies/1"));
+
+            mockMvc.perform(get("/api/v0/companies/1"))
+                    .andExpect(status().isOk())
+                    .andExpect(statements(0));
+        }
+
+        @Test
+        @SneakyThrows
+        void getDepartmentsByCompanyId_shouldExecuteOneQuery() {
+            mockMvc.perform(get("/api/v0/companies/1/departments"))
+                    .andExpect(status().isOk())
+                    .andExpect(statements(1));
+        }
+
+        @Test
+        @SneakyThrows
+        void getDepartmentById_shouldExecuteOneQuery() {
+            mockMvc.perform(get("/api/v0/companies/1/departments/1"))
+                    .andExpect(status().isOk())
+                    .andExpect(statements(1));
+        }
+
+        @Test
+        @SneakyThrows
+        void getEmployeesByDepartmentId_shouldExecuteOneQuery() {
+            mockMvc.perform(get("/api/v0/companies/1/departments/1/employees"))
+                    .andExpect(status().isOk())
+                    .andExpect(statements(1));
+        }
+
+        @Test
+        @SneakyThrows
+        void getEmployeeById_shouldCheckCompanyAndLoadEmployee() {
+            mockMvc.perform(get("/api/v0/companies/1/departments/1/employees/1"))
+                    .andExpect(status().isOk())
+                    .andExpect(statements(2));
+        }
+
+        @Test
+        @SneakyThrows
+        void getJobById_shouldExecuteOneJdbcQuery() {
+            Long jobId = jdbcTemplate.queryForObject(
+                    "INSERT INTO jobs (type, status, company_id) VALUES ('COMPANY_EXPORT', 'FAILED', ?) RETURNING id",
+                    Long.class, companyId);
+            try {
+                mockMvc.perform(get("/api/v0/jobs/" + jobId))
+                        .andExpect(status().isOk())
+                        .andExpect(statements(1));
+            } finally {
+                jdbcTemplate.update("DELETE FROM jobs WHERE id = ?", jobId);
+            }
+        }
+    }
+
+    @Nested
+    class CompanyWriteEndpointsTest {
+
+        @Test
+        @SneakyThrows
+        void createCompany_shouldCheckNameAndInsert() {
+            MvcResult result = mockMvc.perform(post("/api/v0/companies")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(companyJson(CREATED_NAME)))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+
+            statements(2 + 1 + idBlockFetches("companies_id_seq", result)).match(result);
+        }
+
+        @Test
+        @SneakyThrows
+        void updateCompany_shouldCheckNameLoadAndUpdate() {
+            mockMvc.perform(put("/api/v0/companies/" + companyId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(companyJson(FIXTURE_NAME + " renamed")))
+                    .andExpect(status().isNoContent())
+                    .andExpect(statements(4));
+        }
+
+        @Test
+        @SneakyThrows
+        void updateCompanyPartially_shouldCheckNameLoadAndUpdate() {
+            mockMvc.perform(patch("/api/v0/companies/" + companyId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"description\": \"Patched\"}"))
+                    .andExpect(status().isNoContent())
+                    .andExpect(statements(4));
+        }
+
+        @Test
+        @SneakyThrows
+        void deleteCompany_shouldLoadEveryCollectionAndDeleteInBatches() {
+            // company, its departments, employees of each department, then the deletes in cascade order, batched
+            // while the table stays the same: employees of a department, the department, ..., the company, and the
+            // notification of all removed entities
+            long expected = 1 + 1 + departmentIds.size() + departmentIds.size() + departmentIds.size() + 1 + 1;
+            double exceededBefore = budgetExceeded("DELETE", "/api/v0/companies/{companyId}");
+
+            mockMvc.perform(delete("/api/v0/companies/" + companyId))
+                    .andExpect(status().isNoContent())
+                    .andExpect(statements(expected));
+
+            assertThat(budgetExceeded("DELETE", "/api/v0/companies/{companyId}")).isEqualTo(exceededBefore + 1);
+        }
+
+        @Test
+        @SneakyThrows
+        void executeBatch_shouldRunOperationsInOneTransaction() {
+            String batch = """
+                    {"operations": [{"type": "PATCH_COMPANY", "companyId": %d, "body": {"description": "Batched"}}]}
+                    """.formatted(companyId);
+
+            mockMvc.perform(post("/api/v0/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(batch))
+                    .andExpect(status().isOk())
+                    .andExpect(statements(4));
+        }
+    }
+
+    @Nested
+    class DepartmentWriteEndpointsTest {
+
+        @Test
+        @SneakyThrows
+        void createDepartment_shouldLoadCompanyAndInsert() {
+            MvcResult result = mockMvc.perform(post("/api/v0/companies/" + companyId + "/departments")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(departmentJson()))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+
+            statements(2 + 1 + idBlockFetches("departments_id_seq", result)).match(result);
+        }
+
+        @Test
+        @SneakyThrows
+        void updateDepartment_shouldLoadAndUpdate() {
+            mockMvc.perform(put(departmentUrl())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(departmentJson()))
+                    .andExpect(status().isNoContent())
+                    .andExpect(statements(3));
+        }
+
+        @Test
+        @SneakyThrows
+        void updateDepartmentPartially_shouldLoadAndUpdate() {
+            mockMvc.perform(patch(departmentUrl())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"description\": \"Patched\"}"))
+                    .andExpect(status().isNoContent())
+                    .andExpect(statements(3));
+        }
+
+        @Test
+        @SneakyThrows
+        void deleteDepartment_shouldLoadEmployeesAndDeleteInBatches() {
+            mockMvc.perform(delete(departmentUrl()))
+                    .andExpect(status().isNoContent())
+                    .andExpect(statements(1 + 1 + 1 + 1 + 1));
+        }
+    }
+
+    @Nested
+    class EmployeeWriteEndpointsTest {
+
+        @Test
+        @SneakyThrows
+        void createEmployee_shouldCheckCompanyEmailLoadDepartmentAndInsert() {
+            MvcResult result = mockMvc.perform(post(departmentUrl() + "/employees")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(employeeJson("statements.created@example.com")))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+
+            statements(4 + 1 + idBlockFetches("employees_id_seq", result)).match(result);
+        }
+
+        @Test
+        @SneakyThrows
+        void updateEmployee_shouldCheckCompanyEmailLoadAndUpdate() {
+            mockMvc.perform(put(employeeUrl())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(employeeJson("statements.updated@example.com")))
+                    .andExpect(status().isNoContent())
+                    .andExpect(statements(5));
+        }
+
+        @Test
+        @SneakyThrows
+        void updateEmployeePartially_shouldCheckCompanyEmailLoadAndUpdate() {
+            mockMvc.perform(patch(employeeUrl())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"position\": \"Lead\"}"))
+                    .andExpect(status().isNoContent())
+                    .andExpect(statements(5));
+        }
+
+        @Test
+        @SneakyThrows
+        void deleteEmployee_shouldCheckCompanyLoadAndDelete() {
+            mockMvc.perform(delete(employeeUrl()))
+                    .andExpect(status().isNoContent())
+                    .andExpect(statements(4));
+        }
+    }
+
+    private String departmentUrl() {
+        return "/api/v0/companies/" + companyId + "/departments/" + departmentIds.get(0);
+    }
+
+    private String employeeUrl() {
+        return departmentUrl() + "/employees/" + employeeIds.get(0);
+    }
+
+    // with pooled-lo the first id of a block is the sequence value itself, and the fixture rows inserted before the
+    // request have moved the sequence past every block Hibernate already holds
+    @SneakyThrows
+    private long idBlockFetches(String sequence, MvcResult result) {
+        long id = objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+        Long lastValue = jdbcTemplate.queryForObject("SELECT last_value FROM " + sequence, Long.class);
+        return lastValue != null && id == lastValue ? 1 : 0;
+    }
+
+    private double budgetExceeded(String method, String uri) {
+        Counter counter = meterRegistry.find("hibernate.request.budget.exceeded")
+                .tags("method", method, "uri", uri)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static String companyJson(String name) {
+        return """
+                {"name": "%s", "description": "Counted", "dateOfCreation": "2020-01-01"}
+                """.formatted(name);
+    }
+
+    private static String departmentJson() {
+        return """
+                {"name": "Counted department", "description": "Counted", "annualBudget": 2000.00}
+                """;
+    }
+
+    private static String employeeJson(String email) {
+        return """
+                {"firstname": "Jack", "lastname": "Doe", "position": "Manager", "age": 30, "email": "%s",
+                 "dateOfEmployment": "2022-01-01", "salaryPerMonth": 5000.00}
+                """.formatted(email);
+    }
+}
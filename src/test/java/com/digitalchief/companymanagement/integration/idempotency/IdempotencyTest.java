@@ -0,0 +1,247 @@
+package com.digitalchief.companymanagement.integration.idempotency;
+
+import com.digitalchief.companymanagement.idempotency.ClientKey;
+import com.digitalchief.companymanagement.idempotency.IdempotencyFilter;
+import com.digitalchief.companymanagement.idempotency.IdempotencyKeyStore;
+import com.digitalchief.companymanagement.integration.BaseIntegrationTest;
+import com.digitalchief.companymanagement.repository.CompanyRepository;
+import com.digitalchief.companymanagement.repository.EmployeeRepository;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class IdempotencyTest extends BaseIntegrationTest {
+
+    private static final String COMPANIES_URL = "/api/v0/companies";
+
+    private static final String EMPLOYEES_URL = "/api/v0/companies/1/departments/1/employees";
+
+    private static final String JOBS_URL = "/api/v0/jobs";
+
+    // the address MockMvc requests come from
+    private static final String CLIENT = "127.0.0.1";
+
+    private static final String COMPANY_JSON = """
+            {"name": "Idempotent company", "description": "Created once", "dateOfCreation": "2020-01-01"}
+            """;
+
+    private static final String EMPLOYEE_JSON = """
+            {"firstname": "Jack", "lastname": "Doe", "position": "Manager", "age": 30,
+             "email": "jack.idempotent@example.com", "dateOfEmployment": "2022-01-01", "salaryPerMonth": 5000.00}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private IdempotencyKeyStore store;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @SneakyThrows
+    void createCompany_shouldReturnStoredResponse_whenRequestIsRetriedWithSameKey() {
+        long companiesBefore = companyRepository.count();
+
+        MvcResult first = createCompany("company-retry", COMPANY_JSON)
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER))
+                .andReturn();
+        createCompany("company-retry", COMPANY_JSON)
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andExpect(content().json(first.getResponse().getContentAsString()));
+
+        assertThat(companyRepository.count()).isEqualTo(companiesBefore + 1);
+    }
+
+    @Test
+    @SneakyThrows
+    void createEmployee_shouldReturnStoredResponse_whenRequestIsRetriedWithSameKey() {
+        long employeesBefore = employeeRepository.count();
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            mockMvc.perform(post(EMPLOYEES_URL)
+                            .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "employee-retry")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(EMPLOYEE_JSON))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.email").value("jack.idempotent@example.com"));
+        }
+
+        assertThat(employeeRepository.count()).isEqualTo(employeesBefore + 1);
+    }
+
+    @Test
+    @SneakyThrows
+    void submitJob_shouldReplayLocation_whenRequestIsRetriedWithSameKey() {
+        String job = """
+                {"type": "COMPANY_EXPORT", "companyId": 1}
+                """;
+        long jobsBefore = countJobs();
+
+        String location = mockMvc.perform(post(JOBS_URL)
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "job-retry")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(job))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists(HttpHeaders.LOCATION))
+                .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+        mockMvc.perform(post(JOBS_URL)
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "job-retry")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(job))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andExpect(header().string(HttpHeaders.LOCATION, location));
+
+        assertThat(countJobs()).isEqualTo(jobsBefore + 1);
+    }
+
+    @Test
+    @SneakyThrows
+    void createCompany_shouldReturnUnprocessableEntity_whenKeyIsReusedForDifferentRequest() {
+        createCompany("company-reused", COMPANY_JSON)
+                .andExpect(status().isCreated());
+
+        createCompany("company-reused", COMPANY_JSON.replace("Idempotent company", "Another company"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message").isNotEmpty())
+                .andExpect(jsonPath("$.url").value(COMPANIES_URL));
+    }
+
+    @Test
+    @SneakyThrows
+    void createCompany_shouldReturnUnprocessableEntity_whenKeyIsReusedWithDifferentQueryString() {
+        createCompany("company-query", COMPANY_JSON)
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post(COMPANIES_URL + "?source=import")
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "company-query")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(COMPANY_JSON))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    @SneakyThrows
+    void createCompany_shouldNotReplayResponse_whenAnotherClientUsesSameKey() {
+        long companiesBefore = companyRepository.count();
+        createCompany("company-shared", COMPANY_JSON)
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post(COMPANIES_URL)
+                        .with(request -> {
+                            request.setRemoteAddr("10.0.0.2");
+                            return request;
+                        })
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "company-shared")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(COMPANY_JSON.replace("Idempotent company", "Another company")))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER))
+                .andExpect(jsonPath("$.name").value("Another company"));
+
+        assertThat(companyRepository.count()).isEqualTo(companiesBefore + 2);
+    }
+
+    @Test
+    @SneakyThrows
+    void createCompany_shouldRunNormally_whenKeyIsAbsent() {
+        mockMvc.perform(post(COMPANIES_URL).contentType(MediaType.APPLICATION_JSON).content(COMPANY_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    @SneakyThrows
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void createCompany_shouldWaitForRequestInProgress_whenDuplicateArrives() {
+        ClientKey key = new ClientKey(CLIENT, "company-in-progress");
+        byte[] body = COMPANY_JSON.getBytes(StandardCharsets.UTF_8);
+        String fingerprint = IdempotencyFilter.fingerprint("POST", COMPANIES_URL, body);
+        String storedResponse = "{\"id\":42,\"name\":\"Idempotent company\"}";
+        UUID leaseToken = UUID.randomUUID();
+        try {
+            assertThat(store.tryStart(key, fingerprint, leaseToken, Duration.ofSeconds(30))).isTrue();
+            CompletableFuture.runAsync(() -> store.complete(key, leaseToken, 201, MediaType.APPLICATION_JSON_VALUE,
+                    Map.of(), storedResponse.getBytes(StandardCharsets.UTF_8), Duration.ofMinutes(1)),
+                    CompletableFuture.delayedExecutor(300, TimeUnit.MILLISECONDS));
+
+            createCompany(key.key(), COMPANY_JSON)
+                    .andExpect(status().isCreated())
+                    .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                    .andExpect(content().json(storedResponse));
+            assertThat(companyRepository.existsByName("Idempotent company")).isFalse();
+        } finally {
+            deleteKey(key);
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void tryStart_shouldNotTakeOverKey_whileLeaseIsRenewed() {
+        ClientKey key = new ClientKey(CLIENT, "company-renewed");
+        String fingerprint = IdempotencyFilter.fingerprint("POST", COMPANIES_URL, new byte[0]);
+        UUID leaseToken = UUID.randomUUID();
+        try {
+            assertThat(store.tryStart(key, fingerprint, leaseToken, Duration.ofMillis(500))).isTrue();
+            assertThat(store.renew(key, leaseToken, Duration.ofSeconds(30))).isTrue();
+            Thread.sleep(700);
+
+            assertThat(store.tryStart(key, fingerprint, UUID.randomUUID(), Duration.ofSeconds(30))).isFalse();
+            assertThat(store.renew(key, UUID.randomUUID(), Duration.ofSeconds(30))).isFalse();
+        } finally {
+            deleteKey(key);
+        }
+    }
+
+    @SneakyThrows
+    private ResultActions createCompany(String key, String json) {
+        return mockMvc.perform(post(COMPANIES_URL)
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json));
+    }
+
+    private void deleteKey(ClientKey key) {
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE client_id = ? AND idempotency_key = ?",
+                key.client(), key.key());
+    }
+
+    private long countJobs() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM jobs", Long.class);
+    }
+}
@@ -0,0 +1,129 @@
+package com.digitalchief.companymanagement.integration.jfr;
+
+import com.digitalchief.companymanagement.integration.BaseIntegrationTest;
+import com.digitalchief.companymanagement.jfr.ServiceOperationEvent;
+import com.digitalchief.companymanagement.jfr.SlowQueryEvent;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "company-management.jfr.slow-query-threshold=0ms",
+        "company-management.jfr.remote-control=true"
+})
+class JfrTest extends BaseIntegrationTest {
+
+    private static final String SERVICE_OPERATION_EVENT = "com.digitalchief.companymanagement.ServiceOperation";
+
+    private static final String SLOW_QUERY_EVENT = "com.digitalchief.companymanagement.SlowQuery";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @SneakyThrows
+    void serviceCall_shouldEmitServiceOperationAndSlowQueryEvents() {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(ServiceOperationEvent.class);
+            recording.enable(SlowQueryEvent.class);
+            recording.start();
+
+            mockMvc.perform(patch("/api/v0/companies/1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"description\": \"Recorded\"}"))
+                    .andExpect(status().isNoContent());
+
+            recording.stop();
+            events = read(recording);
+        }
+
+        RecordedEvent operation = events.stream()
+                .filter(event -> event.getEventType().getName().equals(SERVICE_OPERATION_EVENT))
+                .filter(event -> "updateCompanyPartiallyById".equals(event.getString("operation")))
+                .findFirst()
+                .orElseThrow();
+        assertThat(operation.getString("service")).isEqualTo("CompanyServiceImpl");
+        assertThat(operation.getLong("companyId")).isEqualTo(1);
+        assertThat(operation.getLong("sqlStatements")).isPositive();
+        assertThat(operation.getLong("rowsTouched")).isPositive();
+        assertThat(operation.getBoolean("failed")).isFalse();
+        assertThat(events)
+                .filteredOn(event -> event.getEventType().getName().equals(SLOW_QUERY_EVENT))
+                .anySatisfy(event -> assertThat(event.getString("sql")).containsIgnoringCase("companies"));
+    }
+
+    @Test
+    @SneakyThrows
+    void recordingEndpoint_shouldStartStopAndReturnJfrFile() {
+        mockMvc.perform(post("/actuator/jfr")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"settings\": \"default\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("RUNNING"))
+                .andExpect(jsonPath("$.settings").value("default"));
+        mockMvc.perform(post("/actuator/jfr")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"settings\": \"default\"}"))
+                .andExpect(status().isConflict());
+        mockMvc.perform(get("/actuator/jfr"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("RUNNING"));
+
+        mockMvc.perform(get("/api/v0/companies/1"))
+                .andExpect(status().isOk());
+        byte[] jfr = mockMvc.perform(delete("/actuator/jfr"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        Path file = Files.createTempFile("jfr-test-", ".jfr");
+        try {
+            Files.write(file, jfr);
+            assertThat(RecordingFile.readAllEvents(file)).isNotEmpty();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        mockMvc.perform(delete("/actuator/jfr"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @SneakyThrows
+    void recordingEndpoint_shouldRejectUnknownSettings() {
+        mockMvc.perform(post("/actuator/jfr")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"settings\": \"does-not-exist\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @SneakyThrows
+    private static List<RecordedEvent> read(Recording recording) {
+        Path file = Files.createTempFile("jfr-test-", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
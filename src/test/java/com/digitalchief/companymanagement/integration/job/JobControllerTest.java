@@ -0,0 +1,246 @@
+package com.digitalchief.companymanagement.integration.job;
+
+import com.digitalchief.companymanagement.integration.BaseIntegrationTest;
+import com.digitalchief.companymanagement.job.JobRunner;
+import com.digitalchief.companymanagement.model.job.JobStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "company-management.jobs.chunk-size=2",
+        "company-management.jobs.poll-interval=PT1H"
+})
+class JobControllerTest extends BaseIntegrationTest {
+
+    private static final Long EXPORTED_COMPANY_ID = 1L;
+
+    private static final Long INVALID_COMPANY_ID = 1000L;
+
+    private static final Duration JOB_TIMEOUT = Duration.ofSeconds(20);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JobRunner jobRunner;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void deleteJobs() {
+        jdbcTemplate.update("DELETE FROM jobs");
+    }
+
+    @Test
+    @SneakyThrows
+    void exportJob_shouldExportAllEmployeesOfCompanyInChunks() {
+        long jobId = submit("COMPANY_EXPORT", EXPORTED_COMPANY_ID);
+
+        JsonNode job = awaitFinished(jobId);
+
+        assertThat(job.get("status").asText()).isEqualTo(JobStatus.SUCCEEDED.name());
+        assertThat(job.get("progress").asLong()).isEqualTo(4);
+        assertThat(job.get("total").asLong()).isEqualTo(4);
+        assertThat(job.get("resultLocation").asText()).isEqualTo("/api/v0/jobs/" + jobId + "/result");
+        assertThat(count("SELECT count(*) FROM job_result_chunks WHERE job_id = ?", jobId)).isEqualTo(2);
+        String[] lines = result(jobId).split("\n");
+        assertThat(lines).hasSize(4);
+        assertThat(objectMapper.readTree(lines[0]).at("/employee/email").asText()).isEqualTo("john.doe@example.com");
+        assertThat(objectMapper.readTree(lines[3]).get("departmentId").asLong()).isEqualTo(2);
+    }
+
+    @Test
+    @SneakyThrows
+    void deleteJob_shouldDeleteCompanyWithDepartmentsAndEmployees() {
+        Long companyId = jdbcTemplate.queryForObject("""
+                INSERT INTO companies (name, description, date_of_creation)
+                VALUES ('Company to delete', 'Deleted by a job', '2020-01-01')
+                RETURNING id
+                """, Long.class);
+        Long departmentId = jdbcTemplate.queryForObject("""
+                INSERT INTO departments (name, description, annual_budget, company_id)
+                VALUES ('Department to delete', 'Deleted by a job', 1000.00, ?)
+                RETURNING id
+                """, Long.class, companyId);
+        for (int i = 0; i < 3; i++) {
+            jdbcTemplate.update("""
+                    INSERT INTO employees (firstname, lastname, position, age, email, date_of_employment,
+                                           salary_per_month, department_id, company_id)
+                    VALUES ('Jack', 'Doe', 'Engineer', 30, ?, '2022-01-01', 4000.00, ?, ?)
+                    """, "jack.deleted" + i + "@example.com", departmentId, companyId);
+        }
+
+        long jobId = submit("COMPANY_DELETE", companyId);
+        JsonNode job = awaitFinished(jobId);
+
+        assertThat(job.get("status").asText()).isEqualTo(JobStatus.SUCCEEDED.name());
+        assertThat(job.get("progress").asLong()).isEqualTo(5).isEqualTo(job.get("total").asLong());
+        assertThat(count("SELECT count(*) FROM companies WHERE id = ?", companyId)).isZero();
+        assertThat(count("SELECT count(*) FROM departments WHERE company_id = ?", companyId)).isZero();
+        assertThat(count("SELECT count(*) FROM employees WHERE department_id = ?", departmentId)).isZero();
+    }
+
+    @Test
+    @SneakyThrows
+    void submitJob_shouldReturnNotFoundStatus_whenCompanyIsNotPresent() {
+        mockMvc.perform(post("/api/v0/jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson("COMPANY_EXPORT", INVALID_COMPANY_ID)))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").isNotEmpty());
+
+        assertThat(count("SELECT count(*) FROM jobs WHERE company_id = ?", INVALID_COMPANY_ID)).isZero();
+    }
+
+    @Test
+    @SneakyThrows
+    void getJobResult_shouldReturnNotFoundStatus_whenJobHasNoResult() {
+        Long jobId = jdbcTemplate.queryForObject(
+                "INSERT INTO jobs (type, status, company_id) VALUES ('COMPANY_DELETE', 'SUCCEEDED', ?) RETURNING id",
+                Long.class, EXPORTED_COMPANY_ID);
+
+        mockMvc.perform(get("/api/v0/jobs/" + jobId + "/result"))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.message").isNotEmpty());
+    }
+
+    @Test
+    @SneakyThrows
+    void getJobById_shouldReturnNotFoundStatus_whenJobIsNotPresent() {
+        String url = "/api/v0/jobs/1000";
+
+        mockMvc.perform(get(url))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.message").isNotEmpty())
+                .andExpect(jsonPath("$.url").value(url));
+    }
+
+    @Test
+    @SneakyThrows
+    void poll_shouldResumeInterruptedJobFromItsCheckpoint() {
+        // a node died after exporting the first two employees
+        Long jobId = jdbcTemplate.queryForObject("""
+                INSERT INTO jobs (type, status, company_id, progress, total, checkpoint)
+                VALUES ('COMPANY_EXPORT', 'RUNNING', ?, 2, 4, '2')
+                RETURNING id
+                """, Long.class, EXPORTED_COMPANY_ID);
+
+        jobRunner.poll();
+        JsonNode job = awaitFinished(jobId);
+
+        assertThat(job.get("status").asText()).isEqualTo(JobStatus.SUCCEEDED.name());
+        assertThat(job.get("progress").asLong()).isEqualTo(4);
+        String[] lines = result(jobId).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).at("/employee/id").asLong()).isEqualTo(3);
+    }
+
+    @Test
+    @SneakyThrows
+    void poll_shouldSkipJob_whileAnotherNodeHoldsItsLock() {
+        Long jobId = jdbcTemplate.queryForObject(
+                "INSERT INTO jobs (type, status, company_id) VALUES ('COMPANY_EXPORT', 'QUEUED', ?) RETURNING id",
+                Long.class, EXPORTED_COMPANY_ID);
+
+        try (Connection otherNode = dataSource.getConnection()) {
+            advisoryLock(otherNode, "SELECT pg_advisory_lock(?)", jobId);
+            jobRunner.poll();
+            Thread.sleep(500);
+            assertThat(jdbcTemplate.queryForObject("SELECT status FROM jobs WHERE id = ?", String.class, jobId))
+                    .isEqualTo(JobStatus.QUEUED.name());
+            advisoryLock(otherNode, "SELECT pg_advisory_unlock(?)", jobId);
+        }
+
+        jobRunner.poll();
+        assertThat(awaitFinished(jobId).get("status").asText()).isEqualTo(JobStatus.SUCCEEDED.name());
+    }
+
+    @SneakyThrows
+    private long submit(String type, Long companyId) {
+        String response = mockMvc.perform(post("/api/v0/jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson(type, companyId)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.status").value(JobStatus.QUEUED.name()))
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+
+    private JsonNode awaitFinished(long jobId) {
+        await().atMost(JOB_TIMEOUT).until(() -> {
+            String status = jobJson(jobId).get("status").asText();
+            return JobStatus.SUCCEEDED.name().equals(status) || JobStatus.FAILED.name().equals(status);
+        });
+        return jobJson(jobId);
+    }
+
+    @SneakyThrows
+    private JsonNode jobJson(long jobId) {
+        String response = mockMvc.perform(get("/api/v0/jobs/" + jobId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response);
+    }
+
+    @SneakyThrows
+    private String result(long jobId) {
+        return mockMvc.perform(get("/api/v0/jobs/" + jobId + "/result"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private String requestJson(String type, Long companyId) {
+        return "{\"type\": \"" + type + "\", \"companyId\": " + companyId + "}";
+    }
+
+    private long count(String sql, Long id) {
+        return jdbcTemplate.queryForObject(sql, Long.class, id);
+    }
+
+    @SneakyThrows
+    private void advisoryLock(Connection connection, String sql, Long id) {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, id);
+            statement.execute();
+        }
+    }
+}
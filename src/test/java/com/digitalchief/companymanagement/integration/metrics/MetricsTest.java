@@ -0,0 +1,104 @@
+package com.digitalchief.companymanagement.integration.metrics;
+
+import com.digitalchief.companymanagement.integration.BaseIntegrationTest;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MetricsTest extends BaseIntegrationTest {
+
+    private static final String COMPANY_NAME = "Measured company";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void deleteCompany() {
+        jdbcTemplate.update("DELETE FROM companies WHERE name = ?", COMPANY_NAME);
+    }
+
+    @Test
+    @SneakyThrows
+    void createCompany_shouldRecordServiceRepositoryAndHibernateMetrics() {
+        mockMvc.perform(post("/api/v0/companies")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"" + COMPANY_NAME + "\", \"description\": \"Timed\", "
+                                + "\"dateOfCreation\": \"2020-01-01\"}"))
+                .andExpect(status().isCreated());
+
+        Timer serviceTimer = meterRegistry.find("service.invocations")
+                .tags("service", "CompanyServiceImpl", "method", "createCompany", "exception", "none")
+                .timer();
+        assertThat(serviceTimer).isNotNull();
+        assertThat(serviceTimer.count()).isEqualTo(1);
+        assertThat(meterRegistry.find("spring.data.repository.invocations")
+                .tag("repository", "CompanyRepository")
+                .timers()).isNotEmpty();
+
+        DistributionSummary statements = requestSummary("hibernate.request.statements", "POST", "/api/v0/companies");
+        DistributionSummary flushes = requestSummary("hibernate.request.flushes", "POST", "/api/v0/companies");
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isGreaterThanOrEqualTo(1);
+        assertThat(flushes.totalAmount()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @SneakyThrows
+    void getDepartments_shouldRecordLoadedEntitiesPerRequest() {
+        mockMvc.perform(get("/api/v0/companies/1/departments"))
+                .andExpect(status().isOk());
+
+        DistributionSummary entitiesLoaded = requestSummary("hibernate.request.entities.loaded", "GET",
+                "/api/v0/companies/{companyId}/departments");
+        assertThat(entitiesLoaded.totalAmount()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @SneakyThrows
+    void prometheusEndpoint_shouldExposeHistograms() {
+        mockMvc.perform(get("/api/v0/companies/1"))
+                .andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .contains("service_invocations_seconds_bucket")
+                .contains("spring_data_repository_invocations_seconds_bucket")
+                .contains("hibernate_request_statements_bucket");
+    }
+
+    private DistributionSummary requestSummary(String name, String method, String uri) {
+        DistributionSummary summary = meterRegistry.find(name)
+                .tags("method", method, "uri", uri)
+                .summary();
+        assertThat(summary).isNotNull();
+        return summary;
+    }
+}
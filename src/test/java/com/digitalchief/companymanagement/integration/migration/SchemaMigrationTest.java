@@ -0,0 +1,80 @@
+package com.digitalchief.companymanagement.integration.migration;
+
+import com.digitalchief.companymanagement.config.MigrationConfig;
+import com.digitalchief.companymanagement.migration.SchemaVersionVerifier;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class SchemaMigrationTest {
+
+    private static final PostgreSQLContainer<?> POSTGRES_CONTAINER = new PostgreSQLContainer<>("postgres:13.3");
+
+    private static final ClassPathResource CHANGE_LOG = new ClassPathResource("db/changelog/db.changelog-master.yaml");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private static DriverManagerDataSource dataSource;
+
+    @BeforeAll
+    static void migrate() {
+        POSTGRES_CONTAINER.start();
+        int exitCode = SpringApplication.exit(new SpringApplicationBuilder(MigrationConfig.class)
+                .web(WebApplicationType.NONE)
+                .profiles(MigrationConfig.PROFILE)
+                .properties(
+                        "spring.datasource.url=" + POSTGRES_CONTAINER.getJdbcUrl(),
+                        "spring.datasource.username=" + POSTGRES_CONTAINER.getUsername(),
+                        "spring.datasource.password=" + POSTGRES_CONTAINER.getPassword()
+                )
+                .run());
+        assertThat(exitCode).isZero();
+        dataSource = new DriverManagerDataSource(POSTGRES_CONTAINER.getJdbcUrl(),
+                POSTGRES_CONTAINER.getUsername(), POSTGRES_CONTAINER.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void migrate_shouldApplySchemaWithoutDemoData() {
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM companies", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM jobs", Long.class)).isZero();
+    }
+
+    @Test
+    void migrate_shouldKeepEmployeesUnpartitioned_whenPartitionedContextIsNotGiven() {
+        String relationKind = jdbcTemplate.queryForObject(
+                "SELECT relkind FROM pg_class WHERE relname = 'employees'", String.class);
+
+        assertThat(relationKind).isEqualTo("r");
+    }
+
+    @Test
+    void verify_shouldPass_whenAllChangeLogsAreApplied() {
+        new SchemaVersionVerifier(jdbcTemplate, CHANGE_LOG).verify();
+    }
+
+    @Test
+    void verify_shouldThrowIllegalStateException_whenChangeLogIsMissing() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM databasechangelog WHERE filename LIKE '%jobs.sql'");
+
+            assertThatIllegalStateException()
+                    .isThrownBy(() -> new SchemaVersionVerifier(jdbcTemplate, CHANGE_LOG).verify())
+                    .withMessageContaining("jobs.sql")
+                    .withMessageContaining("--migrate");
+            status.setRollbackOnly();
+        });
+    }
+}
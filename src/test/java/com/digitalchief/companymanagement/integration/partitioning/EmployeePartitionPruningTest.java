@@ -0,0 +1,116 @@
+package com.digitalchief.companymanagement.integration.partitioning;
+
+import com.digitalchief.companymanagement.entity.Employee;
+import com.digitalchief.companymanagement.integration.BaseIntegrationTest;
+import com.digitalchief.companymanagement.service.EmployeeService;
+import com.digitalchief.companymanagement.sql.SlowQuery;
+import com.digitalchief.companymanagement.sql.SlowQueryLog;
+import jakarta.persistence.EntityManager;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "company-management.slow-queries.threshold=0ms",
+        "company-management.slow-queries.explain.enabled=true",
+        "company-management.slow-queries.explain.sample-rate=1.0"
+})
+class EmployeePartitionPruningTest extends BaseIntegrationTest {
+
+    private static final Pattern PARTITION = Pattern.compile("\\bon (employees_p\\d+)\\b");
+
+    private static final Pattern EMPLOYEES_TABLE = Pattern.compile("\\bemployees\\b");
+
+    private static final String EMPLOYEES_URL = "/api/v0/companies/1/departments/1/employees";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SlowQueryLog slowQueryLog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void clearSlowQueries() {
+        slowQueryLog.clear();
+    }
+
+    @Test
+    void employees_shouldBeHashPartitionedByCompany() {
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT pg_get_partkeydef(oid) FROM pg_class WHERE relname = 'employees'
+                """, String.class)).isEqualTo("HASH (company_id)");
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM pg_inherits WHERE inhparent = 'employees'::regclass
+                """, Long.class)).isEqualTo(16L);
+    }
+
+    @Test
+    @SneakyThrows
+    void findEmployeeById_shouldScanSinglePartition() {
+        mockMvc.perform(get(EMPLOYEES_URL + "/1"))
+                .andExpect(status().isOk());
+
+        assertThat(scannedPartitions(employeesStatement("select"))).hasSize(1);
+    }
+
+    @Test
+    @SneakyThrows
+    void findEmployeesWithPagination_shouldScanSinglePartition() {
+        mockMvc.perform(get(EMPLOYEES_URL))
+                .andExpect(status().isOk());
+
+        assertThat(scannedPartitions(employeesStatement("select"))).hasSize(1);
+    }
+
+    @Test
+    void updateEmployee_shouldTouchSinglePartition() {
+        Employee updateEmployee = new Employee();
+        updateEmployee.setFirstname("Johnny");
+
+        employeeService.updateEmployeeInDepartmentPartiallyById(1L, 1L, 1L, updateEmployee);
+        entityManager.flush();
+
+        assertThat(scannedPartitions(employeesStatement("update"))).hasSize(1);
+    }
+
+    private SlowQuery employeesStatement(String command) {
+        return slowQueryLog.entries().stream()
+                .filter(query -> query.getSql().strip().toLowerCase().startsWith(command))
+                .filter(query -> EMPLOYEES_TABLE.matcher(query.getSql()).find())
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static Set<String> scannedPartitions(SlowQuery query) {
+        await().atMost(Duration.ofSeconds(10)).until(() -> query.getPlan() != null);
+        assertThat(query.getPlan()).doesNotStartWith("EXPLAIN failed");
+        Matcher matcher = PARTITION.matcher(query.getPlan());
+        return matcher.results().map(result -> result.group(1)).collect(Collectors.toSet());
+    }
+}
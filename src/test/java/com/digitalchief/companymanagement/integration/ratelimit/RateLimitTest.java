@@ -0,0 +1,44 @@
+package com.digitalchief.companymanagement.integration.ratelimit;
+
+import com.digitalchief.companymanagement.integration.BaseIntegrationTest;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "company-management.rate-limit.enabled=true",
+        "company-management.rate-limit.capacity=3",
+        "company-management.rate-limit.tokens-per-second=0.001"
+})
+class RateLimitTest extends BaseIntegrationTest {
+
+    private static final String URL = "/api/v0/reactive/companies/1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @SneakyThrows
+    void reactiveEndpoint_shouldBeChargedOncePerRequest() {
+        for (int i = 0; i < 3; i++) {
+            MvcResult result = mockMvc.perform(get(URL))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get(URL))
+                .andExpect(status().isTooManyRequests());
+    }
+}
@@ -0,0 +1,82 @@
+package com.digitalchief.companymanagement.integration.sql;
+
+import com.digitalchief.companymanagement.integration.BaseIntegrationTest;
+import com.digitalchief.companymanagement.sql.SlowQuery;
+import com.digitalchief.companymanagement.sql.SlowQueryLog;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "company-management.slow-queries.threshold=0ms",
+        "company-management.slow-queries.log-parameters=true",
+        "company-management.slow-queries.remote-control=true",
+        "company-management.slow-queries.explain.enabled=true",
+        "company-management.slow-queries.explain.sample-rate=1.0"
+})
+class SlowQueryTest extends BaseIntegrationTest {
+
+    private static final String DEPARTMENT_URL = "/api/v0/companies/1/departments/2";
+
+    private static final String SERVICE_METHOD = "DepartmentServiceImpl.findByCompanyAndDepartmentId";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SlowQueryLog slowQueryLog;
+
+    @BeforeEach
+    @SneakyThrows
+    void clearSlowQueries() {
+        mockMvc.perform(delete("/actuator/slowqueries"))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @SneakyThrows
+    void slowQuery_shouldBeExposedWithParametersEndpointAndServiceMethod() {
+        mockMvc.perform(get(DEPARTMENT_URL))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/slowqueries"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].endpoint", hasItem("GET " + DEPARTMENT_URL)))
+                .andExpect(jsonPath("$[*].serviceMethod", hasItem(SERVICE_METHOD)));
+        assertThat(departmentQuery().getParameters()).contains("2");
+    }
+
+    @Test
+    @SneakyThrows
+    void slowSelect_shouldBeExplainedWithAnalyze() {
+        mockMvc.perform(get(DEPARTMENT_URL))
+                .andExpect(status().isOk());
+
+        SlowQuery query = departmentQuery();
+        await().atMost(Duration.ofSeconds(10)).until(() -> query.getPlan() != null);
+        assertThat(query.getPlan()).contains("actual time");
+    }
+
+    private SlowQuery departmentQuery() {
+        return slowQueryLog.entries().stream()
+                .filter(query -> SERVICE_METHOD.equals(query.getServiceMethod()))
+                .filter(query -> query.getSql().toLowerCase().startsWith("select"))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,70 @@
+package com.digitalchief.companymanagement.integration.startup;
+
+import com.digitalchief.companymanagement.controller.CompanyController;
+import com.digitalchief.companymanagement.integration.BaseIntegrationTest;
+import com.digitalchief.companymanagement.repository.CompanyRepository;
+import com.digitalchief.companymanagement.service.CompanyService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springdoc.core.service.OpenAPIService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@ActiveProfiles("lazy")
+class LazyInitializationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Autowired
+    private OpenAPIService openApiService;
+
+    @Test
+    void lazyProfile_shouldInitializeRequestPathEagerly() {
+        assertThat(isInstantiated(CompanyController.class)).isTrue();
+        assertThat(isInstantiated(CompanyService.class)).isTrue();
+        assertThat(isInstantiated(CompanyRepository.class)).isTrue();
+        assertThat(isInstantiated(EntityManagerFactory.class)).isTrue();
+    }
+
+    @Test
+    @SneakyThrows
+    void lazyProfile_shouldGenerateOpenApiOnFirstRequest() {
+        assertThat(openApiService.getCachedOpenAPI(Locale.ENGLISH)).isNull();
+
+        mockMvc.perform(get("/v3/api-docs").locale(Locale.ENGLISH))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.paths['/api/v0/companies']").exists());
+
+        assertThat(openApiService.getCachedOpenAPI(Locale.ENGLISH)).isNotNull();
+    }
+
+    @Test
+    @SneakyThrows
+    void lazyProfile_shouldServeRequests() {
+        mockMvc.perform(get("/api/v0/companies/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Company A"));
+    }
+
+    private boolean isInstantiated(Class<?> type) {
+        String[] beanNames = beanFactory.getBeanNamesForType(type, true, false);
+        return beanNames.length > 0 && Arrays.stream(beanNames).allMatch(beanFactory::containsSingleton);
+    }
+}
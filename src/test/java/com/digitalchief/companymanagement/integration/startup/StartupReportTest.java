@@ -0,0 +1,52 @@
+package com.digitalchief.companymanagement.integration.startup;
+
+import com.digitalchief.companymanagement.integration.BaseIntegrationTest;
+import com.digitalchief.companymanagement.startup.StartupReportProperties;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// started through CompanyManagementApplication.main, which installs the buffering application startup
+@AutoConfigureMockMvc
+@SpringBootTest(useMainMethod = SpringBootTest.UseMainMethod.ALWAYS)
+@TestPropertySource(properties = {
+        "company-management.startup-report.enabled=true",
+        "company-management.startup-report.file=build/reports/startup/startup-report-test.txt"
+})
+class StartupReportTest extends BaseIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StartupReportProperties properties;
+
+    @Test
+    @SneakyThrows
+    void startupEndpoint_shouldReturnBufferedTimeline() {
+        mockMvc.perform(get("/actuator/startup"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.timeline.events").isNotEmpty())
+                .andExpect(jsonPath("$.timeline.events[?(@.startupStep.name == 'spring.beans.instantiate')]")
+                        .isNotEmpty());
+    }
+
+    @Test
+    @SneakyThrows
+    void readyApplication_shouldWriteStartupReport() {
+        assertThat(Files.readString(properties.getFile()))
+                .startsWith("Ready in ")
+                .contains("spring.beans.instantiate entityManagerFactory");
+    }
+}
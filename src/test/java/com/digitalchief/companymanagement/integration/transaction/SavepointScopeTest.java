@@ -0,0 +1,80 @@
+package com.digitalchief.companymanagement.integration.transaction;
+
+import com.digitalchief.companymanagement.entity.Company;
+import com.digitalchief.companymanagement.integration.BaseIntegrationTest;
+import com.digitalchief.companymanagement.service.CompanyService;
+import com.digitalchief.companymanagement.service.exception.EntityNotFoundException;
+import com.digitalchief.companymanagement.transaction.SavepointScope;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SavepointScopeTest extends BaseIntegrationTest {
+
+    @Autowired
+    private SavepointScope savepointScope;
+
+    @Autowired
+    private CompanyService companyService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void run_shouldRollBackToSavepointAndKeepTransactionUsable_whenParticipatingServiceFails() {
+        assertThatThrownBy(() -> savepointScope.run(() -> {
+            companyService.createCompany(company("Savepoint company"));
+            entityManager.flush();
+            return companyService.findById(1000L);
+        })).isInstanceOf(EntityNotFoundException.class);
+
+        assertThat(isRollbackOnly()).isFalse();
+        assertThat(companies("Savepoint company")).isZero();
+
+        companyService.createCompany(company("After savepoint company"));
+        entityManager.flush();
+        assertThat(companies("After savepoint company")).isOne();
+    }
+
+    @Test
+    void run_shouldKeepWork_whenWorkSucceeds() {
+        savepointScope.run(() -> companyService.createCompany(company("Savepoint company")));
+        entityManager.flush();
+
+        assertThat(isRollbackOnly()).isFalse();
+        assertThat(companies("Savepoint company")).isOne();
+    }
+
+    @Test
+    void participatingServiceFailure_shouldMarkTransactionRollbackOnly_whenNoScopeIsOpen() {
+        assertThatThrownBy(() -> companyService.findById(1000L)).isInstanceOf(EntityNotFoundException.class);
+
+        assertThat(isRollbackOnly()).isTrue();
+    }
+
+    private boolean isRollbackOnly() {
+        return entityManager.unwrap(Session.class).getTransaction().getRollbackOnly();
+    }
+
+    private long companies(String name) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM companies WHERE name = ?", Long.class, name);
+    }
+
+    private static Company company(String name) {
+        Company company = new Company();
+        company.setName(name);
+        company.setDescription("Created behind a savepoint");
+        company.setDateOfCreation(Date.valueOf("2022-01-01"));
+        return company;
+    }
+}
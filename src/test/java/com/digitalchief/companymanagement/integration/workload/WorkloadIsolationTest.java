@@ -0,0 +1,125 @@
+package com.digitalchief.companymanagement.integration.workload;
+
+import com.digitalchief.companymanagement.integration.BaseIntegrationTest;
+import com.digitalchief.companymanagement.workload.Bulkheads;
+import com.digitalchief.companymanagement.workload.WorkloadClass;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "company-management.workloads.isolated=true",
+        "company-management.workloads.pools.bulk.threads=1",
+        "company-management.workloads.pools.bulk.queue-capacity=0"
+})
+class WorkloadIsolationTest extends BaseIntegrationTest {
+
+    private static final String FAILING_BATCH = """
+            {
+              "operations": [
+                {"type": "PATCH_EMPLOYEE", "companyId": 2, "departmentId": 3, "employeeId": 1000,
+                 "body": {"position": "Director"}}
+              ]
+            }
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Bulkheads bulkheads;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @SneakyThrows
+    void batch_shouldUseBulkConnectionPool() {
+        long acquiredBefore = acquiredConnections(WorkloadClass.BULK);
+
+        mockMvc.perform(post("/api/v0/batch").contentType(MediaType.APPLICATION_JSON).content(FAILING_BATCH))
+                .andExpect(status().isUnprocessableEntity());
+
+        assertThat(acquiredConnections(WorkloadClass.BULK)).isGreaterThan(acquiredBefore);
+    }
+
+    @Test
+    @SneakyThrows
+    void graphQlQuery_shouldUseReportingConnectionPool() {
+        long acquiredBefore = acquiredConnections(WorkloadClass.REPORTING);
+
+        MvcResult result = mockMvc.perform(post("/graphql")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"query\": \"{ company(id: 2) { name departments { name } } }\"}"))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(jsonPath("$.data.company.name").value("Company B"));
+
+        assertThat(acquiredConnections(WorkloadClass.REPORTING)).isGreaterThan(acquiredBefore);
+    }
+
+    @Test
+    @SneakyThrows
+    void fullBulkBulkhead_shouldRejectBulkRequestsAndKeepServingInteractiveOnes() {
+        executor.submit(this::blockBulkWorkload);
+        await().until(() -> bulkheads.get(WorkloadClass.BULK).saturation() == 1.0);
+
+        mockMvc.perform(post("/api/v0/batch").contentType(MediaType.APPLICATION_JSON).content(FAILING_BATCH))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.message").isNotEmpty());
+        mockMvc.perform(get("/api/v0/companies/1"))
+                .andExpect(status().isOk());
+
+        assertThat(meterRegistry.get("bulkhead.rejected").tag("workload", "bulk").counter().count()).isPositive();
+    }
+
+    private Object blockBulkWorkload() throws Exception {
+        try {
+            return bulkheads.get(WorkloadClass.BULK).execute(() -> {
+                release.await();
+                return null;
+            });
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long acquiredConnections(WorkloadClass workload) {
+        Timer timer = meterRegistry.find("hikaricp.connections.acquire").tag("pool", workload.tag()).timer();
+        return timer != null ? timer.count() : 0;
+    }
+}
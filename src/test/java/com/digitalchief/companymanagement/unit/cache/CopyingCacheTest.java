@@ -0,0 +1,83 @@
+package com.digitalchief.companymanagement.unit.cache;
+
+import com.digitalchief.companymanagement.cache.CopyingCache;
+import com.digitalchief.companymanagement.cache.DetachedCopies;
+import com.digitalchief.companymanagement.entity.Company;
+import com.digitalchief.companymanagement.entity.Department;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CopyingCacheTest {
+
+    private static final Long COMPANY_ID = 1L;
+
+    private static final Long DEPARTMENT_ID = 2L;
+
+    private final Cache cache = new CopyingCache(new ConcurrentMapCache("entities", false), DetachedCopies::copy);
+
+    @Test
+    void get_shouldNotReturnCachedInstance_whenCallerChangesIt() {
+        Company company = company();
+        cache.put(COMPANY_ID, company);
+        company.setName("Changed before read");
+
+        Company first = cache.get(COMPANY_ID, Company.class);
+        first.setName("Changed after read");
+        first.getDateOfCreation().setTime(0);
+        Company second = cache.get(COMPANY_ID, Company.class);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getName()).isEqualTo("Company A");
+        assertThat(second.getDateOfCreation()).isEqualTo(Date.valueOf("2020-01-01"));
+        assertThat(second.getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    void get_shouldLeaveOutLazyAssociations() {
+        Company company = company();
+        company.setDepartments(List.of(new Department()));
+        Department department = new Department();
+        department.setId(DEPARTMENT_ID);
+        department.setName("Department A");
+        department.setAnnualBudget(new BigDecimal("1000.00"));
+        department.setCompany(company);
+        cache.put(DEPARTMENT_ID, department);
+
+        Department cached = (Department) cache.get(DEPARTMENT_ID).get();
+
+        assertThat(cached.getName()).isEqualTo("Department A");
+        assertThat(cached.getEmployees()).isNull();
+        assertThat(cached.getCompany()).isNotSameAs(company);
+        assertThat(cached.getCompany().getId()).isEqualTo(COMPANY_ID);
+        assertThat(cached.getCompany().getName()).isNull();
+        assertThat(cache.get(COMPANY_ID)).isNull();
+    }
+
+    @Test
+    void getWithLoader_shouldCacheCopyOfLoadedValue() {
+        Company loaded = company();
+
+        Company returned = cache.get(COMPANY_ID, () -> loaded);
+        loaded.setName("Changed after load");
+
+        assertThat(returned).isNotSameAs(loaded);
+        assertThat(cache.get(COMPANY_ID, Company.class).getName()).isEqualTo("Company A");
+    }
+
+    private static Company company() {
+        Company company = new Company();
+        company.setId(COMPANY_ID);
+        company.setName("Company A");
+        company.setDescription("Sample description for Company A");
+        company.setDateOfCreation(Date.valueOf("2020-01-01"));
+        company.setVersion(3L);
+        return company;
+    }
+}
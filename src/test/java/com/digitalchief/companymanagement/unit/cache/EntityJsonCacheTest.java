@@ -0,0 +1,72 @@
+package com.digitalchief.companymanagement.unit.cache;
+
+import com.digitalchief.companymanagement.cache.EntityCacheProperties;
+import com.digitalchief.companymanagement.cache.EntityChange;
+import com.digitalchief.companymanagement.cache.EntityJsonCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityJsonCacheTest {
+
+    private static final Long COMPANY_ID = 1L;
+
+    private final AtomicInteger serializations = new AtomicInteger();
+
+    private EntityJsonCache jsonCache;
+
+    @BeforeEach
+    void setUp() {
+        EntityCacheProperties properties = new EntityCacheProperties();
+        properties.getJson().setEnabled(true);
+        jsonCache = new EntityJsonCache(new ObjectMapper(), properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void get_shouldReuseBytes_whenVersionIsUnchanged() {
+        byte[] first = company(0L);
+        byte[] second = company(0L);
+
+        assertThat(second).isSameAs(first);
+        assertThat(serializations).hasValue(1);
+    }
+
+    @Test
+    void get_shouldSerializeAgain_whenVersionChanges() {
+        company(0L);
+        company(1L);
+
+        assertThat(serializations).hasValue(2);
+    }
+
+    @Test
+    void onEntityChange_shouldDropCachedBytes() {
+        company(0L);
+
+        jsonCache.onEntityChange(new EntityChange(EntityChange.Type.COMPANY, COMPANY_ID, null, 0L));
+        company(0L);
+
+        assertThat(serializations).hasValue(2);
+    }
+
+    @Test
+    void get_shouldNotCache_whenDisabled() {
+        jsonCache = new EntityJsonCache(new ObjectMapper(), new EntityCacheProperties(), new SimpleMeterRegistry());
+
+        company(0L);
+        company(0L);
+
+        assertThat(serializations).hasValue(2);
+    }
+
+    private byte[] company(Long version) {
+        return jsonCache.get(EntityChange.Type.COMPANY, COMPANY_ID, version,
+                () -> Map.of("id", COMPANY_ID, "serialization", serializations.incrementAndGet()));
+    }
+}
@@ -0,0 +1,125 @@
+package com.digitalchief.companymanagement.unit.cache;
+
+import com.digitalchief.companymanagement.cache.EntityCacheProperties;
+import com.digitalchief.companymanagement.cache.EntityChange;
+import com.digitalchief.companymanagement.cache.PageCacheEndpoint;
+import com.digitalchief.companymanagement.cache.PageResponseCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageResponseCacheTest {
+
+    private static final Long COMPANY_ID = 1L;
+
+    private static final Long OTHER_COMPANY_ID = 2L;
+
+    private static final Pageable PAGEABLE = PageRequest.of(0, 10);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private MeterRegistry meterRegistry;
+
+    private PageResponseCache pageCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pageCache = new PageResponseCache(new ObjectMapper(), new EntityCacheProperties(), meterRegistry);
+    }
+
+    @Test
+    void get_shouldServeSecondRequestFromCache() {
+        byte[] first = departments(COMPANY_ID);
+        byte[] second = departments(COMPANY_ID);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("page.cache.hit.ratio").tag("endpoint", "departments").gauge().value())
+                .isEqualTo(0.5);
+    }
+
+    @Test
+    void get_shouldKeySeparatelyByPageAndSort() {
+        departments(COMPANY_ID);
+        pageCache.get(PageCacheEndpoint.DEPARTMENTS, COMPANY_ID, PageRequest.of(1, 10), this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void onEntityChange_shouldEvictOnlyPagesOfAffectedCompany() {
+        departments(COMPANY_ID);
+        departments(OTHER_COMPANY_ID);
+
+        pageCache.onEntityChange(new EntityChange(EntityChange.Type.DEPARTMENT, 5L, COMPANY_ID, 0L));
+        departments(COMPANY_ID);
+        departments(OTHER_COMPANY_ID);
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void onEntityChange_shouldEvictPagesCachedAfterPreviousInvalidation() {
+        departments(COMPANY_ID);
+        pageCache.onEntityChange(new EntityChange(EntityChange.Type.DEPARTMENT, 5L, COMPANY_ID, 0L));
+        departments(COMPANY_ID);
+        departments(COMPANY_ID);
+
+        pageCache.onEntityChange(new EntityChange(EntityChange.Type.DEPARTMENT, 5L, COMPANY_ID, 0L));
+        departments(COMPANY_ID);
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void onEntityChange_shouldEvictCompanyPages_whenCompanyChanges() {
+        pageCache.get(PageCacheEndpoint.COMPANIES, null, PAGEABLE, this::load);
+
+        pageCache.onEntityChange(new EntityChange(EntityChange.Type.COMPANY, COMPANY_ID, null, 0L));
+        pageCache.get(PageCacheEndpoint.COMPANIES, null, PAGEABLE, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void get_shouldNotCachePage_whenParentIsInvalidatedWhileLoading() {
+        pageCache.get(PageCacheEndpoint.DEPARTMENTS, COMPANY_ID, PAGEABLE, () -> {
+            List<String> page = load();
+            pageCache.onEntityChange(new EntityChange(EntityChange.Type.DEPARTMENT, 5L, COMPANY_ID, 0L));
+            return page;
+        });
+        departments(COMPANY_ID);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void onEntityChange_shouldKeepPagesOfOtherParents_whenManyParentsAreInvalidated() {
+        departments(COMPANY_ID);
+
+        for (long companyId = 100; companyId < 1_100; companyId++) {
+            pageCache.onEntityChange(new EntityChange(EntityChange.Type.DEPARTMENT, 5L, companyId, 0L));
+        }
+        departments(COMPANY_ID);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    private byte[] departments(Long companyId) {
+        return pageCache.get(PageCacheEndpoint.DEPARTMENTS, companyId, PAGEABLE, this::load);
+    }
+
+    private List<String> load() {
+        return List.of("page-" + loads.incrementAndGet());
+    }
+}
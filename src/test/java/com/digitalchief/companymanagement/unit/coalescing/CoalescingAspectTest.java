@@ -0,0 +1,110 @@
+package com.digitalchief.companymanagement.unit.coalescing;
+
+import com.digitalchief.companymanagement.builder.impl.CompanyTestBuilder;
+import com.digitalchief.companymanagement.coalescing.CoalescingAspect;
+import com.digitalchief.companymanagement.coalescing.CoalescingProperties;
+import com.digitalchief.companymanagement.entity.Company;
+import com.digitalchief.companymanagement.message.source.MessagesSource;
+import com.digitalchief.companymanagement.repository.CompanyRepository;
+import com.digitalchief.companymanagement.service.CompanyService;
+import com.digitalchief.companymanagement.service.impl.CompanyServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingAspectTest {
+
+    private static final Long COMPANY_ID = 1L;
+
+    private static final int CALLERS = 200;
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    @Mock
+    private MessagesSource messagesSource;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final CoalescingProperties properties = new CoalescingProperties();
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    private CompanyService companyService;
+
+    @BeforeEach
+    void setUp() {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(
+                new CompanyServiceImpl(companyRepository, messagesSource)
+        );
+        proxyFactory.addAspect(new CoalescingAspect(properties, meterRegistry));
+        companyService = proxyFactory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void findById_shouldQueryDatabaseOnce_whenHerdRequestsSameCompany() throws Exception {
+        Company expectedCompany = CompanyTestBuilder.aCompany().build();
+        doAnswer(invocation -> {
+            await().until(() -> meterRegistry.get("coalescing.waiting").gauge().value() == CALLERS - 1);
+            return Optional.of(expectedCompany);
+        }).when(companyRepository).findById(COMPANY_ID);
+
+        List<Future<Company>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> companyService.findById(COMPANY_ID)));
+        }
+
+        Set<Company> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Future<Company> result : results) {
+            assertThat(result.get()).usingRecursiveComparison().ignoringFields("departments")
+                    .isEqualTo(expectedCompany);
+            distinct.add(result.get());
+        }
+        // only the caller that ran the query gets the loaded entity, the others get copies of their own
+        assertThat(distinct).hasSize(CALLERS).contains(expectedCompany);
+        verify(companyRepository, times(1)).findById(COMPANY_ID);
+        assertThat(meterRegistry.get("coalescing.requests").counter().count()).isEqualTo(CALLERS);
+        assertThat(meterRegistry.get("coalescing.executions").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void findById_shouldQueryDatabaseForEveryCall_whenMethodIsDisabled() {
+        properties.setMethods(Map.of("company-by-id", false));
+        doReturn(Optional.of(CompanyTestBuilder.aCompany().build())).when(companyRepository).findById(COMPANY_ID);
+
+        companyService.findById(COMPANY_ID);
+        companyService.findById(COMPANY_ID);
+
+        verify(companyRepository, times(2)).findById(COMPANY_ID);
+        assertThat(meterRegistry.find("coalescing.requests").counter()).isNull();
+    }
+}
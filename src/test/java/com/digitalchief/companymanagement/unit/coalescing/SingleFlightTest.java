@@ -0,0 +1,122 @@
+package com.digitalchief.companymanagement.unit.coalescing;
+
+import com.digitalchief.companymanagement.coalescing.SingleFlight;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 32;
+
+    private final SingleFlight<String> singleFlight = new SingleFlight<>(
+            result -> result instanceof StringBuilder builder ? new StringBuilder(builder) : result,
+            failure -> new IllegalStateException("follower", failure));
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_shouldRunCallOnce_whenCallersShareKey() throws Exception {
+        List<Future<Object>> results = herd("company-1", () -> {
+            executions.incrementAndGet();
+            await().until(() -> singleFlight.waiting() == CALLERS - 1);
+            return "company";
+        });
+
+        for (Future<Object> result : results) {
+            assertThat(result.get()).isEqualTo("company");
+        }
+        assertThat(executions).hasValue(1);
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    @Test
+    void execute_shouldGiveEveryFollowerCopyOfResult() throws Exception {
+        StringBuilder leaderResult = new StringBuilder("company");
+        List<Future<Object>> results = herd("company-1", () -> {
+            await().until(() -> singleFlight.waiting() == CALLERS - 1);
+            return leaderResult;
+        });
+
+        Set<Object> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Future<Object> result : results) {
+            assertThat(result.get()).hasToString("company");
+            distinct.add(result.get());
+        }
+        assertThat(distinct).hasSize(CALLERS).contains(leaderResult);
+    }
+
+    @Test
+    void execute_shouldPropagateFailureToAllCallers() {
+        IllegalStateException leaderFailure = new IllegalStateException("database is down");
+        List<Future<Object>> results = herd("company-1", () -> {
+            executions.incrementAndGet();
+            await().until(() -> singleFlight.waiting() == CALLERS - 1);
+            throw leaderFailure;
+        });
+
+        Set<Throwable> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Future<Object> result : results) {
+            assertThatThrownBy(result::get)
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class)
+                    .satisfies(e -> distinct.add(e.getCause()));
+        }
+        // the leader gets the failure itself, every follower an exception of its own caused by it
+        assertThat(distinct).hasSize(CALLERS).contains(leaderFailure)
+                .allSatisfy(e -> assertThat(e == leaderFailure || e.getCause() == leaderFailure).isTrue());
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void execute_shouldRunCallAgain_whenPreviousFlightCompleted() throws Throwable {
+        singleFlight.execute("company-1", executions::incrementAndGet);
+        singleFlight.execute("company-1", executions::incrementAndGet);
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void execute_shouldNotShareFlight_whenKeysDiffer() throws Throwable {
+        singleFlight.execute("company-1", () -> singleFlight.execute("company-2", executions::incrementAndGet));
+
+        assertThat(executions).hasValue(1);
+    }
+
+    private List<Future<Object>> herd(String key, SingleFlight.Call call) {
+        List<Future<Object>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> {
+                try {
+                    return singleFlight.execute(key, call);
+                } catch (Exception | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,112 @@
+package com.digitalchief.companymanagement.unit.ratelimit;
+
+import com.digitalchief.companymanagement.ratelimit.RateLimitExceededException;
+import com.digitalchief.companymanagement.ratelimit.RateLimitInterceptor;
+import com.digitalchief.companymanagement.ratelimit.RateLimitProperties;
+import com.digitalchief.companymanagement.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitInterceptorTest {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RateLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setCapacity(10);
+        properties.setTokensPerSecond(1);
+        properties.setItemsPerToken(20);
+        properties.setWriteCost(2);
+        RateLimiter rateLimiter = new RateLimiter(properties, meterRegistry, clock::get);
+        interceptor = new RateLimitInterceptor(rateLimiter, properties, MAX_PAGE_SIZE);
+    }
+
+    @Test
+    void preHandle_shouldChargeListRequestsByPageSize() {
+        assertThat(handle(get("127.0.0.1", 100))).isTrue();
+        assertThat(handle(get("127.0.0.1", 100))).isTrue();
+
+        assertThatThrownBy(() -> handle(get("127.0.0.1", 1)))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    void preHandle_shouldCapCost_whenPageSizeExceedsMaximum() {
+        assertThat(handle(get("127.0.0.1", 100_000))).isTrue();
+        assertThat(handle(get("127.0.0.1", 100))).isTrue();
+    }
+
+    @Test
+    void preHandle_shouldReturnRetryAfter_whenBucketIsEmpty() {
+        for (int i = 0; i < 5; i++) {
+            handle(request("DELETE", "127.0.0.1"));
+        }
+
+        assertThatThrownBy(() -> handle(request("DELETE", "127.0.0.1")))
+                .isInstanceOfSatisfying(RateLimitExceededException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(2));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertThat(handle(request("DELETE", "127.0.0.1"))).isTrue();
+    }
+
+    @Test
+    void preHandle_shouldKeepSeparateBucketPerClient() {
+        handle(get("10.0.0.1", 100));
+        handle(get("10.0.0.1", 100));
+
+        assertThat(handle(get("10.0.0.2", 100))).isTrue();
+        assertThat(meterRegistry.get("rate.limit.requests").tag("outcome", "admitted").counter().count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    void preHandle_shouldChargeReactiveRequestOnce_whenResultIsDispatchedAsync() {
+        for (int i = 0; i < 10; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v0/reactive/companies/1");
+            request.setRemoteAddr("127.0.0.1");
+            assertThat(handle(request)).isTrue();
+            request.setDispatcherType(DispatcherType.ASYNC);
+            assertThat(handle(request)).isTrue();
+        }
+
+        assertThat(meterRegistry.get("rate.limit.requests").tag("outcome", "admitted").counter().count())
+                .isEqualTo(10);
+        assertThatThrownBy(() -> handle(request("GET", "127.0.0.1")))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    private boolean handle(MockHttpServletRequest request) {
+        return interceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+    }
+
+    private static MockHttpServletRequest get(String client, int size) {
+        MockHttpServletRequest request = request("GET", client);
+        request.setParameter("size", String.valueOf(size));
+        return request;
+    }
+
+    private static MockHttpServletRequest request(String method, String client) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/v0/companies");
+        request.setRemoteAddr(client);
+        return request;
+    }
+}
@@ -0,0 +1,73 @@
+package com.digitalchief.companymanagement.unit.ratelimit;
+
+import com.digitalchief.companymanagement.ratelimit.TokenBucket;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private static final long START = 42 * SECOND;
+
+    @Test
+    void tryAcquire_shouldAdmitBurstUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(10, 10, START);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(bucket.tryAcquire(1, START)).isZero();
+        }
+        assertThat(bucket.tryAcquire(1, START)).isEqualTo(SECOND / 10);
+    }
+
+    @Test
+    void tryAcquire_shouldRefillTokensOverTime() {
+        TokenBucket bucket = new TokenBucket(10, 10, START);
+        assertThat(bucket.tryAcquire(10, START)).isZero();
+
+        assertThat(bucket.tryAcquire(5, START + SECOND / 2)).isZero();
+        assertThat(bucket.tryAcquire(1, START + SECOND / 2)).isPositive();
+    }
+
+    @Test
+    void tryAcquire_shouldReturnWaitTime_whenCostExceedsAvailableTokens() {
+        TokenBucket bucket = new TokenBucket(10, 10, START);
+        assertThat(bucket.tryAcquire(8, START)).isZero();
+
+        assertThat(bucket.tryAcquire(5, START)).isEqualTo(3 * SECOND / 10);
+        assertThat(bucket.tryAcquire(5, START + 3 * SECOND / 10)).isZero();
+    }
+
+    @Test
+    void tryAcquire_shouldNotAccumulateMoreThanCapacity_whenIdle() {
+        TokenBucket bucket = new TokenBucket(10, 10, START);
+
+        assertThat(bucket.tryAcquire(10, START + 60 * SECOND)).isZero();
+        assertThat(bucket.tryAcquire(1, START + 60 * SECOND)).isPositive();
+    }
+
+    @Test
+    void tryAcquire_shouldAdmitExactlyCapacity_whenCalledConcurrently() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(1000, 1, START);
+        AtomicInteger admitted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int i = 0; i < 5000; i++) {
+            executor.execute(() -> {
+                if (bucket.tryAcquire(1, START) == 0) {
+                    admitted.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(admitted).hasValue(1000);
+    }
+}
@@ -63,6 +63,21 @@ class DepartmentServiceImplTest {
             verify(departmentRepository).findAllByCompanyId(COMPANY_ID, pageable);
         }
 
+        @Test
+        void findAllByCompanyIds_shouldReturnExpectedDepartmentsAndCallRepository() {
+            List<Long> companyIds = List.of(COMPANY_ID, 2L);
+            List<Department> expectedDepartments = List.of(
+                    DepartmentTestBuilder.aDepartment().build(),
+                    DepartmentTestBuilder.aDepartment().build()
+            );
+            doReturn(expectedDepartments).when(departmentRepository).findAllByCompanyIdIn(companyIds);
+
+            List<Department> actualDepartments = departmentService.findAllByCompanyIds(companyIds);
+
+            assertThat(actualDepartments).isEqualTo(expectedDepartments);
+            verify(departmentRepository).findAllByCompanyIdIn(companyIds);
+        }
+
         @Test
         void findByCompanyAndDepartmentId_shouldReturnExpectedDepartmentAndCallRepository_whenDepartmentIsPresent() {
             Department expectedDepartment = DepartmentTestBuilder.aDepartment().build();
@@ -63,7 +63,7 @@ class EmployeeServiceImplTest {
                     EmployeeTestBuilder.anEmployee().build(),
                     EmployeeTestBuilder.anEmployee().build()
             );
-            doReturn(expectedEmployees).when(employeeRepository).findAllByDepartmentIdAndId(
+            doReturn(expectedEmployees).when(employeeRepository).findAllByCompanyIdAndDepartmentId(
                     COMPANY_ID, DEPARTMENT_ID, pageable
             );
 
@@ -72,14 +72,32 @@ class EmployeeServiceImplTest {
             );
 
             assertThat(actualEmployees).isEqualTo(expectedEmployees);
-            verify(employeeRepository).findAllByDepartmentIdAndId(COMPANY_ID, DEPARTMENT_ID, pageable);
+            verify(employeeRepository).findAllByCompanyIdAndDepartmentId(COMPANY_ID, DEPARTMENT_ID, pageable);
+        }
+
+        @Test
+        void findAllByCompanyAndDepartmentIds_shouldReturnExpectedEmployeesAndCallRepository() {
+            List<Long> companyIds = List.of(COMPANY_ID);
+            List<Long> departmentIds = List.of(DEPARTMENT_ID, 3L);
+            List<Employee> expectedEmployees = List.of(
+                    EmployeeTestBuilder.anEmployee().build(),
+                    EmployeeTestBuilder.anEmployee().build()
+            );
+            doReturn(expectedEmployees).when(employeeRepository)
+                    .findAllByCompanyIdInAndDepartmentIdIn(companyIds, departmentIds);
+
+            List<Employee> actualEmployees = employeeService
+                    .findAllByCompanyAndDepartmentIds(companyIds, departmentIds);
+
+            assertThat(actualEmployees).isEqualTo(expectedEmployees);
+            verify(employeeRepository).findAllByCompanyIdInAndDepartmentIdIn(companyIds, departmentIds);
         }
 
         @Test
         void findByCompanyAndDepartmentAndEmployeeId_shouldReturnExpectedEmployeeAndCallRepository_whenEmployeeIsPresent() {
             Employee expectedEmployee = EmployeeTestBuilder.anEmployee().build();
-            doReturn(Optional.of(expectedEmployee)).when(employeeRepository).findByDepartmentIdAndId(
-                    DEPARTMENT_ID, EMPLOYEE_ID
+            doReturn(Optional.of(expectedEmployee)).when(employeeRepository).findByCompanyIdAndDepartmentIdAndId(
+                    COMPANY_ID, DEPARTMENT_ID, EMPLOYEE_ID
             );
             doReturn(true).when(companyRepository).existsById(COMPANY_ID);
 
@@ -88,13 +106,13 @@ class EmployeeServiceImplTest {
             );
 
             assertThat(actualEmployee).isEqualTo(expectedEmployee);
-            verify(employeeRepository).findByDepartmentIdAndId(DEPARTMENT_ID, EMPLOYEE_ID);
+            verify(employeeRepository).findByCompanyIdAndDepartmentIdAndId(COMPANY_ID, DEPARTMENT_ID, EMPLOYEE_ID);
         }
 
         @Test
         void findByCompanyAndDepartmentAndEmployeeId_shouldThrowEntityNotFoundException_whenEmployeeIsNotPresent() {
-            doReturn(Optional.empty()).when(employeeRepository).findByDepartmentIdAndId(
-                    DEPARTMENT_ID, EMPLOYEE_ID
+            doReturn(Optional.empty()).when(employeeRepository).findByCompanyIdAndDepartmentIdAndId(
+                    COMPANY_ID, DEPARTMENT_ID, EMPLOYEE_ID
             );
             doReturn(true).when(companyRepository).existsById(COMPANY_ID);
 
@@ -132,6 +150,7 @@ class EmployeeServiceImplTest {
             );
 
             assertThat(actualEmployee).isEqualTo(expectedEmployee);
+            assertThat(actualEmployee.getCompanyId()).isEqualTo(COMPANY_ID);
             verify(companyRepository).existsById(COMPANY_ID);
             verify(employeeRepository).existsByEmail(EMPLOYEE_EMAIL);
             verify(departmentService).findByCompanyAndDepartmentId(COMPANY_ID, DEPARTMENT_ID);
@@ -169,13 +188,13 @@ class EmployeeServiceImplTest {
             doReturn(true).when(companyRepository).existsById(COMPANY_ID);
             doReturn(false).when(employeeRepository).existsByEmail(EMPLOYEE_EMAIL);
             doReturn(Optional.of(employeeToUpdate)).when(employeeRepository)
-                    .findByDepartmentIdAndId(DEPARTMENT_ID, EMPLOYEE_ID);
+                    .findByCompanyIdAndDepartmentIdAndId(COMPANY_ID, DEPARTMENT_ID, EMPLOYEE_ID);
 
             employeeService.updateEmployeeInDepartmentById(COMPANY_ID, DEPARTMENT_ID, EMPLOYEE_ID, updateEmployee);
 
             verify(companyRepository).existsById(COMPANY_ID);
             verify(employeeRepository).existsByEmail(EMPLOYEE_EMAIL);
-            verify(employeeRepository).findByDepartmentIdAndId(DEPARTMENT_ID, EMPLOYEE_ID);
+            verify(employeeRepository).findByCompanyIdAndDepartmentIdAndId(COMPANY_ID, DEPARTMENT_ID, EMPLOYEE_ID);
         }
 
         @Test
@@ -205,7 +224,7 @@ class EmployeeServiceImplTest {
             doReturn(true).when(companyRepository).existsById(COMPANY_ID);
             doReturn(false).when(employeeRepository).existsByEmail(EMPLOYEE_EMAIL);
             doReturn(Optional.empty()).when(employeeRepository)
-                    .findByDepartmentIdAndId(DEPARTMENT_ID, EMPLOYEE_ID);
+                    .findByCompanyIdAndDepartmentIdAndId(COMPANY_ID, DEPARTMENT_ID, EMPLOYEE_ID);
 
             assertThatThrownBy(() -> employeeService
                     .updateEmployeeInDepartmentById(COMPANY_ID, DEPARTMENT_ID, EMPLOYEE_ID, updateEmployee))
@@ -219,7 +238,7 @@ class EmployeeServiceImplTest {
             doReturn(true).when(companyRepository).existsById(COMPANY_ID);
             doReturn(false).when(employeeRepository).existsByEmail(EMPLOYEE_EMAIL);
             doReturn(Optional.of(updateEmployee)).when(employeeRepository)
-                    .findByDepartmentIdAndId(DEPARTMENT_ID, EMPLOYEE_ID);
+                    .findByCompanyIdAndDepartmentIdAndId(COMPANY_ID, DEPARTMENT_ID, EMPLOYEE_ID);
 
             employeeService.updateEmployeeInDepartmentPartiallyById(
                     COMPANY_ID, DEPARTMENT_ID, EMPLOYEE_ID, updateEmployee
@@ -227,7 +246,7 @@ class EmployeeServiceImplTest {
 
             verify(companyRepository).existsById(COMPANY_ID);
             verify(employeeRepository).existsByEmail(EMPLOYEE_EMAIL);
-            verify(employeeRepository).findByDepartmentIdAndId(DEPARTMENT_ID, EMPLOYEE_ID);
+            verify(employeeRepository).findByCompanyIdAndDepartmentIdAndId(COMPANY_ID, DEPARTMENT_ID, EMPLOYEE_ID);
         }
 
         @Test
@@ -257,7 +276,7 @@ class EmployeeServiceImplTest {
             doReturn(true).when(companyRepository).existsById(COMPANY_ID);
             doReturn(false).when(employeeRepository).existsByEmail(EMPLOYEE_EMAIL);
             doReturn(Optional.empty()).when(employeeRepository)
-                    .findByDepartmentIdAndId(DEPARTMENT_ID, EMPLOYEE_ID);
+                    .findByCompanyIdAndDepartmentIdAndId(COMPANY_ID, DEPARTMENT_ID, EMPLOYEE_ID);
 
             assertThatThrownBy(() -> employeeService
                     .updateEmployeeInDepartmentPartiallyById(COMPANY_ID, DEPARTMENT_ID, EMPLOYEE_ID, updateEmployee))
@@ -273,12 +292,12 @@ class EmployeeServiceImplTest {
             Employee employeeToDelete = EmployeeTestBuilder.anEmployee().withEmail(EMPLOYEE_EMAIL).build();
             doReturn(true).when(companyRepository).existsById(COMPANY_ID);
             doReturn(Optional.of(employeeToDelete)).when(employeeRepository)
-                    .findByDepartmentIdAndId(DEPARTMENT_ID, EMPLOYEE_ID);
+                    .findByCompanyIdAndDepartmentIdAndId(COMPANY_ID, DEPARTMENT_ID, EMPLOYEE_ID);
 
             employeeService.deleteEmployeeFromDepartmentById(COMPANY_ID, DEPARTMENT_ID, EMPLOYEE_ID);
 
             verify(companyRepository).existsById(COMPANY_ID);
-            verify(employeeRepository).findByDepartmentIdAndId(DEPARTMENT_ID, EMPLOYEE_ID);
+            verify(employeeRepository).findByCompanyIdAndDepartmentIdAndId(COMPANY_ID, DEPARTMENT_ID, EMPLOYEE_ID);
             verify(employeeRepository).delete(employeeToDelete);
         }
 
@@ -295,7 +314,7 @@ class EmployeeServiceImplTest {
         void deleteEmployeeFromDepartmentById_shouldThrowEntityNotFoundException_whenEmployeeIsNotPresent() {
             doReturn(true).when(companyRepository).existsById(COMPANY_ID);
             doReturn(Optional.empty()).when(employeeRepository)
-                    .findByDepartmentIdAndId(DEPARTMENT_ID, EMPLOYEE_ID);
+                    .findByCompanyIdAndDepartmentIdAndId(COMPANY_ID, DEPARTMENT_ID, EMPLOYEE_ID);
 
             assertThatThrownBy(() -> employeeService
                     .deleteEmployeeFromDepartmentById(COMPANY_ID, DEPARTMENT_ID, EMPLOYEE_ID))
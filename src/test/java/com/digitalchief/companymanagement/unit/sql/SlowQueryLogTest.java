@@ -0,0 +1,88 @@
+package com.digitalchief.companymanagement.unit.sql;
+
+import com.digitalchief.companymanagement.metrics.RequestStatistics;
+import com.digitalchief.companymanagement.sql.SlowQuery;
+import com.digitalchief.companymanagement.sql.SlowQueryLog;
+import com.digitalchief.companymanagement.sql.SlowQueryProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlowQueryLogTest {
+
+    private static final long THRESHOLD_NANOS = Duration.ofMillis(100).toNanos();
+
+    private final SlowQueryLog slowQueryLog = new SlowQueryLog(properties(false), null);
+
+    @AfterEach
+    void unbindStatistics() {
+        RequestStatistics.bind(null);
+    }
+
+    @Test
+    void onQuery_shouldIgnoreQueriesFasterThanThreshold() {
+        slowQueryLog.onQuery("SELECT 1", List.of(), THRESHOLD_NANOS - 1);
+
+        assertThat(slowQueryLog.entries()).isEmpty();
+    }
+
+    @Test
+    void onQuery_shouldRecordMaskedParametersAndEndpoint() {
+        RequestStatistics.bind(new RequestStatistics("GET /api/v0/companies/1"));
+
+        slowQueryLog.onQuery("SELECT * FROM employees WHERE id = ? AND email = ?",
+                Arrays.asList(1L, "john.doe@example.com"), THRESHOLD_NANOS);
+
+        assertThat(slowQueryLog.entries()).singleElement().satisfies(query -> {
+            assertThat(query.getSql()).isEqualTo("SELECT * FROM employees WHERE id = ? AND email = ?");
+            assertThat(query.getParameters()).containsExactly("<Long>", "<String>");
+            assertThat(query.getEndpoint()).isEqualTo("GET /api/v0/companies/1");
+            assertThat(query.getDurationMillis()).isEqualTo(100.0);
+            assertThat(query.getPlan()).isNull();
+        });
+    }
+
+    @Test
+    void onQuery_shouldRecordParameterValues_whenLoggingParametersIsOn() {
+        SlowQueryLog rawLog = new SlowQueryLog(properties(true), null);
+
+        rawLog.onQuery("SELECT * FROM employees WHERE email = ?", Arrays.asList("john.doe@example.com", null),
+                THRESHOLD_NANOS);
+
+        assertThat(rawLog.entries()).singleElement()
+                .satisfies(query -> assertThat(query.getParameters()).containsExactly("john.doe@example.com", "null"));
+    }
+
+    @Test
+    void entries_shouldKeepOnlyNewestQueries_whenBufferIsFull() {
+        for (int i = 1; i <= 5; i++) {
+            slowQueryLog.onQuery("SELECT " + i, List.of(), THRESHOLD_NANOS);
+        }
+
+        assertThat(slowQueryLog.entries())
+                .extracting(SlowQuery::getSql)
+                .containsExactly("SELECT 5", "SELECT 4", "SELECT 3");
+    }
+
+    @Test
+    void clear_shouldRemoveAllQueries() {
+        slowQueryLog.onQuery("SELECT 1", List.of(), THRESHOLD_NANOS);
+
+        slowQueryLog.clear();
+
+        assertThat(slowQueryLog.entries()).isEmpty();
+    }
+
+    private static SlowQueryProperties properties(boolean logParameters) {
+        SlowQueryProperties properties = new SlowQueryProperties();
+        properties.setThreshold(Duration.ofNanos(THRESHOLD_NANOS));
+        properties.setCapacity(3);
+        properties.setLogParameters(logParameters);
+        return properties;
+    }
+}
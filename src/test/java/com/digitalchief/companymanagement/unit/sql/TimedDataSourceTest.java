@@ -0,0 +1,128 @@
+package com.digitalchief.companymanagement.unit.sql;
+
+import com.digitalchief.companymanagement.sql.QueryListener;
+import com.digitalchief.companymanagement.sql.TimedDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TimedDataSourceTest {
+
+    private static final String SELECT_SQL = "SELECT * FROM companies WHERE id = ?";
+
+    private final DataSource target = mock(DataSource.class);
+
+    private final Connection connection = mock(Connection.class);
+
+    private final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+
+    private final Statement statement = mock(Statement.class);
+
+    private final List<String> queries = new ArrayList<>();
+
+    @Test
+    void preparedStatement_shouldReportPreparedSql() throws SQLException {
+        TimedDataSource dataSource = dataSource((sql, parameters, elapsedNanos) -> queries.add(sql));
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(SELECT_SQL)).thenReturn(preparedStatement);
+
+        try (Connection timed = dataSource.getConnection();
+             PreparedStatement timedStatement = timed.prepareStatement(SELECT_SQL)) {
+            timedStatement.setLong(1, 1L);
+            timedStatement.executeQuery();
+        }
+
+        assertThat(queries).containsExactly(SELECT_SQL);
+        verify(preparedStatement).setLong(1, 1L);
+        verify(preparedStatement).close();
+        verify(connection).close();
+    }
+
+    @Test
+    void preparedStatement_shouldReportBoundParameters() throws SQLException {
+        List<List<Object>> boundParameters = new ArrayList<>();
+        TimedDataSource dataSource = dataSource(
+                (sql, parameters, elapsedNanos) -> boundParameters.add(new ArrayList<>(parameters)));
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+
+        try (Connection timed = dataSource.getConnection();
+             PreparedStatement timedStatement = timed.prepareStatement("UPDATE companies SET name = ? WHERE id = ?")) {
+            timedStatement.setFetchSize(10);
+            timedStatement.setString(1, "Company A");
+            timedStatement.setLong(2, 1L);
+            timedStatement.executeUpdate();
+            timedStatement.clearParameters();
+            timedStatement.setNull(1, Types.VARCHAR);
+            timedStatement.setLong(2, 2L);
+            timedStatement.executeUpdate();
+        }
+
+        assertThat(boundParameters).containsExactly(
+                List.of("Company A", 1L),
+                Arrays.asList(null, 2L)
+        );
+    }
+
+    @Test
+    void statement_shouldReportSqlPassedToExecute() throws SQLException {
+        TimedDataSource dataSource = dataSource((sql, parameters, elapsedNanos) -> queries.add(sql));
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+
+        try (Connection timed = dataSource.getConnection()) {
+            timed.createStatement().execute("SELECT 1");
+        }
+
+        assertThat(queries).containsExactly("SELECT 1");
+    }
+
+    @Test
+    void failedStatement_shouldBeReportedAndRethrowSqlException() throws SQLException {
+        TimedDataSource dataSource = dataSource((sql, parameters, elapsedNanos) -> queries.add(sql));
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeUpdate(anyString())).thenThrow(new SQLException("relation does not exist"));
+
+        try (Connection timed = dataSource.getConnection()) {
+            Statement timedStatement = timed.createStatement();
+            assertThatThrownBy(() -> timedStatement.executeUpdate("DELETE FROM missing"))
+                    .isInstanceOf(SQLException.class)
+                    .hasMessage("relation does not exist");
+        }
+
+        assertThat(queries).containsExactly("DELETE FROM missing");
+    }
+
+    @Test
+    void getConnection_shouldReturnTargetConnection_whenThereAreNoListeners() throws SQLException {
+        TimedDataSource dataSource = dataSource();
+        when(target.getConnection()).thenReturn(connection);
+
+        assertThat(dataSource.getConnection()).isSameAs(connection);
+    }
+
+    private TimedDataSource dataSource(QueryListener... listeners) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        for (int i = 0; i < listeners.length; i++) {
+            beanFactory.registerSingleton("listener" + i, listeners[i]);
+        }
+        return new TimedDataSource(target, beanFactory.getBeanProvider(QueryListener.class));
+    }
+}
@@ -0,0 +1,59 @@
+package com.digitalchief.companymanagement.unit.startup;
+
+import com.digitalchief.companymanagement.startup.StartupReport;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupReportTest {
+
+    private static final String INSTANTIATE_STEP = "spring.beans.instantiate";
+
+    @Test
+    void of_shouldRankStepsByOwnTimeExcludingNestedSteps() {
+        BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(10);
+        StartupStep service = applicationStartup.start(INSTANTIATE_STEP).tag("beanName", "companyService");
+        StartupStep repository = applicationStartup.start(INSTANTIATE_STEP).tag("beanName", "companyRepository");
+        sleep(Duration.ofMillis(100));
+        repository.end();
+        service.end();
+
+        StartupReport report = StartupReport.of(applicationStartup.getBufferedTimeline(), Duration.ofSeconds(1));
+
+        assertThat(report.steps()).hasSize(2);
+        StartupReport.Step first = report.steps().get(0);
+        StartupReport.Step second = report.steps().get(1);
+        assertThat(first.beanName()).isEqualTo("companyRepository");
+        assertThat(first.own()).isEqualTo(first.total()).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+        assertThat(second.beanName()).isEqualTo("companyService");
+        assertThat(second.total()).isGreaterThanOrEqualTo(first.total());
+        assertThat(second.own()).isLessThan(first.own());
+    }
+
+    @Test
+    void render_shouldListTopStepsAndTotalsByName() {
+        BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(10);
+        applicationStartup.start(INSTANTIATE_STEP).tag("beanName", "companyService").end();
+        applicationStartup.start(INSTANTIATE_STEP).tag("beanName", "companyRepository").end();
+        applicationStartup.start("spring.context.refresh").end();
+
+        String rendered = StartupReport.of(applicationStartup.getBufferedTimeline(), Duration.ofMillis(1500))
+                .render(1);
+
+        assertThat(rendered)
+                .startsWith("Ready in 1500 ms, 3 steps recorded")
+                .contains("Top 1 steps by own time")
+                .containsPattern("\\s+0\\s+2\\s+" + INSTANTIATE_STEP.replace(".", "\\.") + "\\R")
+                .containsPattern("\\s+0\\s+1\\s+spring\\.context\\.refresh\\R");
+    }
+
+    @SneakyThrows
+    private static void sleep(Duration duration) {
+        Thread.sleep(duration.toMillis());
+    }
+}
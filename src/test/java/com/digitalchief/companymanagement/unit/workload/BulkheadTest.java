@@ -0,0 +1,84 @@
+package com.digitalchief.companymanagement.unit.workload;
+
+import com.digitalchief.companymanagement.service.exception.EntityNotFoundException;
+import com.digitalchief.companymanagement.workload.Bulkhead;
+import com.digitalchief.companymanagement.workload.BulkheadFullException;
+import com.digitalchief.companymanagement.workload.WorkloadClass;
+import com.digitalchief.companymanagement.workload.WorkloadContext;
+import com.digitalchief.companymanagement.workload.WorkloadProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class BulkheadTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final Bulkhead bulkhead = new Bulkhead(WorkloadClass.BULK, pool(1, 1), meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        bulkhead.close();
+    }
+
+    @Test
+    void execute_shouldRunCallOnBulkheadThreadWithWorkloadContext() throws Throwable {
+        Object result = bulkhead.execute(() -> Thread.currentThread().getName() + ":" + WorkloadContext.current());
+
+        assertThat(result).isEqualTo("bulk-1:BULK");
+        assertThat(WorkloadContext.current()).isEqualTo(WorkloadClass.INTERACTIVE);
+    }
+
+    @Test
+    void execute_shouldRethrowOriginalException() {
+        assertThatThrownBy(() -> bulkhead.execute(() -> {
+            throw new EntityNotFoundException("Company not found");
+        })).isInstanceOf(EntityNotFoundException.class).hasMessage("Company not found");
+    }
+
+    @Test
+    void execute_shouldRejectImmediately_whenThreadsAndQueueAreFull() {
+        callers.submit(this::blockBulkhead);
+        callers.submit(this::blockBulkhead);
+        await().until(() -> bulkhead.saturation() == 1.0);
+
+        assertThatThrownBy(() -> bulkhead.execute(() -> "rejected"))
+                .isInstanceOf(BulkheadFullException.class);
+        assertThat(meterRegistry.get("bulkhead.rejected").tag("workload", "bulk").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("bulkhead.active").tag("workload", "bulk").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("bulkhead.queued").tag("workload", "bulk").gauge().value()).isEqualTo(1);
+    }
+
+    private Object blockBulkhead() throws Exception {
+        try {
+            return bulkhead.execute(() -> {
+                release.await();
+                return null;
+            });
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static WorkloadProperties.Pool pool(int threads, int queueCapacity) {
+        WorkloadProperties.Pool pool = new WorkloadProperties.Pool();
+        pool.setThreads(threads);
+        pool.setQueueCapacity(queueCapacity);
+        return pool;
+    }
+}